@@ -0,0 +1,39 @@
+package com.telecom.acl.benchmark;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.common.soap.SoapEnvelope;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
+
+import java.io.StringWriter;
+
+/**
+ * 벤치마크 공통 입력 데이터입니다.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static ExcessNotificationSoap notification() {
+        return ExcessNotificationSoap.builder()
+                .userSequence("user3")
+                .svcTypeCd("D")
+                .usedQty(10300)
+                .baseQty(10240)
+                .exceedQty(60)
+                .notifyDtm("20240101120000")
+                .build();
+    }
+
+    /**
+     * kos-mock이 발행하는 것과 같은 형식(JAXB, 들여쓰기 없음)의 SOAP XML을 만듭니다.
+     */
+    static String soapXml() throws Exception {
+        Marshaller marshaller = JAXBContext.newInstance(SoapEnvelope.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.FALSE);
+        StringWriter writer = new StringWriter();
+        marshaller.marshal(new SoapEnvelope(new SoapEnvelope.SoapBody(notification())), writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.telecom.acl.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.config.ExecutionModeConfig;
+import com.telecom.acl.service.dedup.DeliveryCache;
+import com.telecom.acl.service.message.NotificationMessageRenderer;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.retry.DeadLetterStore;
+import com.telecom.acl.service.retry.NotificationRetryScheduler;
+import com.telecom.acl.service.service.AsyncNotificationSender;
+import com.telecom.acl.service.service.CoalescingNotificationSender;
+import com.telecom.acl.service.service.NotificationSender;
+import com.telecom.acl.service.throttle.ChannelRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 한 건을 세 채널로 발송하는 전체 경로(메시지 생성, 직렬화, HTTP 호출, 응답 처리)를
+ * in-process HTTP stub 을 상대로 측정합니다. sender 모드별로 비교할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class DispatchBenchmark {
+    private static final byte[] RESPONSE = """
+            {"success":true,"message":"알림이 발송되었습니다.","userId":"user3","channel":"PUSH"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"async", "blocking", "batch"})
+    private String senderMode;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private AnnotationConfigApplicationContext context;
+    private NotificationSender notificationSender;
+    private ExcessNotificationSoap notification;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        stubExecutor = Executors.newFixedThreadPool(16);
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        stub.createContext("/api/notifications/send", exchange -> respond(exchange, RESPONSE));
+        stub.createContext("/api/notifications/send-batch", exchange -> {
+            // 요청 항목 수만큼 성공 응답을 만들어 반환
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            int items = Math.max(1, body.split("\"channel\"", -1).length - 1);
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < items; i++) {
+                sb.append(i == 0 ? "" : ",").append(new String(RESPONSE, StandardCharsets.UTF_8));
+            }
+            respond(exchange, sb.append(']').toString().getBytes(StandardCharsets.UTF_8));
+        });
+        stub.setExecutor(stubExecutor);
+        stub.start();
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "notification.mock.url", "http://localhost:" + stub.getAddress().getPort(),
+                "notification.sender.mode", senderMode,
+                // 같은 이벤트를 반복 발송하므로 중복 발송 캐시는 끔
+                "acl.dedup.enabled", "false",
+                "acl.retry.dead-letter-path", "")));
+        context.registerBean(ObjectMapper.class, ObjectMapper::new);
+        context.registerBean(RestTemplate.class, RestTemplate::new);
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.register(ExecutionModeConfig.class, AsyncNotificationSender.class, CoalescingNotificationSender.class,
+                DeliveryCache.class, ChannelRateLimiter.class, NotificationMessageRenderer.class,
+                PipelineMetrics.class, DeadLetterStore.class, NotificationRetryScheduler.class,
+                NotificationSender.class);
+        context.refresh();
+
+        notificationSender = context.getBean(NotificationSender.class);
+        notification = BenchmarkData.notification();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public void sendToAllChannels() {
+        notificationSender.sendToAllChannels(notification);
+    }
+
+    private static void respond(HttpExchange exchange, byte[] response) {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.telecom.acl.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.telecom.acl.common.messaging.MessageSink;
+import com.telecom.acl.common.messaging.memory.InMemoryBroker;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.common.workload.WorkloadRecorder;
+import com.telecom.acl.kos.service.NotificationGenerator;
+import com.telecom.acl.service.AclServiceApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KOS → ACL → 알림 전체 경로를 한 JVM에서 측정합니다.
+ * kos-mock 형식의 SOAP XML을 in-memory 브로커에 발행하고, acl-service(in-memory 소스)가 이를 읽어
+ * in-process HTTP stub(notification-mock 대역)으로 세 채널 발송을 모두 마칠 때까지를 한 묶음으로 잽니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EndToEndBenchmark {
+    private static final int EVENTS_PER_INVOCATION = 1000;
+    private static final int CHANNELS = 3;
+    private static final int USERS = 10_000;
+    private static final byte[] RESPONSE = """
+            {"success":true,"message":"알림이 발송되었습니다.","userId":"user3","channel":"PUSH"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"4", "16"})
+    private int partitions;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private ConfigurableApplicationContext context;
+    private MessageSink sink;
+    private final Semaphore delivered = new Semaphore(0);
+    private final List<String> userSequences = new ArrayList<>();
+    private final List<String> messages = new ArrayList<>();
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        stubExecutor = Executors.newFixedThreadPool(16);
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        stub.createContext("/api/notifications/send", exchange -> {
+            respond(exchange, RESPONSE);
+            delivered.release();
+        });
+        stub.setExecutor(stubExecutor);
+        stub.start();
+
+        InMemoryBroker broker = new InMemoryBroker(partitions, 100_000);
+        context = new SpringApplicationBuilder(AclServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                // acl-service와 생산자가 같은 브로커를 쓰도록 미리 등록 (InMemoryMessagingConfig는 건너뜀)
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("inMemoryBroker", broker))
+                .run("--spring.config.name=acl-benchmark",  // 클래스패스의 서비스별 application.yml은 읽지 않음
+                        "--acl.messaging.source=in-memory",
+                        "--notification.mock.url=http://localhost:" + stub.getAddress().getPort(),
+                        "--notification.sender.mode=async",
+                        // 같은 사용자의 이벤트를 반복 발행하므로 중복 발송 캐시와 coalescing은 끔
+                        "--acl.dedup.enabled=false",
+                        "--acl.throttle.coalesce-window-ms=0",
+                        "--acl.retry.dead-letter-path=");
+        sink = broker.sink();
+
+        NotificationGenerator generator = new NotificationGenerator(null, new WorkloadRecorder());
+        ExcessNotificationSoap template = BenchmarkData.notification();
+        for (int i = 0; i < USERS; i++) {
+            String userSequence = "user" + i;
+            userSequences.add(userSequence);
+            messages.add(generator.convertToSoapXml(ExcessNotificationSoap.builder()
+                    .userSequence(userSequence)
+                    .svcTypeCd(template.getSvcTypeCd())
+                    .usedQty(template.getUsedQty())
+                    .baseQty(template.getBaseQty())
+                    .exceedQty(template.getExceedQty())
+                    .notifyDtm(template.getNotifyDtm())
+                    .build()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+    public void publishAndDeliver() throws Exception {
+        for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+            int index = cursor++ % USERS;
+            sink.send(userSequences.get(index), messages.get(index));
+        }
+        if (!delivered.tryAcquire(EVENTS_PER_INVOCATION * CHANNELS, 60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Timed out waiting for notifications, delivered "
+                    + delivered.availablePermits());
+        }
+    }
+
+    private static void respond(HttpExchange exchange, byte[] response) {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            exchange.close();
+        }
+    }
+}
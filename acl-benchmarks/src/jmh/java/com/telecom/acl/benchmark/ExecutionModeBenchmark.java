@@ -0,0 +1,196 @@
+package com.telecom.acl.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.config.ExecutionModeConfig;
+import com.telecom.acl.service.dedup.DeliveryCache;
+import com.telecom.acl.service.message.NotificationMessageRenderer;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.pipeline.DispatchHandle;
+import com.telecom.acl.service.pipeline.DispatchPipeline;
+import com.telecom.acl.service.pipeline.PartitionCheckpointTracker;
+import com.telecom.acl.service.retry.DeadLetterStore;
+import com.telecom.acl.service.retry.NotificationRetryScheduler;
+import com.telecom.acl.service.service.AsyncNotificationSender;
+import com.telecom.acl.service.service.CoalescingNotificationSender;
+import com.telecom.acl.service.service.NotificationSender;
+import com.telecom.acl.service.throttle.ChannelRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 운영 발송 경로(DispatchPipeline 레인 → NotificationSender → 세 채널 HTTP 호출)를 플랫폼 스레드와 가상 스레드
+ * 실행 모드(ExecutionModeConfig)에서 각각 실행하여 처리량(events/s)과 실행 중 살아 있는 플랫폼 스레드 수의
+ * 최댓값(peakPlatformThreads)을 비교합니다. sender 모드별로도 비교할 수 있습니다.
+ * 알림 서버는 지정한 지연 후 응답하는 in-process HTTP stub 입니다.
+ * virtual 모드는 Java 21이 필요합니다: ./gradlew :acl-benchmarks:jmh -PvirtualThreads -PjmhIncludes=ExecutionModeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class ExecutionModeBenchmark {
+    private static final int EVENTS = 500;
+    private static final byte[] RESPONSE = """
+            {"success":true,"message":"알림이 발송되었습니다.","userId":"user1","channel":"PUSH"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    private String executionMode;
+
+    @Param({"async", "blocking"})
+    private String senderMode;
+
+    @Param({"50"})
+    private long latencyMs;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private AnnotationConfigApplicationContext context;
+    private DispatchPipeline pipeline;
+    private final List<ExcessNotificationSoap> notifications = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        boolean virtual = "virtual".equals(executionMode);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("virtual 모드는 Java 21이 필요합니다 (-PvirtualThreads로 실행)");
+        }
+
+        // stub 스레드가 측정 대상 스레드 수에 섞이지 않도록 이름으로 구분
+        stubExecutor = Executors.newCachedThreadPool(r -> new Thread(r, "stub-" + r.hashCode()));
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        stub.createContext("/api/notifications/send", exchange -> {
+            try {
+                exchange.getRequestBody().readAllBytes();
+                TimeUnit.MILLISECONDS.sleep(latencyMs);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, RESPONSE.length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(RESPONSE);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        stub.setExecutor(stubExecutor);
+        stub.start();
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "spring.threads.virtual.enabled", String.valueOf(virtual),
+                "notification.mock.url", "http://localhost:" + stub.getAddress().getPort(),
+                "notification.sender.mode", senderMode,
+                // 같은 사용자에게 반복 발송하므로 중복 발송 캐시는 끔
+                "acl.dedup.enabled", "false",
+                "acl.retry.dead-letter-path", "")));
+        context.registerBean(ObjectMapper.class, ObjectMapper::new);
+        context.registerBean(RestTemplate.class, RestTemplate::new);
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.register(ExecutionModeConfig.class, AsyncNotificationSender.class, CoalescingNotificationSender.class,
+                DeliveryCache.class, ChannelRateLimiter.class, NotificationMessageRenderer.class,
+                PipelineMetrics.class, DeadLetterStore.class, NotificationRetryScheduler.class,
+                NotificationSender.class, PartitionCheckpointTracker.class, DispatchPipeline.class);
+        context.refresh();
+        pipeline = context.getBean(DispatchPipeline.class);
+
+        // 레인 해시가 고르게 퍼지도록 사용자를 이벤트마다 다르게 둠
+        ExcessNotificationSoap template = BenchmarkData.notification();
+        for (int i = 0; i < EVENTS; i++) {
+            notifications.add(ExcessNotificationSoap.builder()
+                    .userSequence("user" + i)
+                    .svcTypeCd(template.getSvcTypeCd())
+                    .usedQty(template.getUsedQty())
+                    .baseQty(template.getBaseQty())
+                    .exceedQty(template.getExceedQty())
+                    .notifyDtm(template.getNotifyDtm())
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public int dispatchEvents(ThreadUsage usage) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(EVENTS);
+        AtomicInteger failures = new AtomicInteger();
+        DispatchHandle handle = new DispatchHandle() {
+            @Override
+            public void complete() {
+                done.countDown();
+            }
+
+            @Override
+            public void fail(Throwable error) {
+                failures.incrementAndGet();
+                done.countDown();
+            }
+        };
+        for (ExcessNotificationSoap notification : notifications) {
+            // 레인 큐가 가득 차면 대기하는 운영 경로(backpressure)를 그대로 사용
+            pipeline.submit(handle, notification);
+        }
+        while (!done.await(10, TimeUnit.MILLISECONDS)) {
+            usage.sample();
+        }
+        return failures.get();
+    }
+
+    /**
+     * 반복(iteration)마다 살아 있는 플랫폼 스레드 수(stub 스레드 제외)의 최댓값을 보조 지표로 보고합니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadUsage {
+        public int peakPlatformThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakPlatformThreads = 0;
+        }
+
+        void sample() {
+            int live = (int) Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> !thread.getName().startsWith("stub-"))
+                    .count();
+            peakPlatformThreads = Math.max(peakPlatformThreads, live);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.telecom.acl.benchmark;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.message.NotificationMessageRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NotificationSender 의 이벤트당 메시지 생성 비용을 측정합니다.
+ * legacyFormat 은 이전 구현(채널마다 String.format)을 기준값으로 재현한 것입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageRenderBenchmark {
+    private static final List<String> CHANNELS = List.of("PUSH", "SMS", "KAKAO");
+
+    private NotificationMessageRenderer renderer;
+    private ExcessNotificationSoap notification;
+
+    @Setup
+    public void setUp() {
+        renderer = new NotificationMessageRenderer(new StandardEnvironment(), "ko");
+        notification = BenchmarkData.notification();
+    }
+
+    @Benchmark
+    public Map<String, String> templateRender() {
+        return renderer.render(notification, CHANNELS);
+    }
+
+    @Benchmark
+    public void legacyFormat(Blackhole blackhole) {
+        for (int i = 0; i < CHANNELS.size(); i++) {
+            blackhole.consume(String.format("[%s] %s 기본 제공량을 %d%s 초과하였습니다.",
+                    "DATA", notification.getUserSequence(), notification.getExceedQty(), "MB"));
+        }
+    }
+}
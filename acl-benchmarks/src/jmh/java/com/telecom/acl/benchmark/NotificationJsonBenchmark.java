@@ -0,0 +1,56 @@
+package com.telecom.acl.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.telecom.acl.common.dto.NotificationRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 서버로 보내는 NotificationRequest JSON 직렬화 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter requestWriter;
+    private NotificationRequest request;
+    private List<NotificationRequest> batch;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        requestWriter = objectMapper.writerFor(NotificationRequest.class);
+        request = NotificationRequest.builder()
+                .userId("user3")
+                .channel("PUSH")
+                .message("[DATA] user3 기본 제공량을 60MB 초과하였습니다.")
+                .build();
+        batch = List.of(request, request, request);
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() throws Exception {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] serializeRequestWithTypedWriter() throws Exception {
+        return requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] serializeBatch() throws Exception {
+        return objectMapper.writeValueAsBytes(batch);
+    }
+}
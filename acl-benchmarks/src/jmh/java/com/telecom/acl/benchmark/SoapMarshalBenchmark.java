@@ -0,0 +1,64 @@
+package com.telecom.acl.benchmark;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.common.soap.SoapEnvelope;
+import com.telecom.acl.common.workload.WorkloadRecorder;
+import com.telecom.acl.kos.service.NotificationGenerator;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * kos-mock NotificationGenerator.convertToSoapXml 의 SOAP 마샬링 비용을 측정합니다.
+ * 스레드별 Marshaller 재사용 + 들여쓰기 없는 출력(현재 방식)과 호출마다 Marshaller를 만드는 이전 방식을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SoapMarshalBenchmark {
+
+    private NotificationGenerator generator;
+    private JAXBContext jaxbContext;
+    private ExcessNotificationSoap notification;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 마샬링만 측정하므로 MessageSink는 사용하지 않음
+        generator = new NotificationGenerator(null, new WorkloadRecorder());
+        jaxbContext = JAXBContext.newInstance(SoapEnvelope.class);
+        notification = BenchmarkData.notification();
+    }
+
+    @Benchmark
+    public String convertToSoapXml() throws Exception {
+        return generator.convertToSoapXml(notification);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String convertToSoapXmlConcurrent() throws Exception {
+        return generator.convertToSoapXml(notification);
+    }
+
+    /**
+     * 이전 구현: 메시지마다 Marshaller 생성 + 들여쓰기 출력
+     */
+    @Benchmark
+    public String newFormattedMarshallerPerMessage() throws Exception {
+        Marshaller marshaller = jaxbContext.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+        StringWriter sw = new StringWriter();
+        marshaller.marshal(new SoapEnvelope(new SoapEnvelope.SoapBody(notification)), sw);
+        return sw.toString();
+    }
+}
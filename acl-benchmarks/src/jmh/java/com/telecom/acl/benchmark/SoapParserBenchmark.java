@@ -0,0 +1,49 @@
+package com.telecom.acl.benchmark;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.common.soap.SoapEnvelope;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.parser.JaxbSoapMessageParser;
+import com.telecom.acl.service.parser.StaxSoapMessageParser;
+import com.telecom.acl.service.service.SoapParserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.xml.bind.JAXBContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SoapParserService.parseSoapXml 의 파서 엔진별 처리 시간과 할당량을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SoapParserBenchmark {
+
+    @Param({"stax", "jaxb"})
+    private String engine;
+
+    private SoapParserService soapParserService;
+    private String soapXml;
+
+    @Setup
+    public void setUp() throws Exception {
+        soapParserService = new SoapParserService("jaxb".equals(engine)
+                ? new JaxbSoapMessageParser(JAXBContext.newInstance(SoapEnvelope.class))
+                : new StaxSoapMessageParser(),
+                new PipelineMetrics(new SimpleMeterRegistry()));
+        soapXml = BenchmarkData.soapXml();
+    }
+
+    @Benchmark
+    public ExcessNotificationSoap parseSoapXml() {
+        return soapParserService.parseSoapXml(soapXml);
+    }
+}
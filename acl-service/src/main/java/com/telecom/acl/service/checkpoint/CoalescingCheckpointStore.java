@@ -0,0 +1,184 @@
+package com.telecom.acl.service.checkpoint;
+
+import com.azure.messaging.eventhubs.CheckpointStore;
+import com.azure.messaging.eventhubs.models.Checkpoint;
+import com.azure.messaging.eventhubs.models.PartitionOwnership;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체크포인트 쓰기를 모으는 {@link CheckpointStore} decorator입니다.
+ * updateCheckpoint는 파티션별 최신 위치만 메모리에 남기고 즉시 반환하며, flush 주기마다(그리고 종료 시)
+ * 파티션당 한 번만 실제 저장소에 기록합니다. 따라서 체크포인트 비용은 메시지 처리량이 아니라
+ * 파티션 수와 flush 주기에 비례합니다. 소유권(ownership) 관련 호출은 그대로 위임합니다.
+ * 프로세스가 비정상 종료되면 마지막 flush 이후의 위치는 유실되고 그만큼 재처리됩니다.
+ * flush 전에 저장소의 현재 소유자를 확인하여, 그 사이 다른 인스턴스로 소유권이 넘어간 파티션의
+ * 모인 위치는 기록하지 않고 버립니다(새 소유자의 체크포인트를 오래된 위치로 덮어쓰지 않도록).
+ */
+@Slf4j
+public class CoalescingCheckpointStore implements CheckpointStore {
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final CheckpointStore delegate;
+    private final Map<String, Checkpoint> pending = new ConcurrentHashMap<>();
+    // 이 인스턴스가 마지막으로 소유권을 얻은 파티션별 ownerId
+    private final Map<String, String> claimedOwners = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public CoalescingCheckpointStore(CheckpointStore delegate, long flushIntervalMs) {
+        this.delegate = delegate;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "checkpoint-store-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Flux<PartitionOwnership> listOwnership(String fullyQualifiedNamespace, String eventHubName,
+                                                  String consumerGroup) {
+        return delegate.listOwnership(fullyQualifiedNamespace, eventHubName, consumerGroup);
+    }
+
+    @Override
+    public Flux<PartitionOwnership> claimOwnership(List<PartitionOwnership> requestedPartitionOwnerships) {
+        return delegate.claimOwnership(requestedPartitionOwnerships)
+                .doOnNext(ownership -> {
+                    // 종료 시 소유권 반납은 빈 ownerId로 요청되므로 기록하지 않음
+                    if (ownership.getOwnerId() != null && !ownership.getOwnerId().isEmpty()) {
+                        claimedOwners.put(key(ownership), ownership.getOwnerId());
+                    }
+                });
+    }
+
+    /**
+     * 저장소의 체크포인트에 아직 flush 되지 않은 위치를 덮어써서 반환합니다.
+     */
+    @Override
+    public Flux<Checkpoint> listCheckpoints(String fullyQualifiedNamespace, String eventHubName,
+                                            String consumerGroup) {
+        String prefix = prefix(fullyQualifiedNamespace, eventHubName, consumerGroup);
+        return delegate.listCheckpoints(fullyQualifiedNamespace, eventHubName, consumerGroup)
+                .collectMap(Checkpoint::getPartitionId)
+                .flatMapMany(stored -> {
+                    Map<String, Checkpoint> merged = new ConcurrentHashMap<>(stored);
+                    pending.forEach((key, checkpoint) -> {
+                        if (key.startsWith(prefix)) {
+                            merged.put(checkpoint.getPartitionId(), checkpoint);
+                        }
+                    });
+                    return Flux.fromIterable(merged.values());
+                });
+    }
+
+    @Override
+    public Mono<Void> updateCheckpoint(Checkpoint checkpoint) {
+        return Mono.fromRunnable(() -> pending.merge(key(checkpoint), checkpoint,
+                (previous, current) -> sequenceOf(current) >= sequenceOf(previous) ? current : previous));
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 모인 체크포인트를 저장소에 기록합니다. 기록 중 더 새로운 위치가 들어온 파티션은 다음 flush에서 기록됩니다.
+     */
+    public void flush() {
+        Map<String, Map<String, String>> currentOwners = new HashMap<>();
+        for (Map.Entry<String, Checkpoint> entry : new ArrayList<>(pending.entrySet())) {
+            Checkpoint checkpoint = entry.getValue();
+            if (!stillOwned(entry.getKey(), checkpoint, currentOwners)) {
+                pending.remove(entry.getKey(), checkpoint);
+                log.info("Discarded checkpoint for partition {} at sequence {}: ownership moved to another instance",
+                        checkpoint.getPartitionId(), checkpoint.getSequenceNumber());
+                continue;
+            }
+            try {
+                delegate.updateCheckpoint(checkpoint).block(FLUSH_TIMEOUT);
+                pending.remove(entry.getKey(), checkpoint);
+                log.debug("Flushed checkpoint for partition {} at sequence {}",
+                        checkpoint.getPartitionId(), checkpoint.getSequenceNumber());
+            } catch (Exception e) {
+                log.warn("Failed to flush checkpoint for partition {}, will retry: {}",
+                        checkpoint.getPartitionId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 체크포인트를 모두 기록합니다.
+     * CheckpointStoreConfig에서 destroy method로 등록되며, PartitionCheckpointTracker가 먼저 정리되므로
+     * tracker의 마지막 flush가 넘긴 위치도 여기서 기록됩니다.
+     */
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("Checkpoint store closed ({} checkpoints left unflushed)", pending.size());
+    }
+
+    /**
+     * 저장소에 기록된 현재 소유자가 이 인스턴스가 얻은 소유자와 다르면 false.
+     * 소유권을 얻은 적 없는 파티션, 반납되어 소유자가 비어 있는 파티션, 소유자 조회 실패는 기록을 허용합니다.
+     */
+    private boolean stillOwned(String key, Checkpoint checkpoint, Map<String, Map<String, String>> currentOwners) {
+        String claimedOwner = claimedOwners.get(key);
+        if (claimedOwner == null) {
+            return true;
+        }
+        String prefix = prefix(checkpoint.getFullyQualifiedNamespace(), checkpoint.getEventHubName(),
+                checkpoint.getConsumerGroup());
+        Map<String, String> owners = currentOwners.computeIfAbsent(prefix, ignored -> listOwners(checkpoint));
+        String currentOwner = owners.get(checkpoint.getPartitionId());
+        return currentOwner == null || currentOwner.isEmpty() || currentOwner.equals(claimedOwner);
+    }
+
+    private Map<String, String> listOwners(Checkpoint checkpoint) {
+        Map<String, String> owners = new HashMap<>();
+        try {
+            delegate.listOwnership(checkpoint.getFullyQualifiedNamespace(), checkpoint.getEventHubName(),
+                            checkpoint.getConsumerGroup())
+                    .toIterable()
+                    .forEach(ownership -> owners.put(ownership.getPartitionId(),
+                            ownership.getOwnerId() == null ? "" : ownership.getOwnerId()));
+        } catch (Exception e) {
+            log.warn("Failed to list partition ownership before flushing checkpoints: {}", e.getMessage());
+        }
+        return owners;
+    }
+
+    private static String key(PartitionOwnership ownership) {
+        return prefix(ownership.getFullyQualifiedNamespace(), ownership.getEventHubName(),
+                ownership.getConsumerGroup()) + ownership.getPartitionId();
+    }
+
+    private static String key(Checkpoint checkpoint) {
+        return prefix(checkpoint.getFullyQualifiedNamespace(), checkpoint.getEventHubName(),
+                checkpoint.getConsumerGroup()) + checkpoint.getPartitionId();
+    }
+
+    private static String prefix(String fullyQualifiedNamespace, String eventHubName, String consumerGroup) {
+        return fullyQualifiedNamespace + "/" + eventHubName + "/" + consumerGroup + "/";
+    }
+
+    private static long sequenceOf(Checkpoint checkpoint) {
+        return checkpoint.getSequenceNumber() == null ? Long.MIN_VALUE : checkpoint.getSequenceNumber();
+    }
+}
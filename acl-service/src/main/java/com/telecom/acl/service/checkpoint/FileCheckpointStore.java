@@ -0,0 +1,182 @@
+package com.telecom.acl.service.checkpoint;
+
+import com.azure.messaging.eventhubs.CheckpointStore;
+import com.azure.messaging.eventhubs.models.Checkpoint;
+import com.azure.messaging.eventhubs.models.PartitionOwnership;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 파일에 체크포인트를 저장하는 단일 노드/테스트용 {@link CheckpointStore}입니다.
+ * (namespace, event hub, consumer group)마다 파일 하나를 두고 "partitionId|offset|sequenceNumber" 줄로 기록하며,
+ * 임시 파일에 쓴 뒤 교체하므로 기록 도중 중단되어도 이전 내용이 남습니다.
+ * 파티션 소유권은 프로세스 메모리에서만 관리하므로 여러 인스턴스가 같은 디렉터리를 공유하면 안 됩니다.
+ */
+@Slf4j
+public class FileCheckpointStore implements CheckpointStore {
+    private static final String SEPARATOR = "|";
+
+    private final Path directory;
+    private final Map<String, PartitionOwnership> ownerships = new ConcurrentHashMap<>();
+
+    public FileCheckpointStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create checkpoint directory " + directory, e);
+        }
+        log.info("Using file checkpoint store in {}", directory.toAbsolutePath());
+    }
+
+    @Override
+    public Flux<PartitionOwnership> listOwnership(String fullyQualifiedNamespace, String eventHubName,
+                                                  String consumerGroup) {
+        String prefix = prefix(fullyQualifiedNamespace, eventHubName, consumerGroup);
+        return Flux.defer(() -> Flux.fromStream(ownerships.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .map(Map.Entry::getValue)));
+    }
+
+    @Override
+    public Flux<PartitionOwnership> claimOwnership(List<PartitionOwnership> requestedPartitionOwnerships) {
+        return Flux.defer(() -> {
+            List<PartitionOwnership> claimed = new ArrayList<>();
+            for (PartitionOwnership requested : requestedPartitionOwnerships) {
+                String key = prefix(requested.getFullyQualifiedNamespace(), requested.getEventHubName(),
+                        requested.getConsumerGroup()) + requested.getPartitionId();
+                PartitionOwnership[] granted = new PartitionOwnership[1];
+                ownerships.compute(key, (k, current) -> {
+                    // eTag가 일치할 때만 갱신 (낙관적 동시성, Blob 저장소와 같은 규칙)
+                    if (current != null && !Objects.equals(current.getETag(), requested.getETag())) {
+                        return current;
+                    }
+                    granted[0] = new PartitionOwnership()
+                            .setFullyQualifiedNamespace(requested.getFullyQualifiedNamespace())
+                            .setEventHubName(requested.getEventHubName())
+                            .setConsumerGroup(requested.getConsumerGroup())
+                            .setPartitionId(requested.getPartitionId())
+                            .setOwnerId(requested.getOwnerId())
+                            .setLastModifiedTime(System.currentTimeMillis())
+                            .setETag(UUID.randomUUID().toString());
+                    return granted[0];
+                });
+                if (granted[0] != null) {
+                    claimed.add(granted[0]);
+                }
+            }
+            return Flux.fromIterable(claimed);
+        });
+    }
+
+    @Override
+    public Flux<Checkpoint> listCheckpoints(String fullyQualifiedNamespace, String eventHubName,
+                                            String consumerGroup) {
+        return Flux.defer(() -> {
+            Path file = file(fullyQualifiedNamespace, eventHubName, consumerGroup);
+            List<Checkpoint> checkpoints = new ArrayList<>();
+            read(file).forEach((partitionId, line) -> {
+                Checkpoint checkpoint = parse(line);
+                if (checkpoint != null) {
+                    checkpoints.add(checkpoint
+                            .setFullyQualifiedNamespace(fullyQualifiedNamespace)
+                            .setEventHubName(eventHubName)
+                            .setConsumerGroup(consumerGroup));
+                }
+            });
+            return Flux.fromIterable(checkpoints);
+        });
+    }
+
+    @Override
+    public Mono<Void> updateCheckpoint(Checkpoint checkpoint) {
+        return Mono.fromRunnable(() -> {
+            Path file = file(checkpoint.getFullyQualifiedNamespace(), checkpoint.getEventHubName(),
+                    checkpoint.getConsumerGroup());
+            synchronized (this) {
+                Map<String, String> lines = read(file);
+                lines.put(checkpoint.getPartitionId(), checkpoint.getPartitionId() + SEPARATOR
+                        + checkpoint.getOffset() + SEPARATOR + checkpoint.getSequenceNumber());
+                write(file, lines);
+            }
+        });
+    }
+
+    private Path file(String fullyQualifiedNamespace, String eventHubName, String consumerGroup) {
+        return directory.resolve(sanitize(fullyQualifiedNamespace) + "_" + sanitize(eventHubName) + "_"
+                + sanitize(consumerGroup) + ".checkpoints");
+    }
+
+    private static Map<String, String> read(Path file) {
+        Map<String, String> lines = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return lines;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(SEPARATOR);
+                if (separator > 0) {
+                    lines.put(line.substring(0, separator), line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read checkpoints from " + file, e);
+        }
+        return lines;
+    }
+
+    private static void write(Path file, Map<String, String> lines) {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (String line : lines.values()) {
+                    out.write(line);
+                    out.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write checkpoints to " + file, e);
+        }
+    }
+
+    private static Checkpoint parse(String line) {
+        String[] parts = line.split("\\|", -1);
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new Checkpoint()
+                    .setPartitionId(parts[0])
+                    .setOffset("null".equals(parts[1]) ? null : Long.valueOf(parts[1]))
+                    .setSequenceNumber("null".equals(parts[2]) ? null : Long.valueOf(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("Skipping unreadable checkpoint line: {}", line);
+            return null;
+        }
+    }
+
+    private static String prefix(String fullyQualifiedNamespace, String eventHubName, String consumerGroup) {
+        return fullyQualifiedNamespace + "/" + eventHubName + "/" + consumerGroup + "/";
+    }
+
+    private static String sanitize(String value) {
+        return value == null ? "" : value.replaceAll("[^A-Za-z0-9._-]", "-");
+    }
+}
@@ -0,0 +1,86 @@
+package com.telecom.acl.service.config;
+
+import com.azure.messaging.eventhubs.CheckpointStore;
+import com.azure.messaging.eventhubs.checkpointstore.blob.BlobCheckpointStore;
+import com.azure.storage.blob.BlobContainerAsyncClient;
+import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.telecom.acl.service.checkpoint.CoalescingCheckpointStore;
+import com.telecom.acl.service.checkpoint.FileCheckpointStore;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "acl.messaging.source", havingValue = "eventhub", matchIfMissing = true)
+public class CheckpointStoreConfig {
+    @Value("${azure.storage.connection-string:}")
+    private String storageConnectionString;
+
+    @Value("${azure.storage.container:}")
+    private String storageContainer;
+
+    // blob: Azure Blob Storage, file: 로컬 파일 (단일 노드/테스트용)
+    @Value("${acl.checkpoint.store:blob}")
+    private String storeType;
+
+    @Value("${acl.checkpoint.file.directory:./data/checkpoints}")
+    private String fileDirectory;
+
+    @Value("${acl.checkpoint.coalesce-interval-ms:1000}")
+    private long coalesceIntervalMs;
+
+    /**
+     * 체크포인트를 coalesce-interval-ms마다 모아 기록하는 저장소입니다. 종료 시 close()가 남은 위치를 기록합니다.
+     * PartitionCheckpointTracker의 종료 flush가 넘긴 위치까지 기록되도록 tracker를 이 저장소보다 먼저 정리합니다.
+     */
+    @Bean(name = "checkpointStore", destroyMethod = "close")
+    @ConditionalOnExpression("${acl.checkpoint.coalesce-interval-ms:1000} > 0")
+    public CoalescingCheckpointStore coalescingCheckpointStore(PipelineMetrics pipelineMetrics,
+                                                               ConfigurableListableBeanFactory beanFactory) {
+        beanFactory.registerDependentBean("checkpointStore", "partitionCheckpointTracker");
+
+        log.info("Coalescing checkpoint writes every {}ms", coalesceIntervalMs);
+        CoalescingCheckpointStore coalescing = new CoalescingCheckpointStore(createStore(), coalesceIntervalMs);
+        pipelineMetrics.registerGauge("acl.checkpoint.pending", "Checkpoints waiting for the next flush",
+                coalescing, CoalescingCheckpointStore::pendingCount);
+        return coalescing;
+    }
+
+    /**
+     * coalesce-interval-ms가 0 이하이면 체크포인트마다 저장소에 바로 기록합니다.
+     */
+    @Bean(name = "checkpointStore")
+    @ConditionalOnExpression("${acl.checkpoint.coalesce-interval-ms:1000} <= 0")
+    public CheckpointStore directCheckpointStore() {
+        return createStore();
+    }
+
+    private CheckpointStore createStore() {
+        return "file".equalsIgnoreCase(storeType)
+                ? new FileCheckpointStore(Path.of(fileDirectory))
+                : blobCheckpointStore();
+    }
+
+    private CheckpointStore blobCheckpointStore() {
+        BlobContainerAsyncClient blobContainerAsyncClient = new BlobServiceClientBuilder()
+                .connectionString(storageConnectionString)
+                .buildAsyncClient()
+                .getBlobContainerAsyncClient(storageContainer);
+
+        // 컨테이너 생성은 기동을 막지 않도록 비동기로 요청 (생성 전 소유권 조회가 실패하면 processor가 재시도)
+        blobContainerAsyncClient.createIfNotExists().subscribe(
+                created -> log.info("Blob container {} {}", storageContainer, created ? "created" : "already exists"),
+                error -> log.error("Failed to create blob container {}: {}", storageContainer, error.getMessage()));
+
+        log.info("Creating blob checkpoint store for container: {}", storageContainer);
+        return new BlobCheckpointStore(blobContainerAsyncClient);
+    }
+}
@@ -0,0 +1,52 @@
+package com.telecom.acl.service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 발송 경로의 스레드 실행 모드를 설정합니다.
+ * spring.threads.virtual.enabled=true(virtual-threads 프로파일, Java 21 필요)이면
+ * Tomcat 요청 처리와 함께 발송 레인, 알림 HTTP 호출도 가상 스레드에서 실행됩니다.
+ */
+@Slf4j
+@Configuration
+public class ExecutionModeConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Bean
+    public ThreadFactory dispatchThreadFactory() {
+        if (virtualThreadsEnabled) {
+            log.info("Dispatch lanes will run on virtual threads");
+            return new VirtualThreadTaskExecutor("dispatch-lane-").getVirtualThreadFactory();
+        }
+        return namedPlatformThreadFactory("dispatch-lane-", false);
+    }
+
+    @Bean
+    public Executor notificationHttpExecutor() {
+        if (virtualThreadsEnabled) {
+            log.info("Notification HTTP calls will run on virtual threads");
+            return new VirtualThreadTaskExecutor("notification-http-");
+        }
+        return Executors.newCachedThreadPool(namedPlatformThreadFactory("notification-http-", true));
+    }
+
+    private static ThreadFactory namedPlatformThreadFactory(String prefix, boolean daemon) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.getAndIncrement());
+            thread.setDaemon(daemon);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.telecom.acl.service.config;
+
+import com.telecom.acl.common.messaging.MessageSource;
+import com.telecom.acl.common.messaging.memory.InMemoryBroker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Event Hubs 대신 프로세스 내 파티션 브로커에서 이벤트를 읽습니다. (단일 머신 부하 테스트/벤치마크용)
+ * 생산자(kos-mock 등)가 같은 JVM에서 같은 {@link InMemoryBroker} 빈을 공유해야 이벤트가 전달됩니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "acl.messaging.source", havingValue = "in-memory")
+public class InMemoryMessagingConfig {
+    @Value("${acl.messaging.in-memory.partitions:4}")
+    private int partitions;
+
+    @Value("${acl.messaging.in-memory.capacity:100000}")
+    private int capacity;
+
+    @Value("${azure.eventhub.batch.max-size:100}")
+    private int maxBatchSize;
+
+    @Value("${azure.eventhub.batch.max-wait-ms:1000}")
+    private long maxWaitMs;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public InMemoryBroker inMemoryBroker() {
+        log.info("Creating in-memory broker: partitions={}, capacity={}", partitions, capacity);
+        return new InMemoryBroker(partitions, capacity);
+    }
+
+    @Bean
+    public MessageSource messageSource(InMemoryBroker inMemoryBroker) {
+        return inMemoryBroker.source("acl-service", maxBatchSize, Duration.ofMillis(maxWaitMs));
+    }
+}
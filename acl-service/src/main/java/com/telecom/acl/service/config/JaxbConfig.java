@@ -3,7 +3,6 @@ package com.telecom.acl.service.config;
 import com.telecom.acl.common.soap.SoapEnvelope;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Unmarshaller;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,15 +21,4 @@ public class JaxbConfig {
             throw e;
         }
     }
-
-    @Bean
-    public Unmarshaller unmarshaller(JAXBContext jaxbContext) throws JAXBException {
-        try {
-            log.info("Creating JAXB unmarshaller");
-            return jaxbContext.createUnmarshaller();
-        } catch (JAXBException e) {
-            log.error("Failed to create JAXB unmarshaller: {}", e.getMessage(), e);
-            throw e;
-        }
-    }
 }
\ No newline at end of file
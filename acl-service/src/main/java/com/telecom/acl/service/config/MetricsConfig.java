@@ -0,0 +1,36 @@
+package com.telecom.acl.service.config;
+
+import com.telecom.acl.service.dedup.DeliveryCache;
+import com.telecom.acl.service.throttle.NotificationCoalescer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder deliveryCacheMetrics(DeliveryCache deliveryCache) {
+        return registry -> {
+            FunctionCounter.builder("acl.dedup.hits", deliveryCache, DeliveryCache::hits)
+                    .description("Redelivered events whose channels were already sent")
+                    .register(registry);
+            FunctionCounter.builder("acl.dedup.misses", deliveryCache, DeliveryCache::misses)
+                    .description("Events with no delivery history")
+                    .register(registry);
+            Gauge.builder("acl.dedup.size", deliveryCache, DeliveryCache::size)
+                    .description("Entries in the delivery cache")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder coalescerMetrics(NotificationCoalescer notificationCoalescer) {
+        return registry -> FunctionCounter.builder("acl.notifications.coalesced", notificationCoalescer,
+                        NotificationCoalescer::supersededCount)
+                .description("Notifications replaced by a newer one within the coalescing window")
+                .register(registry);
+    }
+}
@@ -2,6 +2,10 @@
 package com.telecom.acl.service.controller;
 
 import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.dedup.DeliveryCache;
+import com.telecom.acl.service.retry.DeadLetter;
+import com.telecom.acl.service.retry.DeadLetterStore;
+import com.telecom.acl.service.retry.NotificationRetryScheduler;
 import com.telecom.acl.service.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,6 +14,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/notifications")
@@ -19,6 +26,15 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private DeliveryCache deliveryCache;
+
+    @Autowired
+    private DeadLetterStore deadLetterStore;
+
+    @Autowired
+    private NotificationRetryScheduler retryScheduler;
+
     @Operation(
             summary = "알림 테스트",
             description = """
@@ -40,6 +56,37 @@ public class NotificationController {
         }
     }
 
+    @Operation(summary = "중복 발송 캐시 통계", description = "재전송 이벤트 중복 발송 방지 캐시의 hit/miss 및 항목 수 조회")
+    @GetMapping("/dedup/stats")
+    public ResponseEntity<Map<String, Object>> dedupStats() {
+        return ResponseEntity.ok(Map.of(
+                "enabled", deliveryCache.isEnabled(),
+                "hits", deliveryCache.hits(),
+                "misses", deliveryCache.misses(),
+                "size", deliveryCache.size()));
+    }
+
+    @Operation(summary = "Dead-letter 목록", description = "재시도를 모두 소진한 채널 발송 목록 조회")
+    @GetMapping("/dead-letters")
+    public ResponseEntity<List<DeadLetter>> deadLetters() {
+        return ResponseEntity.ok(deadLetterStore.list());
+    }
+
+    @Operation(summary = "Dead-letter 재발송", description = "지정한 dead-letter 항목을 저장소에서 꺼내 다시 발송")
+    @PostMapping("/dead-letters/{id}/replay")
+    public ResponseEntity<String> replayDeadLetter(@PathVariable String id) {
+        if (!retryScheduler.replay(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.accepted().body("재발송이 예약되었습니다: " + id);
+    }
+
+    @Operation(summary = "Dead-letter 전체 재발송", description = "모든 dead-letter 항목을 다시 발송")
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<Map<String, Object>> replayAllDeadLetters() {
+        return ResponseEntity.accepted().body(Map.of("replayed", retryScheduler.replayAll()));
+    }
+
     @Operation(summary = "상태 확인", description = "서비스 상태 확인")
     @GetMapping("/health")
     public ResponseEntity<String> healthCheck() {
@@ -0,0 +1,161 @@
+package com.telecom.acl.service.dedup;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재전송된 Event Hub 알림의 중복 발송을 막는 채널 단위 발송 완료 캐시입니다.
+ * 크기 제한(LRU)과 TTL로 항목을 제거하며, 발송 기록 파일로 재시작 후 최근 이력을 복원합니다.
+ * 발송 기록은 {@link DeliveryJournal}의 writer 스레드가 모아서 쓰므로 발송 완료 콜백은 파일 I/O를 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+public class DeliveryCache {
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Map<DeliveryKey, Entry> entries;
+    private DeliveryJournal journal;
+
+    @Value("${acl.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${acl.dedup.ttl-ms:86400000}")
+    private long ttlMs;
+
+    @Value("${acl.dedup.journal-path:./data/delivery-journal.log}")
+    private String journalPath;
+
+    private final int maxEntries;
+
+    public DeliveryCache(@Value("${acl.dedup.max-entries:100000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DeliveryKey, Entry> eldest) {
+                return size() > DeliveryCache.this.maxEntries;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled || journalPath.isBlank()) {
+            return;
+        }
+        // 기록 파일이 캐시 최대 크기의 몇 배가 되면 writer 스레드가 유효 항목만 남기고 다시 씀
+        journal = new DeliveryJournal(Path.of(journalPath), (long) maxEntries * 3, this::snapshot);
+        try {
+            long minDeliveredAt = System.currentTimeMillis() - ttlMs;
+            journal.load(minDeliveredAt, record -> put(record.key(), record.channel(), record.deliveredAt()));
+            journal.rewrite(snapshot());
+            log.info("Delivery cache warmed with {} entries from {}", size(), journalPath);
+        } catch (Exception e) {
+            log.warn("Failed to warm delivery cache from {}: {}", journalPath, e.getMessage());
+            try {
+                journal.open();
+            } catch (Exception openError) {
+                log.error("Delivery journal disabled: {}", openError.getMessage());
+                journal = null;
+                return;
+            }
+        }
+        journal.start();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이미 발송된 채널 목록을 반환합니다. 발송 이력이 있으면 hit, 없으면 miss로 집계합니다.
+     */
+    public Set<String> deliveredChannels(DeliveryKey key) {
+        if (!enabled) {
+            return Collections.emptySet();
+        }
+        Set<String> delivered;
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.isExpired(System.currentTimeMillis(), ttlMs)) {
+                entries.remove(key);
+                entry = null;
+            }
+            delivered = entry == null ? Collections.emptySet() : Set.copyOf(entry.channels);
+        }
+        (delivered.isEmpty() ? misses : hits).incrementAndGet();
+        return delivered;
+    }
+
+    public void markDelivered(DeliveryKey key, String channel) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        put(key, channel, now);
+        if (journal != null) {
+            journal.append(new DeliveryJournal.Record(now, key, channel));
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void put(DeliveryKey key, String channel, long deliveredAt) {
+        synchronized (entries) {
+            Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+            entry.channels.add(channel);
+            entry.deliveredAt = Math.max(entry.deliveredAt, deliveredAt);
+        }
+    }
+
+    private List<DeliveryJournal.Record> snapshot() {
+        long now = System.currentTimeMillis();
+        List<DeliveryJournal.Record> records = new ArrayList<>();
+        synchronized (entries) {
+            entries.entrySet().removeIf(e -> e.getValue().isExpired(now, ttlMs));
+            entries.forEach((key, entry) -> entry.channels.forEach(channel ->
+                    records.add(new DeliveryJournal.Record(entry.deliveredAt, key, channel))));
+        }
+        return records;
+    }
+
+    private static class Entry {
+        private final Set<String> channels = new HashSet<>(4);
+        private long deliveredAt;
+
+        private boolean isExpired(long now, long ttlMs) {
+            return now - deliveredAt > ttlMs;
+        }
+    }
+}
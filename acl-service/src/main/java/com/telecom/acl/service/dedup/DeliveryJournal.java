@@ -0,0 +1,237 @@
+package com.telecom.acl.service.dedup;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 발송 완료 기록을 남기는 append-only 파일입니다. 재시작 시 {@link DeliveryCache}를 다시 채우는 데 사용합니다.
+ * 한 줄 형식: deliveredAtMillis|userSequence|svcTypeCd|notifyDtm|exceedQty|channel
+ * 기록은 큐에 넣기만 하고, 전용 writer 스레드가 모인 만큼 한 번에 쓰고 flush 합니다(group commit).
+ * 파일이 compact-threshold 줄을 넘으면 같은 스레드에서 유효 항목만으로 다시 씁니다.
+ */
+@Slf4j
+class DeliveryJournal {
+    private static final String SEPARATOR = "|";
+    private static final int QUEUE_CAPACITY = 65_536;
+    private static final int MAX_BATCH = 1024;
+
+    private final Path path;
+    private final long compactThreshold;
+    private final Supplier<Collection<Record>> snapshot;
+    private final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong dropped = new AtomicLong();
+    private BufferedWriter writer;
+    private long lines;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    /**
+     * @param compactThreshold 이 줄 수를 넘으면 snapshot 으로 파일을 다시 씀
+     * @param snapshot         현재 유효한 항목 목록
+     */
+    DeliveryJournal(Path path, long compactThreshold, Supplier<Collection<Record>> snapshot) {
+        this.path = path;
+        this.compactThreshold = compactThreshold;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * 기록을 읽어 minDeliveredAt 이후의 항목만 전달합니다.
+     */
+    synchronized void load(long minDeliveredAt, Consumer<Record> consumer) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Record record = parse(line);
+                if (record != null && record.deliveredAt() >= minDeliveredAt) {
+                    consumer.accept(record);
+                }
+            }
+        }
+    }
+
+    synchronized void open() throws IOException {
+        createParentDirectories();
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * writer 스레드를 시작합니다. 파일은 {@link #open()} 또는 {@link #rewrite(Collection)}로 열려 있어야 합니다.
+     */
+    synchronized void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "delivery-journal-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 기록을 writer 스레드에 넘깁니다. 호출 스레드(HTTP 응답 콜백 등)는 파일 I/O를 기다리지 않습니다.
+     * 큐가 가득 차면 기록을 버리며, 이 경우 재시작 후 해당 채널이 한 번 더 발송될 수 있습니다.
+     */
+    void append(Record record) {
+        if (!running || !queue.offer(record)) {
+            long count = dropped.incrementAndGet();
+            if (running && (count & (count - 1)) == 0) {
+                log.warn("Delivery journal queue full, dropped {} records so far", count);
+            }
+        }
+    }
+
+    synchronized long lines() {
+        return lines;
+    }
+
+    /**
+     * 현재 유효한 항목만으로 파일을 다시 씁니다.
+     */
+    synchronized void rewrite(Collection<Record> records) throws IOException {
+        createParentDirectories();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Record record : records) {
+                out.write(format(record));
+                out.newLine();
+            }
+        }
+        closeWriter();
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        lines = records.size();
+        open();
+    }
+
+    /**
+     * writer 스레드를 멈추고 큐에 남은 기록을 모두 쓴 뒤 파일을 닫습니다.
+     */
+    void close() {
+        running = false;
+        Thread thread;
+        synchronized (this) {
+            thread = writerThread;
+        }
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            List<Record> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            write(remaining);
+            closeWriter();
+        }
+    }
+
+    private void writeLoop() {
+        List<Record> batch = new ArrayList<>(MAX_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                Record first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            synchronized (this) {
+                write(batch);
+                if (lines >= compactThreshold) {
+                    compact();
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<Record> batch) {
+        if (writer == null || batch.isEmpty()) {
+            return;
+        }
+        try {
+            for (Record record : batch) {
+                writer.write(format(record));
+                writer.newLine();
+            }
+            writer.flush();
+            lines += batch.size();
+        } catch (IOException e) {
+            log.warn("Failed to append {} records to delivery journal {}: {}", batch.size(), path, e.getMessage());
+        }
+    }
+
+    private void compact() {
+        try {
+            rewrite(snapshot.get());
+            log.debug("Compacted delivery journal {} to {} records", path, lines);
+        } catch (Exception e) {
+            log.warn("Failed to compact delivery journal: {}", e.getMessage());
+        }
+    }
+
+    private void createParentDirectories() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Failed to close delivery journal {}: {}", path, e.getMessage());
+        }
+        writer = null;
+    }
+
+    private static String format(Record record) {
+        DeliveryKey key = record.key();
+        return record.deliveredAt() + SEPARATOR + key.userSequence() + SEPARATOR + key.svcTypeCd() + SEPARATOR
+                + key.notifyDtm() + SEPARATOR + key.exceedQty() + SEPARATOR + record.channel();
+    }
+
+    private static Record parse(String line) {
+        String[] parts = line.split("\\|", -1);
+        if (parts.length != 6) {
+            return null;
+        }
+        try {
+            Integer exceedQty = "null".equals(parts[4]) ? null : Integer.valueOf(parts[4]);
+            DeliveryKey key = new DeliveryKey(parts[1], parts[2], parts[3], exceedQty);
+            return new Record(Long.parseLong(parts[0]), key, parts[5]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    record Record(long deliveredAt, DeliveryKey key, String channel) {}
+}
@@ -0,0 +1,13 @@
+package com.telecom.acl.service.dedup;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+
+/**
+ * 동일 알림 여부를 판단하는 키입니다. 재전송된 이벤트는 이 네 값이 모두 같습니다.
+ */
+public record DeliveryKey(String userSequence, String svcTypeCd, String notifyDtm, Integer exceedQty) {
+
+    public static DeliveryKey of(ExcessNotificationSoap soap) {
+        return new DeliveryKey(soap.getUserSequence(), soap.getSvcTypeCd(), soap.getNotifyDtm(), soap.getExceedQty());
+    }
+}
@@ -0,0 +1,20 @@
+package com.telecom.acl.service.dto;
+
+/**
+ * 채널 한 곳의 발송 결과입니다.
+ *
+ * @param channel   알림 채널 (PUSH, SMS, KAKAO)
+ * @param success   발송 성공 여부
+ * @param latencyMs 요청부터 응답까지 걸린 시간(ms)
+ * @param error     실패 사유, 성공 시 null
+ */
+public record ChannelResult(String channel, boolean success, long latencyMs, String error) {
+
+    public static ChannelResult success(String channel, long latencyMs) {
+        return new ChannelResult(channel, true, latencyMs, null);
+    }
+
+    public static ChannelResult failure(String channel, long latencyMs, String error) {
+        return new ChannelResult(channel, false, latencyMs, error);
+    }
+}
@@ -0,0 +1,101 @@
+package com.telecom.acl.service.message;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.common.type.ServiceType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 컴파일된 알림 메시지 템플릿입니다.
+ * 생성 시 {placeholder}를 기준으로 리터럴/값 조각으로 나누어 두고, 렌더링 시에는 조각을 이어 붙이기만 합니다.
+ * 지원 placeholder: {serviceType}, {userSequence}, {usedQty}, {baseQty}, {exceedQty}, {unit}
+ */
+public class MessageTemplate {
+    private final String source;
+    private final String locale;
+    private final List<Segment> segments;
+    private final int literalLength;
+
+    public MessageTemplate(String source, String locale) {
+        this.source = source;
+        this.locale = locale;
+        this.segments = compile(source);
+        this.literalLength = segments.stream()
+                .filter(segment -> segment.field() == null)
+                .mapToInt(segment -> segment.literal().length())
+                .sum();
+    }
+
+    public String render(ExcessNotificationSoap soap, ServiceType serviceType) {
+        StringBuilder sb = new StringBuilder(literalLength + 32);
+        for (Segment segment : segments) {
+            if (segment.field() == null) {
+                sb.append(segment.literal());
+                continue;
+            }
+            switch (segment.field()) {
+                case SERVICE_TYPE -> sb.append(serviceType.name());
+                case USER_SEQUENCE -> sb.append(soap.getUserSequence());
+                case USED_QTY -> sb.append(soap.getUsedQty());
+                case BASE_QTY -> sb.append(soap.getBaseQty());
+                case EXCEED_QTY -> sb.append(soap.getExceedQty());
+                case UNIT -> sb.append(serviceType.getUnit(locale));
+            }
+        }
+        return sb.toString();
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    private static List<Segment> compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf('{', position);
+            int close = open < 0 ? -1 : source.indexOf('}', open);
+            if (open < 0 || close < 0) {
+                segments.add(Segment.literal(source.substring(position)));
+                break;
+            }
+            if (open > position) {
+                segments.add(Segment.literal(source.substring(position, open)));
+            }
+            Field field = Field.of(source.substring(open + 1, close));
+            if (field == null) {
+                throw new IllegalArgumentException("Unknown template placeholder: " + source.substring(open, close + 1));
+            }
+            segments.add(Segment.field(field));
+            position = close + 1;
+        }
+        return List.copyOf(segments);
+    }
+
+    private enum Field {
+        SERVICE_TYPE, USER_SEQUENCE, USED_QTY, BASE_QTY, EXCEED_QTY, UNIT;
+
+        private static Field of(String name) {
+            return switch (name) {
+                case "serviceType" -> SERVICE_TYPE;
+                case "userSequence" -> USER_SEQUENCE;
+                case "usedQty" -> USED_QTY;
+                case "baseQty" -> BASE_QTY;
+                case "exceedQty" -> EXCEED_QTY;
+                case "unit" -> UNIT;
+                default -> null;
+            };
+        }
+    }
+
+    private record Segment(String literal, Field field) {
+        private static Segment literal(String literal) {
+            return new Segment(literal, null);
+        }
+
+        private static Segment field(Field field) {
+            return new Segment(null, field);
+        }
+    }
+}
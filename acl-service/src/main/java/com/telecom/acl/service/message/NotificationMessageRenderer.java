@@ -0,0 +1,68 @@
+package com.telecom.acl.service.message;
+
+import com.telecom.acl.common.exception.NotificationException;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.common.type.ServiceType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채널/로케일별 알림 메시지 템플릿을 기동 시 컴파일해 두고 렌더링합니다.
+ * 템플릿은 acl.message.templates.{locale}.{channel} 로 채널별 재정의할 수 있으며,
+ * 없으면 acl.message.templates.{locale}.default, 그것도 없으면 내장 템플릿을 사용합니다.
+ */
+@Slf4j
+@Component
+public class NotificationMessageRenderer {
+    private static final List<String> CHANNELS = List.of("PUSH", "SMS", "KAKAO");
+    private static final Map<String, String> BUILT_IN_TEMPLATES = Map.of(
+            "ko", "[{serviceType}] {userSequence} 기본 제공량을 {exceedQty}{unit} 초과하였습니다.",
+            "en", "[{serviceType}] {userSequence} exceeded the base allowance by {exceedQty}{unit}.");
+
+    private final String locale;
+    private final Map<String, MessageTemplate> channelTemplates = new HashMap<>();
+
+    public NotificationMessageRenderer(Environment environment, @Value("${acl.message.locale:ko}") String locale) {
+        this.locale = locale;
+        String prefix = "acl.message.templates." + locale + ".";
+        String defaultSource = environment.getProperty(prefix + "default",
+                BUILT_IN_TEMPLATES.getOrDefault(locale, BUILT_IN_TEMPLATES.get("ko")));
+
+        // 같은 원문을 쓰는 채널은 같은 템플릿 인스턴스를 공유하여 이벤트당 한 번만 렌더링
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        for (String channel : CHANNELS) {
+            String source = environment.getProperty(prefix + channel.toLowerCase(), defaultSource);
+            channelTemplates.put(channel, compiled.computeIfAbsent(source, s -> new MessageTemplate(s, locale)));
+        }
+        log.info("Compiled {} distinct notification templates for locale {}", compiled.size(), locale);
+    }
+
+    /**
+     * 채널별 메시지를 렌더링합니다. 템플릿이 같은 채널은 렌더링 결과를 공유합니다.
+     *
+     * @throws NotificationException 서비스 타입 코드를 알 수 없는 경우
+     */
+    public Map<String, String> render(ExcessNotificationSoap soap, List<String> channels) {
+        ServiceType serviceType = ServiceType.fromCode(soap.getSvcTypeCd())
+                .orElseThrow(() -> new NotificationException("Unknown service type: " + soap.getSvcTypeCd()));
+
+        Map<MessageTemplate, String> rendered = new IdentityHashMap<>(2);
+        Map<String, String> messages = new HashMap<>(4);
+        for (String channel : channels) {
+            MessageTemplate template = channelTemplates.get(channel);
+            messages.put(channel, rendered.computeIfAbsent(template, t -> t.render(soap, serviceType)));
+        }
+        return messages;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+}
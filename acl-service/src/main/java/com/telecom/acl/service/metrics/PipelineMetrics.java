@@ -0,0 +1,135 @@
+package com.telecom.acl.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * acl-service 이벤트 파이프라인의 Micrometer 지표입니다.
+ * 파티션/채널별 meter는 처음 한 번만 만들어 캐시하고, 이벤트 처리 중에는 조회와 기록만 하므로
+ * 이벤트당 객체를 할당하지 않습니다.
+ */
+@Component
+public class PipelineMetrics {
+    private final MeterRegistry registry;
+    private final Map<String, Counter> receivedCounters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> consumerLag = new ConcurrentHashMap<>();
+    private final Map<String, Timer> sendTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> sendErrors = new ConcurrentHashMap<>();
+    private final Timer checkpointTimer;
+    private final Counter rejectedCounter;
+    private final Counter duplicateCounter;
+
+    public PipelineMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.checkpointTimer = Timer.builder("acl.checkpoint.latency")
+                .description("Checkpoint write latency")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.rejectedCounter = Counter.builder("acl.events.rejected")
+                .description("Events skipped because they cannot be delivered")
+                .register(registry);
+        this.duplicateCounter = Counter.builder("acl.events.duplicate")
+                .description("Redelivered events skipped because they are already in flight or committed")
+                .register(registry);
+    }
+
+    public Timer parseTimer(String engine) {
+        return Timer.builder("acl.soap.parse")
+                .description("SOAP message parse latency")
+                .tag("engine", engine)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void eventsReceived(String partitionId, int count) {
+        Counter counter = receivedCounters.get(partitionId);
+        if (counter == null) {
+            counter = receivedCounters.computeIfAbsent(partitionId, id -> Counter.builder("acl.events.received")
+                    .description("Events received from Event Hub")
+                    .tag("partition", id)
+                    .register(registry));
+        }
+        counter.increment(count);
+    }
+
+    public void eventRejected() {
+        rejectedCounter.increment();
+    }
+
+    public void eventDuplicate() {
+        duplicateCounter.increment();
+    }
+
+    public void recordSend(String channel, long latencyMs, boolean success) {
+        Timer timer = sendTimers.get(channel);
+        if (timer == null) {
+            timer = sendTimers.computeIfAbsent(channel, c -> Timer.builder("acl.notification.send")
+                    .description("Notification send latency per channel")
+                    .tag("channel", c)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        timer.record(latencyMs, TimeUnit.MILLISECONDS);
+
+        if (!success) {
+            Counter errors = sendErrors.get(channel);
+            if (errors == null) {
+                errors = sendErrors.computeIfAbsent(channel, c -> Counter.builder("acl.notification.send.errors")
+                        .description("Failed notification sends per channel")
+                        .tag("channel", c)
+                        .register(registry));
+            }
+            errors.increment();
+        }
+    }
+
+    public void recordCheckpoint(long nanos) {
+        checkpointTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 파티션의 마지막 enqueue 시퀀스와 현재 처리 중인 시퀀스 차이로 consumer lag을 추정합니다.
+     */
+    public void updateConsumerLag(String partitionId, Long lastEnqueuedSequence, long currentSequence) {
+        if (lastEnqueuedSequence == null) {
+            return;
+        }
+        AtomicLong lag = consumerLag.get(partitionId);
+        if (lag == null) {
+            lag = consumerLag.computeIfAbsent(partitionId, id -> {
+                AtomicLong value = new AtomicLong();
+                Gauge.builder("acl.consumer.lag", value, AtomicLong::get)
+                        .description("Estimated events behind the last enqueued event")
+                        .tag("partition", id)
+                        .register(registry);
+                return value;
+            });
+        }
+        lag.set(Math.max(0, lastEnqueuedSequence - currentSequence));
+    }
+
+    /**
+     * 파티션별 in-flight 이벤트 수 gauge를 등록합니다.
+     */
+    public <T> void registerInFlight(String partitionId, T source, ToDoubleFunction<T> inFlight) {
+        Gauge.builder("acl.pipeline.in-flight", source, inFlight)
+                .description("Events dispatched but not yet checkpointable")
+                .tag("partition", partitionId)
+                .register(registry);
+    }
+
+    public <T> void registerGauge(String name, String description, T source, ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value)
+                .description(description)
+                .register(registry);
+    }
+}
@@ -0,0 +1,394 @@
+package com.telecom.acl.service.outbox;
+
+import com.telecom.acl.common.exception.NotificationException;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.pipeline.DispatchHandle;
+import com.telecom.acl.service.pipeline.DispatchPipeline;
+import com.telecom.acl.service.throttle.NotificationCoalescer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 파싱된 알림을 memory-mapped 세그먼트 로그에 먼저 기록하는 로컬 outbox입니다.
+ * 기록(append)이 끝나면 Event Hub 체크포인트를 바로 진행할 수 있고, 발송은 로그를 따라 읽는
+ * 별도 스레드가 발송 파이프라인으로 넘겨 비동기로 처리합니다.
+ * 발송이 끝난 항목은 세그먼트 안에서 DELIVERED로 표시되며, 봉인된 세그먼트의 항목이 모두 발송되면
+ * 파일을 삭제(compaction)합니다. 재시작 시 남은 세그먼트의 미발송 항목을 다시 발송합니다.
+ * 발송이 실패로 끝난 항목은 재시작을 기다리지 않고 백오프 후 같은 프로세스에서 다시 발송합니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutbox {
+    private final DispatchPipeline dispatchPipeline;
+    private final NotificationCoalescer notificationCoalescer;
+    private final PipelineMetrics pipelineMetrics;
+    private final ConcurrentSkipListMap<Long, OutboxSegment> segments = new ConcurrentSkipListMap<>();
+    private final DelayQueue<Redelivery> redeliveries = new DelayQueue<>();
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer scratch = ByteBuffer.allocate(1024);
+    private OutboxSegment active;
+    private FsyncPolicy fsyncPolicy;
+    private Thread reader;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    @Value("${acl.outbox.enabled:false}")
+    private boolean enabled;
+
+    @Value("${acl.outbox.directory:./data/outbox}")
+    private String directory;
+
+    @Value("${acl.outbox.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    @Value("${acl.outbox.fsync:interval}")
+    private String fsync;
+
+    @Value("${acl.outbox.fsync-interval-ms:1000}")
+    private long fsyncIntervalMs;
+
+    @Value("${acl.outbox.compaction-interval-ms:10000}")
+    private long compactionIntervalMs;
+
+    @Value("${acl.outbox.redelivery-initial-backoff-ms:1000}")
+    private long redeliveryInitialBackoffMs;
+
+    @Value("${acl.outbox.redelivery-max-backoff-ms:60000}")
+    private long redeliveryMaxBackoffMs;
+
+    public NotificationOutbox(
+            DispatchPipeline dispatchPipeline,
+            NotificationCoalescer notificationCoalescer,
+            PipelineMetrics pipelineMetrics) {
+        this.dispatchPipeline = dispatchPipeline;
+        this.notificationCoalescer = notificationCoalescer;
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        fsyncPolicy = FsyncPolicy.valueOf(fsync.toUpperCase(Locale.ROOT));
+        Path dir = Path.of(directory);
+        Files.createDirectories(dir);
+
+        recover(dir);
+        long nextId = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+        active = OutboxSegment.create(dir, nextId, segmentBytes);
+        segments.put(active.id(), active);
+
+        running = true;
+        reader = new Thread(this::readLoop, "outbox-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "outbox-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            scheduler.scheduleWithFixedDelay(this::forceActive, fsyncIntervalMs, fsyncIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(this::compact, compactionIntervalMs, compactionIntervalMs, TimeUnit.MILLISECONDS);
+
+        pipelineMetrics.registerGauge("acl.outbox.pending", "Outbox entries not yet delivered",
+                this, NotificationOutbox::pendingEntries);
+        pipelineMetrics.registerGauge("acl.outbox.segments", "Outbox segment files on disk",
+                segments, Map::size);
+        pipelineMetrics.registerGauge("acl.outbox.redeliveries", "Failed outbox entries waiting for redelivery",
+                redeliveries, DelayQueue::size);
+        log.info("Notification outbox started in {} (segment {} bytes, fsync {}, {} entries to replay)",
+                dir.toAbsolutePath(), segmentBytes, fsyncPolicy, (long) pendingEntries());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(reader);
+        try {
+            reader.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler.shutdownNow();
+        synchronized (this) {
+            active.force();
+        }
+        // 세그먼트 매핑은 파이프라인이 남은 발송을 끝낼 때까지 유효하므로 채널만 닫음
+        segments.values().forEach(OutboxSegment::close);
+        log.info("Notification outbox stopped with {} entries pending", (long) pendingEntries());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 알림을 outbox에 기록합니다. 반환 후에는 체크포인트를 진행해도 알림이 유실되지 않습니다.
+     * (fsync=always가 아니면 OS 장애 시 마지막 fsync 이후 기록은 보장되지 않습니다)
+     */
+    public void append(ExcessNotificationSoap notification) {
+        synchronized (this) {
+            ByteBuffer payload = encode(notification);
+            crc.reset();
+            crc.update(payload.duplicate());
+            int checksum = (int) crc.getValue();
+
+            int offset = active.append(payload, checksum);
+            if (offset < 0) {
+                rollover();
+                offset = active.append(payload, checksum);
+                if (offset < 0) {
+                    throw new NotificationException("outbox 세그먼트보다 큰 항목입니다: " + payload.remaining() + " bytes");
+                }
+            }
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                active.force(offset, OutboxSegment.HEADER_BYTES + payload.remaining());
+            }
+        }
+        LockSupport.unpark(reader);
+    }
+
+    private ByteBuffer encode(ExcessNotificationSoap notification) {
+        while (true) {
+            scratch.clear();
+            try {
+                OutboxCodec.encode(notification, scratch);
+                return scratch.flip();
+            } catch (BufferOverflowException e) {
+                scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+            }
+        }
+    }
+
+    private void rollover() {
+        OutboxSegment previous = active;
+        previous.seal();
+        previous.force();
+        try {
+            active = OutboxSegment.create(Path.of(directory), previous.id() + 1, segmentBytes);
+        } catch (IOException e) {
+            throw new NotificationException("outbox 세그먼트 생성 실패", e);
+        }
+        segments.put(active.id(), active);
+        log.debug("Outbox rolled over to segment {}", active.id());
+    }
+
+    private void recover(Path dir) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(OutboxSegment.SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            OutboxSegment segment = OutboxSegment.recover(file);
+            if (segment.pending() == 0) {
+                segment.delete();
+                continue;
+            }
+            segments.put(segment.id(), segment);
+        }
+    }
+
+    /**
+     * 로그를 처음부터 따라 읽으며 미발송 항목을 발송 파이프라인에 넘깁니다.
+     * 백오프가 끝난 재발송 항목을 먼저 넘기고, 그 다음 새 항목을 읽습니다.
+     * 파이프라인 큐가 가득 차면 이 스레드만 대기하므로 append(체크포인트) 경로에는 영향이 없습니다.
+     */
+    private void readLoop() {
+        OutboxSegment segment = segments.firstEntry().getValue();
+        int offset = 0;
+        while (running) {
+            if (!redeliverDue()) {
+                return;
+            }
+            if (offset < segment.writePosition()) {
+                int length = segment.lengthAt(offset);
+                if (segment.isPending(offset)) {
+                    ExcessNotificationSoap notification = OutboxCodec.decode(segment.payloadAt(offset));
+                    if (!deliver(new OutboxEntry(segment, offset, 0), notification)) {
+                        return;
+                    }
+                }
+                offset += OutboxSegment.HEADER_BYTES + length;
+                continue;
+            }
+            if (segment.isSealed() && offset >= segment.writePosition()) {
+                Map.Entry<Long, OutboxSegment> next = segments.higherEntry(segment.id());
+                if (next != null) {
+                    segment = next.getValue();
+                    offset = 0;
+                    continue;
+                }
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+    }
+
+    private boolean redeliverDue() {
+        Redelivery redelivery;
+        while ((redelivery = redeliveries.poll()) != null) {
+            OutboxEntry entry = redelivery.entry();
+            if (!entry.segment.isPending(entry.offset)) {
+                continue;
+            }
+            log.info("Redelivering {} (attempt {})", entry, entry.failures + 1);
+            if (!deliver(entry, OutboxCodec.decode(entry.segment.payloadAt(entry.offset)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 실패한 항목을 지수 백오프 후 다시 발송하도록 예약합니다. 항목은 PENDING으로 남아 있으므로
+     * 그 사이 프로세스가 종료되어도 재시작 시 다시 발송됩니다.
+     */
+    private void scheduleRedelivery(OutboxEntry entry, Throwable error) {
+        int failures = entry.failures + 1;
+        int shift = Math.min(failures - 1, 30);
+        long delayMs = Math.min(redeliveryMaxBackoffMs, redeliveryInitialBackoffMs << shift);
+        log.warn("Dispatch of {} failed ({} times), redelivering in {}ms: {}",
+                entry, failures, delayMs, error.getMessage());
+        redeliveries.add(new Redelivery(new OutboxEntry(entry.segment, entry.offset, failures),
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs)));
+        LockSupport.unpark(reader);
+    }
+
+    private boolean deliver(OutboxEntry entry, ExcessNotificationSoap notification) {
+        try {
+            if (notificationCoalescer.isEnabled()) {
+                notificationCoalescer.submit(entry, notification);
+            } else {
+                dispatchPipeline.submit(entry, notification);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Outbox reader interrupted, remaining entries will be replayed on restart");
+            return false;
+        }
+    }
+
+    private void forceActive() {
+        OutboxSegment segment;
+        synchronized (this) {
+            segment = active;
+        }
+        try {
+            segment.force();
+        } catch (Exception e) {
+            log.warn("Failed to force outbox segment: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 봉인되어 더 이상 기록되지 않고 모든 항목이 발송된 세그먼트를 삭제합니다.
+     */
+    private void compact() {
+        List<OutboxSegment> delivered = new ArrayList<>();
+        for (OutboxSegment segment : segments.values()) {
+            if (segment.isSealed() && segment.pending() == 0) {
+                delivered.add(segment);
+            }
+        }
+        for (OutboxSegment segment : delivered) {
+            segments.remove(segment.id());
+            try {
+                segment.delete();
+                log.debug("Compacted delivered outbox segment {}", segment.id());
+            } catch (IOException e) {
+                log.warn("Failed to delete outbox segment {}: {}", segment.id(), e.getMessage());
+            }
+        }
+    }
+
+    private double pendingEntries() {
+        long pending = 0;
+        for (OutboxSegment segment : segments.values()) {
+            pending += segment.pending();
+        }
+        return pending;
+    }
+
+    enum FsyncPolicy {
+        /** 항목마다 fsync: 가장 안전하지만 처리량이 가장 낮음 */
+        ALWAYS,
+        /** fsync-interval-ms 주기로 fsync: 프로세스 장애에는 안전, OS 장애 시 마지막 주기 기록 유실 가능 */
+        INTERVAL,
+        /** OS 페이지 캐시 기록에 맡김 */
+        NONE
+    }
+
+    private final class OutboxEntry implements DispatchHandle {
+        private final OutboxSegment segment;
+        private final int offset;
+        private final int failures;
+
+        /**
+         * @param failures 지금까지 발송이 실패한 횟수
+         */
+        private OutboxEntry(OutboxSegment segment, int offset, int failures) {
+            this.segment = segment;
+            this.offset = offset;
+            this.failures = failures;
+        }
+
+        @Override
+        public void complete() {
+            segment.markDelivered(offset);
+        }
+
+        @Override
+        public void fail(Throwable error) {
+            scheduleRedelivery(this, error);
+        }
+
+        @Override
+        public String toString() {
+            return "outbox segment " + segment.id() + " offset " + offset;
+        }
+    }
+
+    private record Redelivery(OutboxEntry entry, long dueNanos) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.telecom.acl.service.outbox;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * outbox 항목의 payload 직렬화입니다.
+ * 필드 순서: userSequence, svcTypeCd, usedQty, baseQty, exceedQty, notifyDtm
+ * 문자열은 길이(int, null이면 -1) + UTF-8, 정수는 null 여부(byte) + int 로 기록합니다.
+ */
+final class OutboxCodec {
+
+    private OutboxCodec() {
+    }
+
+    static void encode(ExcessNotificationSoap notification, ByteBuffer out) {
+        putString(out, notification.getUserSequence());
+        putString(out, notification.getSvcTypeCd());
+        putInteger(out, notification.getUsedQty());
+        putInteger(out, notification.getBaseQty());
+        putInteger(out, notification.getExceedQty());
+        putString(out, notification.getNotifyDtm());
+    }
+
+    static ExcessNotificationSoap decode(ByteBuffer in) {
+        return ExcessNotificationSoap.builder()
+                .userSequence(getString(in))
+                .svcTypeCd(getString(in))
+                .usedQty(getInteger(in))
+                .baseQty(getInteger(in))
+                .exceedQty(getInteger(in))
+                .notifyDtm(getString(in))
+                .build();
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putInteger(ByteBuffer out, Integer value) {
+        out.put(value == null ? (byte) 0 : (byte) 1);
+        out.putInt(value == null ? 0 : value);
+    }
+
+    private static Integer getInteger(ByteBuffer in) {
+        boolean present = in.get() != 0;
+        int value = in.getInt();
+        return present ? value : null;
+    }
+}
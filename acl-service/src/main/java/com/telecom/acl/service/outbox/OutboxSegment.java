@@ -0,0 +1,183 @@
+package com.telecom.acl.service.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * 고정 크기로 미리 할당해 memory-map 한 outbox 세그먼트 파일입니다.
+ * 항목 형식: length(int) | crc32(int) | state(byte) | payload(length bytes)
+ * length는 payload와 crc를 쓴 뒤 마지막에 기록하며, 0이면 기록된 항목의 끝을 뜻합니다.
+ * state는 발송이 끝나면 제자리에서 DELIVERED로 바뀌며 crc 계산 대상이 아닙니다.
+ * 공유 매핑 버퍼에 대한 쓰기(append, state 변경)와 state 읽기는 세그먼트 단위로 직렬화하고,
+ * 다른 스레드는 volatile writePosition을 읽은 뒤에만 그 앞의 항목을 읽습니다.
+ */
+@Slf4j
+class OutboxSegment {
+    static final int HEADER_BYTES = 9;
+    static final String SUFFIX = ".seg";
+
+    private static final int CRC_OFFSET = 4;
+    private static final int STATE_OFFSET = 8;
+    private static final byte PENDING = 0;
+    private static final byte DELIVERED = 1;
+
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile int writePosition;
+    private volatile boolean sealed;
+
+    private OutboxSegment(long id, Path path, FileChannel channel, int size) throws IOException {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    static OutboxSegment create(Path directory, long id, int size) throws IOException {
+        Path path = directory.resolve(fileName(id));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new OutboxSegment(id, path, channel, size);
+    }
+
+    /**
+     * 기존 세그먼트를 열어 유효한 항목 끝까지 스캔합니다. 복구된 세그먼트는 봉인(sealed) 상태로 열립니다.
+     * crc가 맞지 않는 항목(기록 도중 중단된 항목)부터는 버립니다.
+     */
+    static OutboxSegment recover(Path path) throws IOException {
+        long id = Long.parseLong(path.getFileName().toString().replace(SUFFIX, ""));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        OutboxSegment segment = new OutboxSegment(id, path, channel, (int) channel.size());
+
+        CRC32 crc = new CRC32();
+        int offset = 0;
+        int pendingEntries = 0;
+        while (true) {
+            int length = segment.lengthAt(offset);
+            if (length <= 0) {
+                break;
+            }
+            crc.reset();
+            crc.update(segment.buffer.slice(offset + HEADER_BYTES, length));
+            if ((int) crc.getValue() != segment.buffer.getInt(offset + CRC_OFFSET)) {
+                log.warn("Outbox segment {} has a torn entry at offset {}, truncating", path, offset);
+                break;
+            }
+            if (segment.isPending(offset)) {
+                pendingEntries++;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        segment.writePosition = offset;
+        segment.pending.set(pendingEntries);
+        segment.sealed = true;
+        return segment;
+    }
+
+    static String fileName(long id) {
+        return String.format("%020d%s", id, SUFFIX);
+    }
+
+    long id() {
+        return id;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    void seal() {
+        sealed = true;
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    /**
+     * payload(position~limit)를 세그먼트 끝에 추가합니다. 공간이 부족하면 -1을 반환합니다.
+     * 호출자가 append를 직렬화해야 합니다.
+     */
+    synchronized int append(ByteBuffer payload, int crc) {
+        int offset = writePosition;
+        int length = payload.remaining();
+        int end = offset + HEADER_BYTES + length;
+        if (sealed || end > buffer.capacity()) {
+            return -1;
+        }
+        buffer.put(offset + HEADER_BYTES, payload, payload.position(), length);
+        buffer.putInt(offset + CRC_OFFSET, crc);
+        buffer.put(offset + STATE_OFFSET, PENDING);
+        if (end + 4 <= buffer.capacity()) {
+            buffer.putInt(end, 0);
+        }
+        buffer.putInt(offset, length);
+        pending.incrementAndGet();
+        writePosition = end;
+        return offset;
+    }
+
+    int lengthAt(int offset) {
+        if (offset + HEADER_BYTES > buffer.capacity()) {
+            return 0;
+        }
+        int length = buffer.getInt(offset);
+        return offset + HEADER_BYTES + length > buffer.capacity() ? 0 : length;
+    }
+
+    synchronized boolean isPending(int offset) {
+        return buffer.get(offset + STATE_OFFSET) == PENDING;
+    }
+
+    ByteBuffer payloadAt(int offset) {
+        return buffer.slice(offset + HEADER_BYTES, buffer.getInt(offset));
+    }
+
+    /**
+     * 항목을 DELIVERED로 표시합니다. 이미 표시된 항목이면 아무 것도 하지 않으므로 여러 번 호출해도 됩니다.
+     */
+    synchronized void markDelivered(int offset) {
+        if (buffer.get(offset + STATE_OFFSET) == DELIVERED) {
+            return;
+        }
+        buffer.put(offset + STATE_OFFSET, DELIVERED);
+        pending.decrementAndGet();
+    }
+
+    void force(int offset, int length) {
+        buffer.force(offset, length);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close outbox segment {}: {}", path, e.getMessage());
+        }
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+}
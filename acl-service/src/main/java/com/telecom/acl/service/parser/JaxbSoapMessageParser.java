@@ -0,0 +1,57 @@
+package com.telecom.acl.service.parser;
+
+import com.telecom.acl.common.exception.NotificationException;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.common.soap.SoapEnvelope;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.StringReader;
+
+/**
+ * JAXB 기반 파서입니다. {@link Unmarshaller}는 thread-safe 하지 않으므로 스레드별로 하나씩 생성해 재사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "soap.parser.engine", havingValue = "jaxb")
+public class JaxbSoapMessageParser implements SoapMessageParser {
+
+    private final ThreadLocal<Unmarshaller> unmarshallers;
+
+    public JaxbSoapMessageParser(JAXBContext jaxbContext) {
+        this.unmarshallers = ThreadLocal.withInitial(() -> createUnmarshaller(jaxbContext));
+        log.info("JAXB SOAP parser initialized");
+    }
+
+    @Override
+    public ExcessNotificationSoap parse(String soapXml) {
+        try {
+            SoapEnvelope envelope = (SoapEnvelope) unmarshallers.get().unmarshal(new StringReader(soapXml));
+
+            if (envelope == null || envelope.getBody() == null || envelope.getBody().getNotification() == null) {
+                throw new NotificationException("Invalid SOAP message structure");
+            }
+            return envelope.getBody().getNotification();
+
+        } catch (JAXBException e) {
+            throw new NotificationException("SOAP XML 파싱 실패", e);
+        }
+    }
+
+    @Override
+    public String engine() {
+        return "jaxb";
+    }
+
+    private static Unmarshaller createUnmarshaller(JAXBContext jaxbContext) {
+        try {
+            return jaxbContext.createUnmarshaller();
+        } catch (JAXBException e) {
+            throw new NotificationException("JAXB unmarshaller 생성 실패", e);
+        }
+    }
+}
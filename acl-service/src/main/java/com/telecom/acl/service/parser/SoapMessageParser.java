@@ -0,0 +1,24 @@
+package com.telecom.acl.service.parser;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+
+/**
+ * KOS SOAP 알림 메시지를 {@link ExcessNotificationSoap}으로 변환하는 파서 SPI입니다.
+ * 구현체는 여러 Event Hub 파티션 스레드에서 동시에 호출될 수 있으므로 thread-safe 해야 합니다.
+ */
+public interface SoapMessageParser {
+
+    /**
+     * SOAP XML을 파싱합니다.
+     *
+     * @param soapXml SOAP Envelope 문자열
+     * @return 파싱된 초과 사용 알림
+     * @throws com.telecom.acl.common.exception.NotificationException 파싱 실패 또는 구조가 올바르지 않은 경우
+     */
+    ExcessNotificationSoap parse(String soapXml);
+
+    /**
+     * 설정 및 로그에 사용할 파서 엔진 이름입니다.
+     */
+    String engine();
+}
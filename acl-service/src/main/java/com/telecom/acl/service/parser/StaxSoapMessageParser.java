@@ -0,0 +1,194 @@
+package com.telecom.acl.service.parser;
+
+import com.telecom.acl.common.exception.NotificationException;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+
+/**
+ * StAX 스트리밍 파서입니다.
+ * Envelope/Body/ExcessNotification 경로만 따라가며 6개 필드를 바로 읽고, 객체 그래프를 만들지 않습니다.
+ * 숫자 필드는 문자 버퍼에서 직접 변환하여 중간 문자열을 만들지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "soap.parser.engine", havingValue = "stax", matchIfMissing = true)
+public class StaxSoapMessageParser implements SoapMessageParser {
+
+    static final String SOAP_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+    static final String KOS_NS = "http://kos.telecom.com/notifications";
+
+    // JDK 기본 XMLInputFactory 구현은 동시 사용을 보장하지 않으므로 스레드별로 한 번만 생성해 재사용
+    private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY =
+            ThreadLocal.withInitial(StaxSoapMessageParser::createInputFactory);
+
+    private static final int BEFORE_ENVELOPE = 0;
+    private static final int IN_ENVELOPE = 1;
+    private static final int IN_BODY = 2;
+    private static final int IN_NOTIFICATION = 3;
+
+    @Override
+    public ExcessNotificationSoap parse(String soapXml) {
+        XMLStreamReader reader = null;
+        try {
+            reader = INPUT_FACTORY.get().createXMLStreamReader(new StringReader(soapXml));
+            return readEnvelope(reader);
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new NotificationException("SOAP XML 파싱 실패", e);
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    @Override
+    public String engine() {
+        return "stax";
+    }
+
+    private ExcessNotificationSoap readEnvelope(XMLStreamReader reader) throws XMLStreamException {
+        ExcessNotificationSoap notification = null;
+        int state = BEFORE_ENVELOPE;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (state) {
+                    case BEFORE_ENVELOPE -> {
+                        if (!isElement(reader, SOAP_NS, "Envelope")) {
+                            throw new NotificationException("Invalid SOAP message structure");
+                        }
+                        state = IN_ENVELOPE;
+                    }
+                    case IN_ENVELOPE -> {
+                        if (isElement(reader, SOAP_NS, "Body")) {
+                            state = IN_BODY;
+                        } else {
+                            skipElement(reader);  // soap:Header 등
+                        }
+                    }
+                    case IN_BODY -> {
+                        if (isElement(reader, KOS_NS, "ExcessNotification")) {
+                            notification = new ExcessNotificationSoap();
+                            state = IN_NOTIFICATION;
+                        } else {
+                            skipElement(reader);
+                        }
+                    }
+                    default -> readField(reader, notification);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && state == IN_NOTIFICATION) {
+                // 필요한 필드를 모두 읽었으므로 나머지 문서는 읽지 않음
+                return notification;
+            }
+        }
+        throw new NotificationException("Invalid SOAP message structure");
+    }
+
+    private void readField(XMLStreamReader reader, ExcessNotificationSoap notification) throws XMLStreamException {
+        switch (reader.getLocalName()) {
+            case "userSequence" -> notification.setUserSequence(reader.getElementText());
+            case "svcTypeCd" -> notification.setSvcTypeCd(reader.getElementText());
+            case "usedQty" -> notification.setUsedQty(readInteger(reader));
+            case "baseQty" -> notification.setBaseQty(readInteger(reader));
+            case "exceedQty" -> notification.setExceedQty(readInteger(reader));
+            case "notifyDtm" -> notification.setNotifyDtm(reader.getElementText());
+            default -> skipElement(reader);
+        }
+    }
+
+    /**
+     * 현재 요소의 텍스트를 문자 버퍼에서 직접 정수로 변환합니다. 값이 비어 있으면 null을 반환합니다.
+     */
+    private Integer readInteger(XMLStreamReader reader) throws XMLStreamException {
+        long value = 0;
+        boolean negative = false;
+        boolean digits = false;
+        boolean trailingSpace = false;
+
+        int event = reader.next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE) {
+                char[] chars = reader.getTextCharacters();
+                int end = reader.getTextStart() + reader.getTextLength();
+                for (int i = reader.getTextStart(); i < end; i++) {
+                    char c = chars[i];
+                    if (Character.isWhitespace(c)) {
+                        trailingSpace = digits || negative;
+                    } else if (trailingSpace) {
+                        throw new NumberFormatException("Invalid integer value");
+                    } else if (c == '-' && !digits && !negative) {
+                        negative = true;
+                    } else if (c == '+' && !digits && !negative) {
+                        // 부호만 허용
+                    } else if (c >= '0' && c <= '9') {
+                        value = value * 10 + (c - '0');
+                        if (value > (long) Integer.MAX_VALUE + 1) {
+                            throw new NumberFormatException("Integer value out of range");
+                        }
+                        digits = true;
+                    } else {
+                        throw new NumberFormatException("Invalid integer value");
+                    }
+                }
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                throw new NotificationException("Unexpected element in " + reader.getLocalName());
+            }
+            event = reader.next();
+        }
+
+        if (!digits) {
+            if (negative) {
+                throw new NumberFormatException("Invalid integer value");
+            }
+            return null;
+        }
+        long signed = negative ? -value : value;
+        if (signed > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Integer value out of range");
+        }
+        return (int) signed;
+    }
+
+    private static boolean isElement(XMLStreamReader reader, String namespace, String localName) {
+        return localName.equals(reader.getLocalName()) && namespace.equals(reader.getNamespaceURI());
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            log.debug("Failed to close XML stream reader: {}", e.getMessage());
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+}
@@ -0,0 +1,17 @@
+package com.telecom.acl.service.pipeline;
+
+/**
+ * 발송 파이프라인에 투입된 알림 한 건의 완료 핸들입니다.
+ * 모든 채널 발송이 끝나면 {@link #complete()}가 호출되고, 구현체가 체크포인트나 outbox 상태를 전진시킵니다.
+ * 발송 결과를 남길 수 없는 오류(렌더링, 중복 확인 등)로 끝나면 {@link #fail(Throwable)}이 호출되며,
+ * 어느 쪽이든 투입된 알림은 반드시 한 번 종료 처리되어야 합니다.
+ */
+public interface DispatchHandle {
+
+    void complete();
+
+    /**
+     * 알림을 처리하지 못했음을 알립니다. 구현체는 이 알림이 다시 처리되도록 해야 합니다.
+     */
+    void fail(Throwable error);
+}
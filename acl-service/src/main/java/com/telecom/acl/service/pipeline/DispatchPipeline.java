@@ -0,0 +1,163 @@
+package com.telecom.acl.service.pipeline;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.service.NotificationSender;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event Hub 콜백과 채널 발송 사이의 병렬 발송 파이프라인입니다.
+ * userSequence 해시로 레인을 고정하므로 같은 사용자의 알림은 순서대로 발송되고,
+ * 서로 다른 사용자의 알림은 여러 레인에서 동시에 처리됩니다.
+ * 레인 큐는 크기가 제한되어 있어 가득 차면 콜백 스레드가 대기합니다(backpressure).
+ * 종료 시 레인을 모두 비운 뒤 체크포인트가 flush 되도록 tracker보다 먼저 정리됩니다.
+ */
+@Slf4j
+@Component
+@DependsOn("partitionCheckpointTracker")
+public class DispatchPipeline {
+    private final NotificationSender notificationSender;
+    private final ThreadFactory threadFactory;
+    private final PipelineMetrics pipelineMetrics;
+
+    @Value("${acl.pipeline.lanes:0}")
+    private int laneCount;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${acl.pipeline.queue-capacity:256}")
+    private int queueCapacity;
+
+    private Lane[] lanes;
+    private volatile boolean running;
+
+    public DispatchPipeline(
+            NotificationSender notificationSender,
+            @Qualifier("dispatchThreadFactory") ThreadFactory threadFactory,
+            PipelineMetrics pipelineMetrics) {
+        this.notificationSender = notificationSender;
+        this.threadFactory = threadFactory;
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    @PostConstruct
+    public void start() {
+        int count = laneCount > 0 ? laneCount : defaultLaneCount();
+        running = true;
+        lanes = new Lane[count];
+        for (int i = 0; i < count; i++) {
+            lanes[i] = new Lane(i, new ArrayBlockingQueue<>(queueCapacity));
+            lanes[i].thread.start();
+        }
+        pipelineMetrics.registerGauge("acl.pipeline.queued", "Events waiting in dispatch lanes",
+                this, DispatchPipeline::queuedTasks);
+        log.info("Dispatch pipeline started with {} {} lanes (queue capacity {})",
+                count, virtualThreadsEnabled ? "virtual" : "platform", queueCapacity);
+    }
+
+    private double queuedTasks() {
+        int queued = 0;
+        for (Lane lane : lanes) {
+            queued += lane.queue.size();
+        }
+        return queued;
+    }
+
+    private int defaultLaneCount() {
+        // 가상 스레드는 블로킹 비용이 낮으므로 레인을 넉넉히 두어 사용자 간 병렬성을 높임
+        int cores = Runtime.getRuntime().availableProcessors();
+        return virtualThreadsEnabled ? Math.max(256, cores * 32) : cores * 2;
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Lane lane : lanes) {
+            try {
+                lane.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (lane.thread.isAlive()) {
+                log.warn("Dispatch lane {} did not drain in time, {} tasks left", lane.index, lane.queue.size());
+                lane.thread.interrupt();
+            }
+        }
+        log.info("Dispatch pipeline stopped");
+    }
+
+    /**
+     * 이벤트를 사용자 레인에 투입합니다. 레인 큐가 가득 차면 자리가 날 때까지 대기합니다.
+     */
+    public void submit(DispatchHandle event, ExcessNotificationSoap notification) throws InterruptedException {
+        laneOf(notification).queue.put(new DispatchTask(event, notification));
+    }
+
+    /**
+     * 레인 큐에 자리가 있으면 투입하고 true를 반환합니다. 가득 차 있으면 대기하지 않고 false를 반환합니다.
+     */
+    public boolean offer(DispatchHandle event, ExcessNotificationSoap notification) {
+        return laneOf(notification).queue.offer(new DispatchTask(event, notification));
+    }
+
+    private Lane laneOf(ExcessNotificationSoap notification) {
+        return lanes[Math.floorMod(Objects.hashCode(notification.getUserSequence()), lanes.length)];
+    }
+
+    private void runLane(Lane lane) {
+        while (running || !lane.queue.isEmpty()) {
+            DispatchTask task;
+            try {
+                task = lane.queue.poll(500, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task != null) {
+                dispatch(task);
+            }
+        }
+    }
+
+    private void dispatch(DispatchTask task) {
+        DispatchHandle event = task.event();
+        try {
+            notificationSender.sendToAllChannels(task.notification());
+            event.complete();
+            log.debug("Dispatched {} for user {}", event, task.notification().getUserSequence());
+        } catch (Exception e) {
+            // 채널 발송 실패는 재시도/dead-letter로 넘어가므로 여기까지 오는 것은 렌더링·중복 확인 등의 오류
+            // 실패로 종료해야 체크포인트가 멈춘 채 permit을 잡고 있지 않고, 소스가 이 이벤트부터 다시 읽음
+            log.error("Dispatch failed for {}: {}", event, e.getMessage(), e);
+            event.fail(e);
+        }
+    }
+
+    private record DispatchTask(DispatchHandle event, ExcessNotificationSoap notification) {}
+
+    private class Lane {
+        private final int index;
+        private final BlockingQueue<DispatchTask> queue;
+        private final Thread thread;
+
+        private Lane(int index, BlockingQueue<DispatchTask> queue) {
+            this.index = index;
+            this.queue = queue;
+            this.thread = threadFactory.newThread(() -> runLane(this));
+        }
+    }
+}
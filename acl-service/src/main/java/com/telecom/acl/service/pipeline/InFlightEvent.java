@@ -0,0 +1,44 @@
+package com.telecom.acl.service.pipeline;
+
+/**
+ * 파이프라인에 투입된 이벤트 한 건의 완료 핸들입니다.
+ */
+public class InFlightEvent implements DispatchHandle {
+    private final PartitionProgress progress;
+    private final long sequenceNumber;
+
+    InFlightEvent(PartitionProgress progress, long sequenceNumber) {
+        this.progress = progress;
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public String getPartitionId() {
+        return progress.partitionId();
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * 모든 채널 발송이 끝났음을 알립니다. 앞선 이벤트가 모두 끝나면 체크포인트 위치가 전진합니다.
+     */
+    @Override
+    public void complete() {
+        progress.complete(sequenceNumber);
+    }
+
+    /**
+     * 처리 실패를 알립니다. 파티션은 실패 상태가 되어 in-flight 한도를 모두 돌려주고,
+     * 다음 등록 시 마지막 체크포인트부터 다시 읽도록 소스에 예외를 전달합니다.
+     */
+    @Override
+    public void fail(Throwable error) {
+        progress.fail(sequenceNumber, error);
+    }
+
+    @Override
+    public String toString() {
+        return "partition " + progress.partitionId() + " sequence " + sequenceNumber;
+    }
+}
@@ -0,0 +1,150 @@
+package com.telecom.acl.service.pipeline;
+
+import com.telecom.acl.common.exception.NotificationException;
+import com.telecom.acl.common.messaging.MessagePartition;
+import com.telecom.acl.common.messaging.SourceMessage;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파이프라인 모드의 파티션별 체크포인트를 관리합니다.
+ * 완료 순서와 무관하게, 앞선 이벤트가 모두 끝난 가장 높은 시퀀스 번호까지만 주기적으로 체크포인트합니다.
+ */
+@Slf4j
+@Component
+public class PartitionCheckpointTracker {
+    private final PipelineMetrics pipelineMetrics;
+    private final Map<String, PartitionProgress> partitions = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    @Value("${acl.pipeline.max-in-flight-per-partition:1000}")
+    private int maxInFlightPerPartition;
+
+    @Value("${acl.pipeline.checkpoint-interval-ms:1000}")
+    private long checkpointIntervalMs;
+
+    public PartitionCheckpointTracker(PipelineMetrics pipelineMetrics) {
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "checkpoint-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushAll, checkpointIntervalMs, checkpointIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        flushAll();
+    }
+
+    /**
+     * 이벤트를 in-flight로 등록합니다. 파티션의 in-flight 한도를 넘으면 완료될 때까지 대기합니다.
+     * 앞서 이 파티션의 이벤트가 실패했다면 커밋된 위치까지 체크포인트하고 상태를 비운 뒤 예외를 던집니다.
+     * 예외는 메시지 소스로 전달되어 마지막 체크포인트부터 다시 읽게 됩니다.
+     * 되감은 소스가 이미 등록된 이벤트를 다시 전달하면 null을 반환하며, 호출자는 그 이벤트를 건너뜁니다.
+     */
+    public InFlightEvent register(MessagePartition partition, SourceMessage message) throws InterruptedException {
+        PartitionProgress progress = partitions.get(partition.partitionId());
+        if (progress == null) {
+            progress = partitions.computeIfAbsent(partition.partitionId(), id -> {
+                PartitionProgress created = new PartitionProgress(partition, maxInFlightPerPartition);
+                pipelineMetrics.registerInFlight(id, this, tracker -> tracker.inFlight(id));
+                return created;
+            });
+        }
+
+        if (progress.isDuplicate(message)) {
+            pipelineMetrics.eventDuplicate();
+            return null;
+        }
+        while (!progress.tryAcquire(1, TimeUnit.SECONDS)) {
+            log.warn("Partition {} reached {} in-flight events, waiting for completion",
+                    progress.partitionId(), progress.inFlight());
+        }
+        switch (progress.add(message)) {
+            case ADDED:
+                return new InFlightEvent(progress, message.sequenceNumber());
+            case DUPLICATE:
+                progress.release();
+                pipelineMetrics.eventDuplicate();
+                return null;
+            default:
+                progress.release();
+                throw reset(progress);
+        }
+    }
+
+    private NotificationException reset(PartitionProgress progress) {
+        partitions.remove(progress.partitionId(), progress);
+        writeCheckpoint(progress);
+        return new NotificationException("파티션 " + progress.partitionId()
+                + "의 이벤트 처리 실패로 마지막 체크포인트부터 다시 처리합니다", progress.failure());
+    }
+
+    private double inFlight(String partitionId) {
+        PartitionProgress progress = partitions.get(partitionId);
+        return progress == null ? 0 : progress.inFlight();
+    }
+
+    /**
+     * 파티션 처리가 정상 종료될 때 마지막 커밋 위치를 기록하고 상태를 정리합니다.
+     */
+    public void flush(String partitionId) {
+        PartitionProgress progress = partitions.remove(partitionId);
+        if (progress != null) {
+            writeCheckpoint(progress);
+        }
+    }
+
+    /**
+     * 파티션 소유권을 잃었을 때 기록하지 않고 상태만 버립니다.
+     * 새 소유자가 이미 더 앞선 위치를 체크포인트했을 수 있으므로 이 인스턴스의 위치로 덮어쓰지 않습니다.
+     */
+    public void discard(String partitionId) {
+        PartitionProgress progress = partitions.remove(partitionId);
+        if (progress != null) {
+            log.info("Discarded checkpoint state of partition {} ({} events in flight)",
+                    partitionId, progress.inFlight());
+        }
+    }
+
+    private void flushAll() {
+        partitions.values().forEach(this::writeCheckpoint);
+    }
+
+    private void writeCheckpoint(PartitionProgress progress) {
+        synchronized (progress) {
+            SourceMessage checkpoint = progress.pendingCheckpoint();
+            if (checkpoint == null) {
+                return;
+            }
+            try {
+                long startNanos = System.nanoTime();
+                progress.partition().checkpoint(checkpoint).join();
+                pipelineMetrics.recordCheckpoint(System.nanoTime() - startNanos);
+                progress.markCheckpointed(checkpoint.sequenceNumber());
+                log.debug("Updated checkpoint for partition {} to sequence {}",
+                        checkpoint.partitionId(), checkpoint.sequenceNumber());
+            } catch (Exception e) {
+                log.error("Failed to update checkpoint for partition {}: {}",
+                        checkpoint.partitionId(), e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.telecom.acl.service.pipeline;
+
+import com.telecom.acl.common.messaging.MessagePartition;
+import com.telecom.acl.common.messaging.SourceMessage;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파티션 하나의 처리 진행 상황입니다.
+ * 시퀀스 번호 순으로 in-flight 이벤트를 보관하고, 앞에서부터 연속으로 완료된 지점까지만 커밋 위치를 올립니다.
+ * 이벤트 하나가 실패하면 파티션 전체가 실패 상태가 되며, 커밋 위치는 그 앞에서 멈추고 보유한 permit은 모두 반환됩니다.
+ * 소스가 되감아 이미 등록한 시퀀스를 다시 전달하면 중복으로 보고 추가하지 않습니다
+ * (기존 in-flight 항목을 덮어쓰면 permit이 두 번 잡히고 앞선 완료가 사라짐).
+ */
+class PartitionProgress {
+    private final MessagePartition partition;
+    private final Semaphore permits;
+    private final TreeMap<Long, Pending> pending = new TreeMap<>();
+
+    private SourceMessage committed;
+    private long checkpointedSequence = -1;
+    private long lastAddedSequence = -1;
+    private Throwable failure;
+
+    PartitionProgress(MessagePartition partition, int maxInFlight) {
+        this.partition = partition;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    String partitionId() {
+        return partition.partitionId();
+    }
+
+    MessagePartition partition() {
+        return partition;
+    }
+
+    boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        return permits.tryAcquire(timeout, unit);
+    }
+
+    /**
+     * 이벤트를 in-flight로 추가합니다. 파티션이 실패 상태이면 FAILED,
+     * 이미 추가했던 시퀀스 이하이면 DUPLICATE를 반환하고 추가하지 않습니다.
+     */
+    synchronized AddResult add(SourceMessage message) {
+        if (failure != null) {
+            return AddResult.FAILED;
+        }
+        if (isDuplicate(message)) {
+            return AddResult.DUPLICATE;
+        }
+        pending.put(message.sequenceNumber(), new Pending(message));
+        lastAddedSequence = message.sequenceNumber();
+        return AddResult.ADDED;
+    }
+
+    /**
+     * 이미 추가했던 시퀀스 이하인지 확인합니다. 해당 이벤트는 in-flight이거나 이미 완료되었습니다.
+     */
+    synchronized boolean isDuplicate(SourceMessage message) {
+        return message.sequenceNumber() <= lastAddedSequence;
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    synchronized Throwable failure() {
+        return failure;
+    }
+
+    synchronized int inFlight() {
+        return pending.size();
+    }
+
+    void complete(long sequenceNumber) {
+        int released;
+        synchronized (this) {
+            Pending entry = pending.get(sequenceNumber);
+            if (entry == null) {
+                return;
+            }
+            entry.completed = true;
+            released = advance();
+        }
+        if (released > 0) {
+            permits.release(released);
+        }
+    }
+
+    /**
+     * 파티션을 실패 상태로 바꿉니다. 실패한 이벤트와 그 뒤의 in-flight 이벤트는 커밋되지 않으며
+     * (뒤늦게 완료되어도 무시됨), 이들이 잡고 있던 permit은 바로 반환되어 등록 대기가 풀립니다.
+     */
+    void fail(long sequenceNumber, Throwable error) {
+        int released;
+        synchronized (this) {
+            if (failure != null || !pending.containsKey(sequenceNumber)) {
+                return;
+            }
+            failure = error;
+            released = pending.size();
+            pending.clear();
+        }
+        permits.release(released);
+    }
+
+    /**
+     * 아직 체크포인트되지 않은 커밋 위치가 있으면 그 위치의 메시지를 반환합니다.
+     */
+    synchronized SourceMessage pendingCheckpoint() {
+        if (committed == null || committed.sequenceNumber() <= checkpointedSequence) {
+            return null;
+        }
+        return committed;
+    }
+
+    synchronized void markCheckpointed(long sequenceNumber) {
+        checkpointedSequence = Math.max(checkpointedSequence, sequenceNumber);
+    }
+
+    private int advance() {
+        int released = 0;
+        while (!pending.isEmpty() && pending.firstEntry().getValue().completed) {
+            Map.Entry<Long, Pending> head = pending.pollFirstEntry();
+            committed = head.getValue().message;
+            released++;
+        }
+        return released;
+    }
+
+    enum AddResult {
+        ADDED, DUPLICATE, FAILED
+    }
+
+    private static class Pending {
+        private final SourceMessage message;
+        private boolean completed;
+
+        private Pending(SourceMessage message) {
+            this.message = message;
+        }
+    }
+}
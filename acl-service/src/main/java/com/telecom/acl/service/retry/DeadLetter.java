@@ -0,0 +1,23 @@
+package com.telecom.acl.service.retry;
+
+import com.telecom.acl.common.dto.NotificationRequest;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+
+/**
+ * 재시도를 모두 소진한 채널 발송 한 건입니다. 재시도 대기 중인 발송의 기록에도 같은 형식을 사용합니다.
+ *
+ * @param id             dead-letter(또는 재시도) 식별자
+ * @param notification   원본 초과 알림 (중복 발송 방지 키 계산용)
+ * @param request        렌더링된 채널 발송 요청
+ * @param attempts       최초 발송을 포함한 시도 횟수
+ * @param lastError      마지막 실패 사유
+ * @param deadLetteredAt dead-letter(또는 재시도 대기) 기록 시각(epoch millis)
+ */
+public record DeadLetter(
+        String id,
+        ExcessNotificationSoap notification,
+        NotificationRequest request,
+        int attempts,
+        String lastError,
+        long deadLetteredAt) {
+}
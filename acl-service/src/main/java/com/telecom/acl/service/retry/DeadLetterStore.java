@@ -0,0 +1,417 @@
+package com.telecom.acl.service.retry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 재시도를 모두 소진한 채널 발송을 보관하는 로컬 dead-letter 저장소입니다.
+ * 추가/삭제를 append-only 파일에 기록하고("+json" / "-id"), 시작 시 읽어 남은 항목만으로 다시 씁니다.
+ * 재시도 대기 중인 발송도 같은 파일에 기록하여(">json" / "<id") 이벤트가 체크포인트된 뒤
+ * 프로세스가 종료되어도 재시작 시 재시도를 이어갈 수 있게 합니다.
+ * 기록은 전용 writer 스레드가 모인 만큼 한 번에 쓰고 flush 하며(group commit), 파일 줄 수가 유효 항목의
+ * 두 배를 넘으면(최소 compact-min-lines) 같은 스레드에서 유효 항목만으로 다시 씁니다.
+ * 메모리에는 dead-letter를 max-entries 건까지만 두고, 넘치면 가장 오래된 항목을 overflow 파일(경로 + ".overflow")로 옮깁니다.
+ */
+@Slf4j
+@Component
+public class DeadLetterStore {
+    private static final char ADD = '+';
+    private static final char REMOVE = '-';
+    private static final char RETRY_ADD = '>';
+    private static final char RETRY_REMOVE = '<';
+    private static final int MAX_BATCH = 1024;
+    private static final long WRITE_TIMEOUT_SECONDS = 10;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, DeadLetter> entries = new LinkedHashMap<>();
+    private final Map<String, DeadLetter> pendingRetries = new LinkedHashMap<>();
+    private final BlockingQueue<JournalLine> queue = new LinkedBlockingQueue<>();
+    private Path file;
+    private Path overflowFile;
+    // writer, overflowWriter, lines는 writer 스레드(종료 후에는 close)만 사용
+    private BufferedWriter writer;
+    private BufferedWriter overflowWriter;
+    private long lines;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    @Value("${acl.retry.dead-letter-path:./data/dead-letters.log}")
+    private String path;
+
+    @Value("${acl.retry.dead-letter-compact-min-lines:10000}")
+    private long compactMinLines;
+
+    private final int maxEntries;
+
+    public DeadLetterStore(
+            ObjectMapper objectMapper,
+            @Value("${acl.retry.dead-letter-max-entries:10000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+    }
+
+    @PostConstruct
+    public synchronized void init() {
+        if (path.isBlank()) {
+            return;
+        }
+        file = Path.of(path);
+        overflowFile = file.resolveSibling(file.getFileName() + ".overflow");
+        try {
+            load(file);
+            List<DeadLetter> overflow = evictOverflow();
+            if (!overflow.isEmpty()) {
+                try (BufferedWriter out = openAppend(overflowFile)) {
+                    for (DeadLetter deadLetter : overflow) {
+                        out.write(ADD + objectMapper.writeValueAsString(deadLetter));
+                        out.newLine();
+                    }
+                }
+            }
+            rewrite();
+            if (!entries.isEmpty()) {
+                log.warn("{} dead-lettered notifications waiting for replay in {}", entries.size(), path);
+            }
+            if (!pendingRetries.isEmpty()) {
+                log.info("{} channel sends pending retry in {}", pendingRetries.size(), path);
+            }
+        } catch (IOException e) {
+            log.error("Dead-letter journal disabled, entries will be kept in memory only: {}", e.getMessage());
+            closeWriters();
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::writeLoop, "dead-letter-journal-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * writer 스레드를 멈추고 큐에 남은 기록을 모두 쓴 뒤 파일을 닫습니다.
+     */
+    @PreDestroy
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = writerThread;
+            writerThread = null;
+        }
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<JournalLine> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        write(remaining);
+        closeWriters();
+    }
+
+    /**
+     * dead-letter를 추가하고 파일에 기록될 때까지 기다립니다. 메모리 보관 한도를 넘으면 가장 오래된 항목을 overflow 파일로 옮깁니다.
+     */
+    public void add(DeadLetter deadLetter) {
+        CompletableFuture<Void> written;
+        synchronized (this) {
+            entries.put(deadLetter.id(), deadLetter);
+            written = enqueue(ADD, deadLetter, false);
+            for (DeadLetter evicted : evictOverflow()) {
+                enqueue(ADD, evicted, true);
+                enqueue(REMOVE + evicted.id(), false);
+            }
+        }
+        awaitWritten(written, deadLetter.id());
+    }
+
+    public Optional<DeadLetter> remove(String id) {
+        synchronized (this) {
+            DeadLetter removed = entries.remove(id);
+            if (removed != null) {
+                enqueue(REMOVE + id, false);
+            }
+            return Optional.ofNullable(removed);
+        }
+    }
+
+    /**
+     * 재시도 대기 중인 발송을 기록합니다. 같은 id로 다시 기록하면 시도 횟수 등이 갱신됩니다.
+     * 반환 전에 파일에 flush 되므로, 이후 이벤트를 완료 처리해도 재시도가 유실되지 않습니다.
+     * 기다리는 동안 저장소 lock은 잡지 않으며, 동시에 들어온 기록은 한 번의 flush로 함께 처리됩니다.
+     */
+    public void addPendingRetry(DeadLetter retry) {
+        CompletableFuture<Void> written;
+        synchronized (this) {
+            pendingRetries.put(retry.id(), retry);
+            written = enqueue(RETRY_ADD, retry, false);
+        }
+        awaitWritten(written, retry.id());
+    }
+
+    /**
+     * 재시도 대기 기록을 지웁니다. 파일 기록은 기다리지 않으며, 기록 전에 종료되면 재시작 시 한 번 더 재시도되고
+     * 이미 발송된 채널이면 중복 발송 캐시에서 걸러집니다.
+     */
+    public synchronized void removePendingRetry(String id) {
+        if (pendingRetries.remove(id) != null) {
+            enqueue(RETRY_REMOVE + id, false);
+        }
+    }
+
+    public synchronized List<DeadLetter> pendingRetries() {
+        return new ArrayList<>(pendingRetries.values());
+    }
+
+    public synchronized List<DeadLetter> list() {
+        return new ArrayList<>(entries.values());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private List<DeadLetter> evictOverflow() {
+        List<DeadLetter> evicted = new ArrayList<>();
+        Iterator<DeadLetter> oldest = entries.values().iterator();
+        while (entries.size() > maxEntries && oldest.hasNext()) {
+            evicted.add(oldest.next());
+            oldest.remove();
+        }
+        if (!evicted.isEmpty()) {
+            log.warn("Dead-letter store exceeded {} entries, moved {} oldest to {}",
+                    maxEntries, evicted.size(), overflowFile != null ? overflowFile : "nowhere (journal disabled)");
+        }
+        return evicted;
+    }
+
+    /**
+     * 저장소 lock 안에서 호출하여 메모리 변경과 같은 순서로 기록되게 합니다.
+     */
+    private CompletableFuture<Void> enqueue(char marker, DeadLetter deadLetter, boolean overflow) {
+        try {
+            return enqueue(marker + objectMapper.writeValueAsString(deadLetter), overflow);
+        } catch (IOException e) {
+            log.warn("Failed to serialize dead letter {}: {}", deadLetter.id(), e.getMessage());
+            return null;
+        }
+    }
+
+    private CompletableFuture<Void> enqueue(String line, boolean overflow) {
+        if (!running) {
+            return null;
+        }
+        JournalLine journalLine = new JournalLine(line, overflow, new CompletableFuture<>());
+        queue.add(journalLine);
+        return journalLine.written();
+    }
+
+    private void awaitWritten(CompletableFuture<Void> written, String id) {
+        if (written == null) {
+            return;
+        }
+        try {
+            written.get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while writing {} to dead-letter journal {}", id, path);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Dead-letter journal write of {} not confirmed: {}", id, e.toString());
+        }
+    }
+
+    private void writeLoop() {
+        List<JournalLine> batch = new ArrayList<>(MAX_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                JournalLine first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            write(batch);
+            batch.clear();
+            compactIfNeeded();
+        }
+    }
+
+    private void write(List<JournalLine> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        IOException failure = null;
+        try {
+            for (JournalLine line : batch) {
+                BufferedWriter out = line.overflow() ? overflowWriter() : writer;
+                if (out == null) {
+                    throw new IOException("journal is not open");
+                }
+                out.write(line.text());
+                out.newLine();
+                if (!line.overflow()) {
+                    lines++;
+                }
+            }
+            if (writer != null) {
+                writer.flush();
+            }
+            if (overflowWriter != null) {
+                overflowWriter.flush();
+            }
+        } catch (IOException e) {
+            failure = e;
+            log.warn("Failed to append {} lines to dead-letter journal {}: {}", batch.size(), path, e.getMessage());
+        }
+        for (JournalLine line : batch) {
+            if (failure == null) {
+                line.written().complete(null);
+            } else {
+                line.written().completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * 유효 항목 대비 파일이 커졌으면 현재 상태로 다시 씁니다. 스냅숏 이후 큐에 남은 기록은 다시 쓴 파일 뒤에 이어 붙으며,
+     * 같은 id에 대해 마지막 기록이 이기므로 적용 결과는 같습니다.
+     */
+    private void compactIfNeeded() {
+        List<DeadLetter> deadLetters;
+        List<DeadLetter> retries;
+        synchronized (this) {
+            long live = entries.size() + pendingRetries.size();
+            if (lines < compactMinLines || lines <= live * 2) {
+                return;
+            }
+            deadLetters = new ArrayList<>(entries.values());
+            retries = new ArrayList<>(pendingRetries.values());
+        }
+        try {
+            long before = lines;
+            rewrite(deadLetters, retries);
+            log.debug("Compacted dead-letter journal {} from {} to {} lines", path, before, lines);
+        } catch (IOException e) {
+            log.warn("Failed to compact dead-letter journal {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                char marker = line.charAt(0);
+                if (marker == REMOVE) {
+                    entries.remove(line.substring(1));
+                } else if (marker == RETRY_REMOVE) {
+                    pendingRetries.remove(line.substring(1));
+                } else if (marker == ADD || marker == RETRY_ADD) {
+                    try {
+                        DeadLetter deadLetter = objectMapper.readValue(line.substring(1), DeadLetter.class);
+                        (marker == ADD ? entries : pendingRetries).put(deadLetter.id(), deadLetter);
+                    } catch (IOException e) {
+                        log.warn("Skipping unreadable dead-letter line: {}", e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private void rewrite() throws IOException {
+        rewrite(new ArrayList<>(entries.values()), new ArrayList<>(pendingRetries.values()));
+    }
+
+    private void rewrite(List<DeadLetter> deadLetters, List<DeadLetter> retries) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (DeadLetter deadLetter : deadLetters) {
+                out.write(ADD + objectMapper.writeValueAsString(deadLetter));
+                out.newLine();
+            }
+            for (DeadLetter retry : retries) {
+                out.write(RETRY_ADD + objectMapper.writeValueAsString(retry));
+                out.newLine();
+            }
+        }
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lines = deadLetters.size() + retries.size();
+        } finally {
+            // 옮기지 못했으면 기존 파일에 계속 이어 씀
+            writer = openAppend(file);
+        }
+    }
+
+    private BufferedWriter overflowWriter() throws IOException {
+        if (overflowWriter == null) {
+            overflowWriter = openAppend(overflowFile);
+        }
+        return overflowWriter;
+    }
+
+    private static BufferedWriter openAppend(Path target) throws IOException {
+        return Files.newBufferedWriter(target, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void closeWriters() {
+        for (BufferedWriter out : new BufferedWriter[] {writer, overflowWriter}) {
+            if (out == null) {
+                continue;
+            }
+            try {
+                out.close();
+            } catch (IOException e) {
+                log.warn("Failed to close dead-letter journal {}: {}", path, e.getMessage());
+            }
+        }
+        writer = null;
+        overflowWriter = null;
+    }
+
+    private record JournalLine(String text, boolean overflow, CompletableFuture<Void> written) {}
+}
@@ -0,0 +1,244 @@
+package com.telecom.acl.service.retry;
+
+import com.telecom.acl.common.dto.NotificationRequest;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.dedup.DeliveryCache;
+import com.telecom.acl.service.dedup.DeliveryKey;
+import com.telecom.acl.service.dto.ChannelResult;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.service.AsyncNotificationSender;
+import com.telecom.acl.service.throttle.ChannelRateLimiter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실패한 채널 발송을 채널 단위로 재시도합니다.
+ * 재시도는 컨슈머/레인 스레드가 아닌 별도 스케줄러에서 지수 백오프 + jitter 간격으로 수행되며,
+ * max-attempts를 모두 소진하면 {@link DeadLetterStore}로 옮겨 이벤트 처리는 계속 진행되게 합니다.
+ * 예약된 재시도는 원본 이벤트가 완료(체크포인트)되기 전에 {@link DeadLetterStore}에 기록되어
+ * 재시작 시 이어서 수행되며, 발송 직전에 중복 발송 캐시를 확인해 이미 발송된 채널은 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class NotificationRetryScheduler {
+    private final AsyncNotificationSender asyncNotificationSender;
+    private final DeliveryCache deliveryCache;
+    private final ChannelRateLimiter channelRateLimiter;
+    private final DeadLetterStore deadLetterStore;
+    private final PipelineMetrics pipelineMetrics;
+    private final Set<RetryTask> scheduled = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService scheduler;
+
+    @Value("${acl.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${acl.retry.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${acl.retry.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    @Value("${acl.retry.threads:2}")
+    private int threads;
+
+    public NotificationRetryScheduler(
+            AsyncNotificationSender asyncNotificationSender,
+            DeliveryCache deliveryCache,
+            ChannelRateLimiter channelRateLimiter,
+            DeadLetterStore deadLetterStore,
+            PipelineMetrics pipelineMetrics) {
+        this.asyncNotificationSender = asyncNotificationSender;
+        this.deliveryCache = deliveryCache;
+        this.channelRateLimiter = channelRateLimiter;
+        this.deadLetterStore = deadLetterStore;
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger index = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "notification-retry-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pipelineMetrics.registerGauge("acl.retry.scheduled", "Channel sends waiting for a retry",
+                scheduled, Set::size);
+        pipelineMetrics.registerGauge("acl.retry.dead-letters", "Channel sends in the dead-letter store",
+                deadLetterStore, DeadLetterStore::size);
+
+        List<DeadLetter> pending = deadLetterStore.pendingRetries();
+        for (DeadLetter retry : pending) {
+            RetryTask task = new RetryTask(retry.id(), retry.notification(), retry.request(),
+                    retry.attempts(), retry.lastError());
+            submit(task, backoffMs(task.attempts()));
+        }
+        if (!pending.isEmpty()) {
+            log.info("Resumed {} pending retries from the previous run", pending.size());
+        }
+    }
+
+    /**
+     * 아직 재시도하지 못한 발송은 저장소에 재시도 대기로 남아 있으므로 재시작 시 이어서 수행됩니다.
+     */
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        if (!scheduled.isEmpty()) {
+            log.info("{} pending retries will resume on restart", scheduled.size());
+        }
+        scheduled.clear();
+    }
+
+    /**
+     * 재시도가 켜져 있으면 true. max-attempts가 1 이하이면 실패한 채널은 바로 dead-letter로 옮겨집니다.
+     */
+    public boolean isEnabled() {
+        return maxAttempts > 1;
+    }
+
+    /**
+     * 최초 발송에 실패한 채널 요청의 재시도를 예약합니다. 재시도가 꺼져 있으면 바로 dead-letter로 옮깁니다.
+     * 어느 쪽이든 저장소에 기록된 뒤 반환하므로, 호출자가 이벤트를 완료 처리해도 실패한 발송이 사라지지 않습니다.
+     */
+    public void scheduleRetry(ExcessNotificationSoap notification, NotificationRequest request, String error) {
+        RetryTask task = new RetryTask(UUID.randomUUID().toString(), notification, request, 1, error);
+        if (!isEnabled()) {
+            deadLetter(task, error);
+            return;
+        }
+        schedule(task);
+    }
+
+    /**
+     * dead-letter 항목을 저장소에서 꺼내 바로 다시 발송합니다. 실패하면 처음부터 재시도 횟수를 다시 셉니다.
+     * 그 사이 다른 경로로 이미 발송된 채널이면 발송하지 않고 정리합니다.
+     */
+    public boolean replay(String deadLetterId) {
+        return deadLetterStore.remove(deadLetterId)
+                .map(deadLetter -> {
+                    log.info("Replaying dead letter {} ({} for user {})", deadLetter.id(),
+                            deadLetter.request().getChannel(), deadLetter.request().getUserId());
+                    RetryTask task = new RetryTask(deadLetter.id(), deadLetter.notification(), deadLetter.request(),
+                            0, deadLetter.lastError());
+                    deadLetterStore.addPendingRetry(pendingRecord(task));
+                    submit(task, 0);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    public int replayAll() {
+        int replayed = 0;
+        for (DeadLetter deadLetter : deadLetterStore.list()) {
+            if (replay(deadLetter.id())) {
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    private void schedule(RetryTask task) {
+        long delayMs = backoffMs(task.attempts());
+        log.warn("Retrying {} notification for user {} in {}ms (attempt {}/{}): {}", task.request().getChannel(),
+                task.request().getUserId(), delayMs, task.attempts() + 1, maxAttempts, task.lastError());
+        deadLetterStore.addPendingRetry(pendingRecord(task));
+        submit(task, delayMs);
+    }
+
+    private void submit(RetryTask task, long delayMs) {
+        scheduled.add(task);
+        try {
+            scheduler.schedule(() -> attempt(task), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 저장소에 재시도 대기로 남아 있으므로 재시작 시 이어서 수행됨
+            scheduled.remove(task);
+            log.warn("Retry scheduler stopped, {} will resume on restart", task.id());
+        }
+    }
+
+    /**
+     * 지수 백오프에 equal jitter를 적용합니다: [backoff/2, backoff] 구간의 임의 값.
+     * 같은 시점에 실패한 요청들이 동시에 재시도하며 notification-mock을 다시 몰아치지 않도록 분산합니다.
+     */
+    private long backoffMs(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << shift);
+        long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+    }
+
+    /**
+     * 이미 발송된 채널이면 건너뛰고, 아니면 채널 발송 한도를 대기 없이 예약해 발송합니다.
+     * 재시도 스레드는 토큰을 기다리며 잠들지 않습니다.
+     */
+    private void attempt(RetryTask task) {
+        if (!scheduled.remove(task)) {
+            return;
+        }
+        NotificationRequest request = task.request();
+        if (deliveryCache.deliveredChannels(DeliveryKey.of(task.notification())).contains(request.getChannel())) {
+            deadLetterStore.removePendingRetry(task.id());
+            log.info("Skipping retry of already delivered {} notification for user {}",
+                    request.getChannel(), request.getUserId());
+            return;
+        }
+        channelRateLimiter.throttled(request.getChannel(), () -> asyncNotificationSender.send(request))
+                .thenAccept(result -> onResult(task, result));
+    }
+
+    private void onResult(RetryTask task, ChannelResult result) {
+        String channel = result.channel();
+        pipelineMetrics.recordSend(channel, result.latencyMs(), result.success());
+        int attempts = task.attempts() + 1;
+        if (result.success()) {
+            deliveryCache.markDelivered(DeliveryKey.of(task.notification()), channel);
+            deadLetterStore.removePendingRetry(task.id());
+            log.info("{} notification for user {} delivered after {} attempts",
+                    channel, task.request().getUserId(), attempts);
+            return;
+        }
+        RetryTask next = new RetryTask(task.id(), task.notification(), task.request(), attempts, result.error());
+        if (attempts >= maxAttempts) {
+            deadLetter(next, result.error());
+            return;
+        }
+        schedule(next);
+    }
+
+    private void deadLetter(RetryTask task, String error) {
+        DeadLetter deadLetter = new DeadLetter(task.id(), task.notification(), task.request(),
+                task.attempts(), error, System.currentTimeMillis());
+        deadLetterStore.add(deadLetter);
+        deadLetterStore.removePendingRetry(task.id());
+        log.error("{} notification for user {} moved to dead-letter store as {} after {} attempts: {}",
+                task.request().getChannel(), task.request().getUserId(), deadLetter.id(), task.attempts(), error);
+    }
+
+    private static DeadLetter pendingRecord(RetryTask task) {
+        return new DeadLetter(task.id(), task.notification(), task.request(), task.attempts(), task.lastError(),
+                System.currentTimeMillis());
+    }
+
+    /**
+     * @param id       저장소의 재시도 기록 식별자 (재시도 간 유지되며, 소진 시 dead-letter id가 됨)
+     * @param attempts 지금까지 실패한 시도 횟수
+     */
+    private record RetryTask(String id, ExcessNotificationSoap notification, NotificationRequest request,
+                             int attempts, String lastError) {
+    }
+}
@@ -0,0 +1,185 @@
+package com.telecom.acl.service.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telecom.acl.common.dto.NotificationRequest;
+import com.telecom.acl.common.dto.NotificationResponse;
+import com.telecom.acl.service.dto.ChannelResult;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 비동기 HTTP 클라이언트로 채널별 알림을 동시에 발송합니다.
+ * JDK HttpClient는 keep-alive 커넥션을 풀링하며, 한 채널의 지연이나 실패가 다른 채널 발송에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Service
+public class AsyncNotificationSender {
+    private static final TypeReference<List<NotificationResponse>> RESPONSE_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    @Value("${notification.mock.url}")
+    private String notificationUrl;
+
+    @Value("${notification.sender.request-timeout-ms:5000}")
+    private long requestTimeoutMs;
+
+    private URI sendUri;
+    private URI sendBatchUri;
+
+    public AsyncNotificationSender(
+            ObjectMapper objectMapper,
+            @Qualifier("notificationHttpExecutor") Executor notificationHttpExecutor,
+            @Value("${notification.sender.connect-timeout-ms:2000}") long connectTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(notificationHttpExecutor)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        this.sendUri = URI.create(notificationUrl + "/api/notifications/send");
+        this.sendBatchUri = URI.create(notificationUrl + "/api/notifications/send-batch");
+    }
+
+    /**
+     * 요청을 모두 동시에 발송하고, 가장 느린 채널이 끝나면 요청 순서대로 결과를 반환합니다.
+     */
+    public CompletableFuture<List<ChannelResult>> sendAll(List<NotificationRequest> requests) {
+        List<CompletableFuture<ChannelResult>> futures = requests.stream()
+                .map(this::send)
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * 단일 채널 요청을 발송합니다. 반환된 future는 예외로 완료되지 않고 항상 결과 객체를 담습니다.
+     */
+    public CompletableFuture<ChannelResult> send(NotificationRequest request) {
+        String channel = request.getChannel();
+        long startNanos = System.nanoTime();
+
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(sendUri)
+                    .timeout(Duration.ofMillis(requestTimeoutMs))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                    .build();
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(
+                    ChannelResult.failure(channel, elapsedMs(startNanos), e.getMessage()));
+        }
+
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> toResult(channel, response, startNanos))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("Error sending {} notification: {}", channel, cause.getMessage());
+                    return ChannelResult.failure(channel, elapsedMs(startNanos), cause.toString());
+                });
+    }
+
+    /**
+     * 여러 요청을 send-batch 호출 한 번으로 발송하고 요청 순서대로 결과를 반환합니다.
+     * 호출 자체가 실패하면 모든 요청이 같은 사유로 실패 처리됩니다.
+     */
+    public CompletableFuture<List<ChannelResult>> sendBatch(List<NotificationRequest> requests) {
+        long startNanos = System.nanoTime();
+
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(sendBatchUri)
+                    .timeout(Duration.ofMillis(requestTimeoutMs))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(requests)))
+                    .build();
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(failAll(requests, elapsedMs(startNanos), e.getMessage()));
+        }
+
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> toBatchResults(requests, response, startNanos))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("Error sending batch of {} notifications: {}", requests.size(), cause.getMessage());
+                    return failAll(requests, elapsedMs(startNanos), cause.toString());
+                });
+    }
+
+    private List<ChannelResult> toBatchResults(List<NotificationRequest> requests, HttpResponse<byte[]> response,
+                                               long startNanos) {
+        long latencyMs = elapsedMs(startNanos);
+        if (response.statusCode() / 100 != 2) {
+            log.error("Error sending batch of {} notifications: HTTP {}", requests.size(), response.statusCode());
+            return failAll(requests, latencyMs, "HTTP " + response.statusCode());
+        }
+
+        List<NotificationResponse> bodies;
+        try {
+            bodies = objectMapper.readValue(response.body(), RESPONSE_LIST);
+        } catch (Exception e) {
+            return failAll(requests, latencyMs, "Invalid response: " + e.getMessage());
+        }
+        if (bodies.size() != requests.size()) {
+            return failAll(requests, latencyMs, "Response size mismatch: " + bodies.size() + "/" + requests.size());
+        }
+
+        log.info("Batch of {} notifications sent in {}ms", requests.size(), latencyMs);
+        return IntStream.range(0, requests.size())
+                .mapToObj(i -> bodies.get(i).isSuccess()
+                        ? ChannelResult.success(requests.get(i).getChannel(), latencyMs)
+                        : ChannelResult.failure(requests.get(i).getChannel(), latencyMs, bodies.get(i).getMessage()))
+                .toList();
+    }
+
+    private static List<ChannelResult> failAll(List<NotificationRequest> requests, long latencyMs, String error) {
+        return requests.stream()
+                .map(request -> ChannelResult.failure(request.getChannel(), latencyMs, error))
+                .toList();
+    }
+
+    private ChannelResult toResult(String channel, HttpResponse<byte[]> response, long startNanos) {
+        long latencyMs = elapsedMs(startNanos);
+        if (response.statusCode() / 100 != 2) {
+            log.error("Error sending {} notification: HTTP {}", channel, response.statusCode());
+            return ChannelResult.failure(channel, latencyMs, "HTTP " + response.statusCode());
+        }
+        try {
+            NotificationResponse body = objectMapper.readValue(response.body(), NotificationResponse.class);
+            if (!body.isSuccess()) {
+                return ChannelResult.failure(channel, latencyMs, body.getMessage());
+            }
+            log.info("Notification sent via {} in {}ms: {}", channel, latencyMs, body);
+            return ChannelResult.success(channel, latencyMs);
+        } catch (Exception e) {
+            return ChannelResult.failure(channel, latencyMs, "Invalid response: " + e.getMessage());
+        }
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
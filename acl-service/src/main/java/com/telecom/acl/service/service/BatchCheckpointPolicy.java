@@ -0,0 +1,104 @@
+package com.telecom.acl.service.service;
+
+import com.telecom.acl.common.messaging.MessagePartition;
+import com.telecom.acl.common.messaging.SourceMessage;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 배치 모드에서 파티션별 체크포인트 시점을 결정하는 정책입니다.
+ * 기본값은 배치당 1회이며, N건 또는 T ms 단위로 체크포인트를 묶을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class BatchCheckpointPolicy {
+
+    @Value("${azure.eventhub.checkpoint.every-events:0}")
+    private int everyEvents;
+
+    @Value("${azure.eventhub.checkpoint.interval-ms:0}")
+    private long intervalMs;
+
+    private final Map<String, PartitionState> partitions = new ConcurrentHashMap<>();
+    private final PipelineMetrics pipelineMetrics;
+
+    public BatchCheckpointPolicy(PipelineMetrics pipelineMetrics) {
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    /**
+     * 처리가 끝난 배치를 반영하고, 정책에 따라 마지막 이벤트까지 체크포인트합니다.
+     * 빈 배치(max-wait 경과)는 시간 조건으로 밀린 체크포인트를 flush하는 데 사용됩니다.
+     */
+    public void onBatchProcessed(MessagePartition partition, List<SourceMessage> messages) {
+        String partitionId = partition.partitionId();
+        PartitionState state = partitions.computeIfAbsent(partitionId, id -> new PartitionState());
+
+        synchronized (state) {
+            if (!messages.isEmpty()) {
+                state.pendingEvents += messages.size();
+                state.pendingPartition = partition;
+                state.pendingMessage = messages.get(messages.size() - 1);
+            }
+            if (state.pendingMessage != null && shouldCheckpoint(state)) {
+                checkpoint(partitionId, state);
+            }
+        }
+    }
+
+    /**
+     * 파티션 처리가 정상 종료될 때 남아 있는 체크포인트를 기록합니다.
+     */
+    public void flush(String partitionId) {
+        PartitionState state = partitions.remove(partitionId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            if (state.pendingMessage != null) {
+                checkpoint(partitionId, state);
+            }
+        }
+    }
+
+    /**
+     * 파티션 소유권을 잃었을 때 남아 있는 체크포인트를 기록하지 않고 버립니다.
+     */
+    public void discard(String partitionId) {
+        partitions.remove(partitionId);
+    }
+
+    private boolean shouldCheckpoint(PartitionState state) {
+        if (everyEvents <= 0 && intervalMs <= 0) {
+            return true;
+        }
+        if (everyEvents > 0 && state.pendingEvents >= everyEvents) {
+            return true;
+        }
+        return intervalMs > 0 && System.currentTimeMillis() - state.lastCheckpointAt >= intervalMs;
+    }
+
+    private void checkpoint(String partitionId, PartitionState state) {
+        log.debug("Updating checkpoint for partition {} covering {} events", partitionId, state.pendingEvents);
+        long startNanos = System.nanoTime();
+        state.pendingPartition.checkpoint(state.pendingMessage).join();
+        pipelineMetrics.recordCheckpoint(System.nanoTime() - startNanos);
+        state.pendingPartition = null;
+        state.pendingMessage = null;
+        state.pendingEvents = 0;
+        state.lastCheckpointAt = System.currentTimeMillis();
+    }
+
+    private static class PartitionState {
+        private MessagePartition pendingPartition;
+        private SourceMessage pendingMessage;
+        private int pendingEvents;
+        private long lastCheckpointAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,125 @@
+package com.telecom.acl.service.service;
+
+import com.telecom.acl.common.dto.NotificationRequest;
+import com.telecom.acl.service.dto.ChannelResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 이벤트의 알림 요청을 채널별로 모아 send-batch 호출 한 번으로 발송합니다.
+ * 채널 버퍼가 max-items에 도달하거나 첫 요청 이후 linger-ms가 지나면 flush 하고,
+ * 배치 응답을 요청별 future로 되돌려 줍니다.
+ */
+@Slf4j
+@Service
+public class CoalescingNotificationSender {
+    private final AsyncNotificationSender asyncNotificationSender;
+    private final Map<String, ChannelBuffer> buffers = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    @Value("${notification.sender.batch.max-items:100}")
+    private int maxItems;
+
+    @Value("${notification.sender.batch.linger-ms:20}")
+    private long lingerMs;
+
+    public CoalescingNotificationSender(AsyncNotificationSender asyncNotificationSender) {
+        this.asyncNotificationSender = asyncNotificationSender;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "notification-batch-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        buffers.keySet().forEach(this::flush);
+        scheduler.shutdown();
+    }
+
+    /**
+     * 요청을 채널 버퍼에 추가하고, 배치 발송 후 해당 요청의 결과로 완료되는 future를 반환합니다.
+     */
+    public CompletableFuture<ChannelResult> submit(NotificationRequest request) {
+        String channel = request.getChannel();
+        ChannelBuffer buffer = buffers.computeIfAbsent(channel, c -> new ChannelBuffer());
+        CompletableFuture<ChannelResult> future = new CompletableFuture<>();
+
+        List<PendingRequest> ready = null;
+        synchronized (buffer) {
+            buffer.items.add(new PendingRequest(request, future));
+            if (buffer.items.size() >= maxItems) {
+                ready = buffer.drain();
+            } else if (buffer.flushTask == null) {
+                buffer.flushTask = scheduler.schedule(() -> flush(channel), lingerMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (ready != null) {
+            sendBatch(channel, ready);
+        }
+        return future;
+    }
+
+    private void flush(String channel) {
+        ChannelBuffer buffer = buffers.get(channel);
+        if (buffer == null) {
+            return;
+        }
+        List<PendingRequest> ready;
+        synchronized (buffer) {
+            ready = buffer.drain();
+        }
+        if (!ready.isEmpty()) {
+            sendBatch(channel, ready);
+        }
+    }
+
+    private void sendBatch(String channel, List<PendingRequest> batch) {
+        List<NotificationRequest> requests = batch.stream().map(PendingRequest::request).toList();
+        log.debug("Flushing {} {} notifications as one batch", requests.size(), channel);
+
+        asyncNotificationSender.sendBatch(requests).whenComplete((results, e) -> {
+            for (int i = 0; i < batch.size(); i++) {
+                ChannelResult result = e == null
+                        ? results.get(i)
+                        : ChannelResult.failure(channel, 0, e.getMessage());
+                batch.get(i).future().complete(result);
+            }
+        });
+    }
+
+    private record PendingRequest(NotificationRequest request, CompletableFuture<ChannelResult> future) {}
+
+    private static class ChannelBuffer {
+        private List<PendingRequest> items = new ArrayList<>();
+        private ScheduledFuture<?> flushTask;
+
+        private List<PendingRequest> drain() {
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+            List<PendingRequest> drained = items;
+            items = new ArrayList<>();
+            return drained;
+        }
+    }
+}
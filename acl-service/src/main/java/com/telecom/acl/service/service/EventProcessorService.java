@@ -1,39 +1,41 @@
 package com.telecom.acl.service.service;
 
-import com.azure.messaging.eventhubs.EventProcessorClient;
+import com.telecom.acl.common.messaging.MessageSource;
+import com.telecom.acl.service.metrics.PipelineMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class EventProcessorService {
-    private final EventProcessorClient eventProcessorClient;
+    private final MessageSource messageSource;
+    private final NotificationService notificationService;
+    private final PipelineMetrics pipelineMetrics;
 
-    @Value("${azure.eventhub.name}")
-    private String eventHubName;
-
-    public EventProcessorService(EventProcessorClient eventProcessorClient) {
-        this.eventProcessorClient = eventProcessorClient;
+    public EventProcessorService(MessageSource messageSource, NotificationService notificationService,
+                                 PipelineMetrics pipelineMetrics) {
+        this.messageSource = messageSource;
+        this.notificationService = notificationService;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     @PostConstruct
     public void startProcessors() {
         try {
-            log.info("Starting event processor for Event Hub: {}", eventHubName);
-            eventProcessorClient.start();
+            log.info("Starting event processor for {}", messageSource);
+            messageSource.start(notificationService);
+            pipelineMetrics.registerGauge("acl.eventprocessor.running", "1 if the event processor is running",
+                    messageSource, source -> source.isRunning() ? 1 : 0);
 
-            // 추가 상태 체크
-            boolean isRunning = true; // eventProcessorClient의 상태 체크 로직 필요
-            if (isRunning) {
-                log.info("Event processor successfully started and running for Event Hub: {}", eventHubName);
+            if (messageSource.isRunning()) {
+                log.info("Event processor successfully started and running for {}", messageSource);
             } else {
-                log.error("Event processor started but not running for Event Hub: {}", eventHubName);
+                log.error("Event processor started but not running for {}", messageSource);
             }
         } catch (Exception e) {
-            log.error("Failed to start event processor for Event Hub {}: {}", eventHubName, e.getMessage(), e);
+            log.error("Failed to start event processor for {}: {}", messageSource, e.getMessage(), e);
             throw new RuntimeException("Failed to start event processor", e);
         }
     }
@@ -41,11 +43,11 @@ public class EventProcessorService {
     @PreDestroy
     public void stopProcessors() {
         try {
-            log.info("Stopping event processor for Event Hub: {}", eventHubName);
-            eventProcessorClient.stop();
-            log.info("Event processor stopped successfully for Event Hub: {}", eventHubName);
+            log.info("Stopping event processor for {}", messageSource);
+            messageSource.stop();
+            log.info("Event processor stopped successfully for {}", messageSource);
         } catch (Exception e) {
-            log.error("Error stopping event processor for Event Hub {}: {}", eventHubName, e.getMessage(), e);
+            log.error("Error stopping event processor for {}: {}", messageSource, e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+}
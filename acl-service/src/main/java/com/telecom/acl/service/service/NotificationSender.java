@@ -4,76 +4,177 @@ import com.telecom.acl.common.dto.NotificationRequest;
 import com.telecom.acl.common.dto.NotificationResponse;
 import com.telecom.acl.common.exception.NotificationException;
 import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.dedup.DeliveryCache;
+import com.telecom.acl.service.dedup.DeliveryKey;
+import com.telecom.acl.service.dto.ChannelResult;
+import com.telecom.acl.service.message.NotificationMessageRenderer;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.retry.NotificationRetryScheduler;
+import com.telecom.acl.service.throttle.ChannelRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Service
 public class NotificationSender {
+    private static final List<String> CHANNELS = List.of("PUSH", "SMS", "KAKAO");
+
     private final RestTemplate restTemplate;
+    private final AsyncNotificationSender asyncNotificationSender;
+    private final CoalescingNotificationSender coalescingNotificationSender;
+    private final DeliveryCache deliveryCache;
+    private final ChannelRateLimiter channelRateLimiter;
+    private final NotificationMessageRenderer messageRenderer;
+    private final PipelineMetrics pipelineMetrics;
+    private final NotificationRetryScheduler retryScheduler;
 
     @Value("${notification.mock.url}")
     private String notificationUrl;
 
-    public NotificationSender(RestTemplate restTemplate) {
+    // async: 채널 동시 발송, batch: 이벤트 간 요청을 모아 채널별 일괄 발송, blocking: RestTemplate 순차 발송
+    @Value("${notification.sender.mode:async}")
+    private String senderMode;
+
+    public NotificationSender(
+            RestTemplate restTemplate,
+            AsyncNotificationSender asyncNotificationSender,
+            CoalescingNotificationSender coalescingNotificationSender,
+            DeliveryCache deliveryCache,
+            ChannelRateLimiter channelRateLimiter,
+            NotificationMessageRenderer messageRenderer,
+            PipelineMetrics pipelineMetrics,
+            NotificationRetryScheduler retryScheduler) {
         this.restTemplate = restTemplate;
+        this.asyncNotificationSender = asyncNotificationSender;
+        this.coalescingNotificationSender = coalescingNotificationSender;
+        this.deliveryCache = deliveryCache;
+        this.channelRateLimiter = channelRateLimiter;
+        this.messageRenderer = messageRenderer;
+        this.pipelineMetrics = pipelineMetrics;
+        this.retryScheduler = retryScheduler;
     }
 
+    /**
+     * 모든 채널을 발송하고 끝날 때까지 대기합니다.
+     * 실패한 채널은 재시도 스케줄러로 넘기고(재시도가 꺼져 있으면 바로 dead-letter) 정상 반환하므로,
+     * 이 메서드의 예외는 렌더링·중복 확인 등 발송 결과를 남기지 못한 오류를 뜻합니다.
+     */
     public void sendToAllChannels(ExcessNotificationSoap soap) {
-        sendNotification(soap, "PUSH");
-        sendNotification(soap, "SMS");
-        sendNotification(soap, "KAKAO");
+        if (!"blocking".equalsIgnoreCase(senderMode)) {
+            sendToAllChannelsAsync(soap).join();
+            return;
+        }
+
+        DeliveryKey key = DeliveryKey.of(soap);
+        Set<String> delivered = deliveryCache.deliveredChannels(key);
+        Map<String, String> messages = messageRenderer.render(soap, CHANNELS);
+        for (String channel : CHANNELS) {
+            if (delivered.contains(channel)) {
+                log.info("Skipping already delivered {} notification for user: {}", channel, soap.getUserSequence());
+                continue;
+            }
+            channelRateLimiter.acquire(channel);
+            NotificationRequest request = createNotificationRequest(soap, channel, messages.get(channel));
+            try {
+                sendNotification(request);
+            } catch (NotificationException e) {
+                retryScheduler.scheduleRetry(soap, request, e.getCause() != null ? e.getCause().toString() : e.getMessage());
+                continue;
+            }
+            deliveryCache.markDelivered(key, channel);
+        }
     }
 
-    private void sendNotification(ExcessNotificationSoap soap, String channel) {
+    /**
+     * 모든 채널을 동시에 발송하고 채널별 결과를 반환합니다. 일부 채널이 실패해도 나머지 채널은 발송됩니다.
+     * 재전송된 이벤트라면 이미 발송된 채널은 건너뛰며, 건너뛴 채널은 결과에 포함되지 않습니다.
+     * 실패한 채널은 채널 단위로 재시도가 예약되거나 dead-letter로 옮겨집니다(결과에는 실패로 남음).
+     */
+    public CompletableFuture<List<ChannelResult>> sendToAllChannelsAsync(ExcessNotificationSoap soap) {
+        DeliveryKey key = DeliveryKey.of(soap);
+        Set<String> delivered = deliveryCache.deliveredChannels(key);
+        List<String> channels = CHANNELS.stream()
+                .filter(channel -> !delivered.contains(channel))
+                .toList();
+        Map<String, String> messages = messageRenderer.render(soap, channels);
+        List<NotificationRequest> requests = channels.stream()
+                .map(channel -> createNotificationRequest(soap, channel, messages.get(channel)))
+                .toList();
+
+        if (requests.isEmpty()) {
+            log.info("Skipping duplicate notification for user: {} (already delivered via {})",
+                    soap.getUserSequence(), delivered);
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        // 채널별 발송 한도는 채널마다 따로 기다리므로 제한에 걸린 채널이 다른 채널 발송을 늦추지 않음
+        boolean batch = "batch".equalsIgnoreCase(senderMode);
+        List<CompletableFuture<ChannelResult>> futures = requests.stream()
+                .map(request -> channelRateLimiter.throttled(request.getChannel(), () -> batch
+                        ? coalescingNotificationSender.submit(request)
+                        : asyncNotificationSender.send(request)))
+                .toList();
+        CompletableFuture<List<ChannelResult>> results = CompletableFuture
+                .allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+
+        return results.thenApply(channelResults -> {
+            for (ChannelResult result : channelResults) {
+                pipelineMetrics.recordSend(result.channel(), result.latencyMs(), result.success());
+                if (result.success()) {
+                    deliveryCache.markDelivered(key, result.channel());
+                } else {
+                    retryScheduler.scheduleRetry(soap, requestFor(requests, result.channel()), result.error());
+                }
+            }
+            return channelResults;
+        });
+    }
+
+    private void sendNotification(NotificationRequest request) {
+        String channel = request.getChannel();
+        long startNanos = System.nanoTime();
         try {
-            NotificationRequest request = createNotificationRequest(soap, channel);
             NotificationResponse response = restTemplate.postForObject(
                     notificationUrl + "/api/notifications/send",
                     request,
                     NotificationResponse.class
             );
+            pipelineMetrics.recordSend(channel, elapsedMs(startNanos), true);
             log.info("Notification sent via {}: {}", channel, response);
         } catch (Exception e) {
+            pipelineMetrics.recordSend(channel, elapsedMs(startNanos), false);
             log.error("Error sending {} notification: {}", channel, e.getMessage(), e);
             throw new NotificationException(channel + " 알림 발송 실패", e);
         }
     }
 
-    private NotificationRequest createNotificationRequest(ExcessNotificationSoap soap, String channel) {
+    private NotificationRequest createNotificationRequest(ExcessNotificationSoap soap, String channel, String message) {
         return NotificationRequest.builder()
                 .userId(soap.getUserSequence())
                 .channel(channel)
-                .message(createNotificationMessage(soap))
+                .message(message)
                 .build();
     }
 
-    private String createNotificationMessage(ExcessNotificationSoap soap) {
-        String unit = getUnitByServiceType(soap.getSvcTypeCd());
-        return String.format("[%s] %s 기본 제공량을 %d%s 초과하였습니다.",
-                convertServiceType(soap.getSvcTypeCd()),
-                soap.getUserSequence(),
-                soap.getExceedQty(),
-                unit);
-    }
-
-    private String getUnitByServiceType(String svcTypeCd) {
-        return switch (svcTypeCd) {
-            case "D" -> "MB";
-            case "V" -> "분";
-            case "S" -> "건";
-            default -> throw new IllegalArgumentException("Unknown service type: " + svcTypeCd);
-        };
+    private static NotificationRequest requestFor(List<NotificationRequest> requests, String channel) {
+        for (NotificationRequest request : requests) {
+            if (request.getChannel().equals(channel)) {
+                return request;
+            }
+        }
+        throw new IllegalStateException("No request for channel " + channel);
     }
 
-    private String convertServiceType(String svcTypeCd) {
-        return switch (svcTypeCd) {
-            case "V" -> "VOICE";
-            case "D" -> "DATA";
-            case "S" -> "SMS";
-            default -> throw new IllegalArgumentException("Unknown service type: " + svcTypeCd);
-        };
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
-}
\ No newline at end of file
+}
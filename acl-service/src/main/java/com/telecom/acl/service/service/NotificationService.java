@@ -1,65 +1,196 @@
 package com.telecom.acl.service.service;
 
-import com.azure.messaging.eventhubs.models.EventContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.telecom.acl.common.dto.NotificationRequest;
 import com.telecom.acl.common.dto.NotificationResponse;
 import com.telecom.acl.common.exception.NotificationException;
+import com.telecom.acl.common.messaging.MessageHandler;
+import com.telecom.acl.common.messaging.MessagePartition;
+import com.telecom.acl.common.messaging.SourceMessage;
 import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.common.type.ServiceType;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.outbox.NotificationOutbox;
+import com.telecom.acl.service.pipeline.DispatchPipeline;
+import com.telecom.acl.service.pipeline.InFlightEvent;
+import com.telecom.acl.service.pipeline.PartitionCheckpointTracker;
+import com.telecom.acl.service.throttle.NotificationCoalescer;
 import jakarta.xml.bind.JAXBContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+
 @Slf4j
 @Service
-public class NotificationService {
+public class NotificationService implements MessageHandler {
     private final RestTemplate restTemplate;
     private final SoapParserService soapParserService;
     private final NotificationSender notificationSender;
+    private final BatchCheckpointPolicy batchCheckpointPolicy;
+    private final DispatchPipeline dispatchPipeline;
+    private final PartitionCheckpointTracker checkpointTracker;
+    private final NotificationCoalescer notificationCoalescer;
+    private final PipelineMetrics pipelineMetrics;
+    private final NotificationOutbox notificationOutbox;
 
     @Value("${notification.mock.url}")
     private String notificationUrl;
 
+    @Value("${acl.pipeline.enabled:true}")
+    private boolean pipelineEnabled;
+
     public NotificationService(
             RestTemplate restTemplate,
             SoapParserService soapParserService,
-            NotificationSender notificationSender) {
+            NotificationSender notificationSender,
+            BatchCheckpointPolicy batchCheckpointPolicy,
+            DispatchPipeline dispatchPipeline,
+            PartitionCheckpointTracker checkpointTracker,
+            NotificationCoalescer notificationCoalescer,
+            PipelineMetrics pipelineMetrics,
+            NotificationOutbox notificationOutbox) {
         this.restTemplate = restTemplate;
         this.soapParserService = soapParserService;
         this.notificationSender = notificationSender;
+        this.batchCheckpointPolicy = batchCheckpointPolicy;
+        this.dispatchPipeline = dispatchPipeline;
+        this.checkpointTracker = checkpointTracker;
+        this.notificationCoalescer = notificationCoalescer;
+        this.pipelineMetrics = pipelineMetrics;
+        this.notificationOutbox = notificationOutbox;
     }
 
-    public void processEventHubMessage(EventContext eventContext) {
+    /**
+     * 소스 파티션에서 받은 메시지 묶음을 처리합니다. (단건 모드는 1건짜리 묶음으로 전달됨)
+     * 파이프라인 모드는 발송과 체크포인트를 비동기로 넘기고, 아니면 묶음 처리 후 정책에 따라 체크포인트합니다.
+     */
+    @Override
+    public void onMessages(MessagePartition partition, List<SourceMessage> messages) {
+        String partitionId = partition.partitionId();
         try {
-            String partitionId = eventContext.getPartitionContext().getPartitionId();
-            log.info("Received event from partition {}", partitionId);
+            if (!messages.isEmpty()) {
+                log.info("Received batch of {} events from partition {}", messages.size(), partitionId);
+                pipelineMetrics.eventsReceived(partitionId, messages.size());
+                if (partition.lastEnqueuedSequenceNumber() != null) {
+                    pipelineMetrics.updateConsumerLag(partitionId, partition.lastEnqueuedSequenceNumber(),
+                            messages.get(messages.size() - 1).sequenceNumber());
+                }
+            }
+
+            for (SourceMessage message : messages) {
+                log.debug("Received SOAP XML from partition {} (seq {}): {}",
+                        partitionId, message.sequenceNumber(), message.body());
 
-            String soapXml = eventContext.getEventData().getBodyAsString();
-            log.info("Received SOAP XML from partition {}: {}", partitionId, soapXml);
+                ExcessNotificationSoap soapNotification = soapParserService.parseSoapXml(message.body());
+                if (isRejected(partitionId, soapNotification)) {
+                    // 발송 없이 체크포인트만 진행
+                    checkpointWithoutDispatch(partition, message);
+                    continue;
+                }
+                if (notificationOutbox.isEnabled()) {
+                    // outbox 기록이 끝나면 바로 체크포인트, 발송은 outbox가 비동기로 처리
+                    notificationOutbox.append(soapNotification);
+                    checkpointWithoutDispatch(partition, message);
+                    continue;
+                }
+                if (pipelineEnabled) {
+                    // 발송과 체크포인트는 파이프라인이 비동기로 처리
+                    dispatch(partition, message, soapNotification);
+                } else {
+                    processNotification(soapNotification);
+                }
+            }
 
-            // 메시지 속성 로깅
-            eventContext.getEventData().getProperties().forEach((key, value) ->
-                    log.debug("Event property - {}: {}", key, value));
+            // 묶음 전체 처리 후 정책에 따라 한 번만 체크포인트 갱신 (파이프라인 모드는 tracker가 담당)
+            if (!pipelineEnabled) {
+                batchCheckpointPolicy.onBatchProcessed(partition, messages);
+            }
 
-            ExcessNotificationSoap soapNotification = soapParserService.parseSoapXml(soapXml);
-            log.info("Successfully parsed SOAP message for user: {}", soapNotification.getUserSequence());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException("배치 이벤트 처리 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("Error processing batch from partition {}: {}", partitionId, e.getMessage(), e);
+            throw new NotificationException("배치 이벤트 처리 중 오류 발생", e);
+        }
+    }
 
-            processNotification(soapNotification);
+    /**
+     * 정상 종료(SHUTDOWN, EVENT_PROCESSOR_SHUTDOWN)일 때만 남은 체크포인트를 기록합니다.
+     * 소유권을 잃은 경우에는 새 소유자의 체크포인트를 덮어쓰지 않도록 기록하지 않고 버립니다.
+     */
+    @Override
+    public void onPartitionClosed(String partitionId, String reason) {
+        log.info("Partition {} closed: {}", partitionId, reason);
+        if (reason != null && reason.endsWith("SHUTDOWN")) {
+            batchCheckpointPolicy.flush(partitionId);
+            checkpointTracker.flush(partitionId);
+        } else {
+            batchCheckpointPolicy.discard(partitionId);
+            checkpointTracker.discard(partitionId);
+        }
+    }
 
-            // 체크포인트 갱신 전 로깅
-            log.info("Updating checkpoint for partition {} after processing message", partitionId);
-            eventContext.updateCheckpoint();
-            log.info("Successfully updated checkpoint for partition {}", partitionId);
+    @Override
+    public void onError(String partitionId, Throwable error) {
+        log.error("Error in message source (partition {}): {}", partitionId, error.getMessage(), error);
+    }
 
-        } catch (Exception e) {
-            log.error("Error processing event: {}", e.getMessage(), e);
-            throw new NotificationException("이벤트 처리 중 오류 발생", e);
+    /**
+     * 발송할 수 없는 이벤트(알 수 없는 서비스 타입 등)인지 확인합니다.
+     * 거부된 이벤트는 재처리해도 결과가 같으므로 발송하지 않고 건너뜁니다.
+     */
+    private boolean isRejected(String partitionId, ExcessNotificationSoap soap) {
+        if (ServiceType.fromCode(soap.getSvcTypeCd()).isPresent()) {
+            return false;
+        }
+        pipelineMetrics.eventRejected();
+        log.warn("Rejected event from partition {}: unknown service type {} for user {}",
+                partitionId, soap.getSvcTypeCd(), soap.getUserSequence());
+        return true;
+    }
+
+    /**
+     * 파이프라인 모드에서는 완료된 이벤트로 등록해 tracker가 체크포인트하게 하고,
+     * 아니면 묶음 끝의 체크포인트 정책에 맡깁니다.
+     */
+    private void checkpointWithoutDispatch(MessagePartition partition, SourceMessage message)
+            throws InterruptedException {
+        if (pipelineEnabled) {
+            InFlightEvent inFlightEvent = checkpointTracker.register(partition, message);
+            if (inFlightEvent != null) {
+                inFlightEvent.complete();
+            }
+        }
+    }
+
+    private void dispatch(MessagePartition partition, SourceMessage message, ExcessNotificationSoap soap)
+            throws InterruptedException {
+        InFlightEvent inFlightEvent = checkpointTracker.register(partition, message);
+        if (inFlightEvent == null) {
+            // 소스가 되감아 다시 전달한 이벤트: 앞선 등록이 이미 발송 중이거나 완료됨
+            return;
+        }
+        try {
+            if (notificationCoalescer.isEnabled()) {
+                // 같은 사용자/서비스의 연속 초과 알림은 창마다 한 번만 발송
+                notificationCoalescer.submit(inFlightEvent, soap);
+            } else {
+                dispatchPipeline.submit(inFlightEvent, soap);
+            }
+        } catch (InterruptedException e) {
+            inFlightEvent.fail(e);
+            throw e;
         }
     }
 
     public void processNotification(ExcessNotificationSoap soap) {
+        if (ServiceType.fromCode(soap.getSvcTypeCd()).isEmpty()) {
+            throw new NotificationException("알 수 없는 서비스 타입: " + soap.getSvcTypeCd());
+        }
         try {
             notificationSender.sendToAllChannels(soap);
             log.info("All notifications sent successfully for user: {}", soap.getUserSequence());
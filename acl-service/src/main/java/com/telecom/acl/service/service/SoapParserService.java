@@ -2,42 +2,41 @@ package com.telecom.acl.service.service;
 
 import com.telecom.acl.common.exception.NotificationException;
 import com.telecom.acl.common.soap.ExcessNotificationSoap;
-import com.telecom.acl.common.soap.SoapEnvelope;
-import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Unmarshaller;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.parser.SoapMessageParser;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 public class SoapParserService {
 
-    private final Unmarshaller unmarshaller;
+    private final SoapMessageParser soapMessageParser;
+    private final Timer parseTimer;
 
-    public SoapParserService(Unmarshaller unmarshaller) {
-        this.unmarshaller = unmarshaller;
+    public SoapParserService(SoapMessageParser soapMessageParser, PipelineMetrics pipelineMetrics) {
+        this.soapMessageParser = soapMessageParser;
+        this.parseTimer = pipelineMetrics.parseTimer(soapMessageParser.engine());
+        log.info("SOAP parser engine: {}", soapMessageParser.engine());
     }
 
     public ExcessNotificationSoap parseSoapXml(String soapXml) {
         try {
             log.debug("Parsing SOAP XML: {}", soapXml);
 
-            SoapEnvelope envelope = (SoapEnvelope) unmarshaller.unmarshal(new StringReader(soapXml));
-
-            if (envelope == null || envelope.getBody() == null || envelope.getBody().getNotification() == null) {
-                throw new NotificationException("Invalid SOAP message structure");
-            }
-
-            ExcessNotificationSoap notification = envelope.getBody().getNotification();
+            long startNanos = System.nanoTime();
+            ExcessNotificationSoap notification = soapMessageParser.parse(soapXml);
+            parseTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
             log.debug("Successfully parsed SOAP notification: {}", notification);
 
             return notification;
 
-        } catch (JAXBException e) {
+        } catch (NotificationException e) {
             log.error("SOAP XML 파싱 실패: {}", e.getMessage(), e);
-            throw new NotificationException("SOAP XML 파싱 실패", e);
+            throw e;
         }
     }
 }
@@ -0,0 +1,70 @@
+package com.telecom.acl.service.throttle;
+
+import com.telecom.acl.common.exception.NotificationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 채널별 발송 속도를 토큰 버킷으로 제한합니다. 설정값이 0 이하인 채널은 제한하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ChannelRateLimiter {
+    private final Map<String, TokenBucket> buckets = new HashMap<>();
+
+    public ChannelRateLimiter(
+            @Value("${acl.throttle.rate.push:0}") double pushPerSecond,
+            @Value("${acl.throttle.rate.sms:0}") double smsPerSecond,
+            @Value("${acl.throttle.rate.kakao:0}") double kakaoPerSecond) {
+        register("PUSH", pushPerSecond);
+        register("SMS", smsPerSecond);
+        register("KAKAO", kakaoPerSecond);
+    }
+
+    /**
+     * 채널의 토큰을 하나 얻을 때까지 대기합니다.
+     */
+    public void acquire(String channel) {
+        TokenBucket bucket = buckets.get(channel);
+        if (bucket == null) {
+            return;
+        }
+        try {
+            bucket.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationException(channel + " 발송 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * 채널의 토큰을 하나 예약하고 send를 실행합니다. 토큰이 아직 채워지지 않았으면 호출 스레드를 막지 않고
+     * 남은 시간 뒤에 실행하므로, 한 채널의 제한이 같은 이벤트의 다른 채널 발송을 늦추지 않습니다.
+     */
+    public <T> CompletableFuture<T> throttled(String channel, Supplier<CompletableFuture<T>> send) {
+        TokenBucket bucket = buckets.get(channel);
+        long waitNanos = bucket == null ? 0 : bucket.reserve();
+        if (waitNanos <= 0) {
+            return send.get();
+        }
+        return CompletableFuture.runAsync(() -> { },
+                        CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS))
+                .thenCompose(ignored -> send.get());
+    }
+
+    private void register(String channel, double perSecond) {
+        if (perSecond <= 0) {
+            return;
+        }
+        // 1초 분량까지 순간 발송 허용
+        buckets.put(channel, new TokenBucket(perSecond, Math.max(1, perSecond)));
+        log.info("Rate limit for {} channel: {}/s", channel, perSecond);
+    }
+}
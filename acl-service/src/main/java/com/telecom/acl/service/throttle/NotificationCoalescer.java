@@ -0,0 +1,199 @@
+package com.telecom.acl.service.throttle;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.pipeline.DispatchPipeline;
+import com.telecom.acl.service.pipeline.DispatchHandle;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (사용자, 서비스 타입)별 coalescing 창 동안 같은 키의 초과 알림 발송을 한 번으로 줄입니다.
+ * 창이 열려 있지 않은 키의 첫 알림은 바로 발송 파이프라인에 넘기고 창을 엽니다.
+ * 창 안에서 이어 들어온 알림은 가장 마지막 것만 보류했다가 창이 끝나면 넘기며, 넘긴 뒤 다시 한 창 동안 같은 방식으로 모읍니다.
+ * 대체된 이전 알림은 발송 없이 완료 처리되어 체크포인트가 계속 진행됩니다.
+ * 보류되는 알림은 키마다 최대 한 건이므로, 반복 없이 서로 다른 키가 몰려도 in-flight permit이 창 길이만큼 묶이지 않습니다.
+ * 창이 끝난 알림은 레인 큐에 대기 없이 넘기며, 레인이 가득 차 있으면 잠시 뒤 다시 넘겨
+ * 하나뿐인 스케줄러 스레드가 다른 키의 창 종료 처리를 막지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+    private static final long HAND_OFF_RETRY_MS = 10;
+
+    private final DispatchPipeline dispatchPipeline;
+    private final Map<CoalesceKey, Window> windows = new HashMap<>();
+    private final AtomicLong superseded = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+
+    @Value("${acl.throttle.coalesce-window-ms:0}")
+    private long windowMs;
+
+    public NotificationCoalescer(DispatchPipeline dispatchPipeline) {
+        this.dispatchPipeline = dispatchPipeline;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "notification-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Notification coalescing enabled with {}ms window", windowMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        List<Held> remaining = new ArrayList<>();
+        synchronized (windows) {
+            for (Window window : windows.values()) {
+                if (window.held != null) {
+                    remaining.add(window.held);
+                }
+            }
+            windows.clear();
+        }
+        // 종료 중에는 레인이 비워지므로 자리가 날 때까지 기다려 넘김
+        for (Held held : remaining) {
+            handOffBlocking(held);
+        }
+    }
+
+    public boolean isEnabled() {
+        return windowMs > 0;
+    }
+
+    public long supersededCount() {
+        return superseded.get();
+    }
+
+    /**
+     * 알림을 넘깁니다. 같은 키의 창이 열려 있지 않으면 바로 발송 파이프라인에 넘기고(레인이 가득 차면 대기),
+     * 열려 있으면 보류합니다. 같은 키로 보류 중인 알림이 있으면 새 알림으로 대체하고 이전 알림은 완료 처리합니다.
+     */
+    public void submit(DispatchHandle event, ExcessNotificationSoap soap) throws InterruptedException {
+        CoalesceKey key = new CoalesceKey(soap.getUserSequence(), soap.getSvcTypeCd());
+        Window window;
+        Held previous = null;
+        synchronized (windows) {
+            window = windows.get(key);
+            if (window == null) {
+                windows.put(key, new Window());
+                scheduler.schedule(() -> release(key), windowMs, TimeUnit.MILLISECONDS);
+            } else {
+                previous = window.held;
+                window.held = new Held(event, soap);
+            }
+        }
+
+        if (window == null) {
+            // 창의 첫 알림: 보류하지 않고 바로 발송, 레인에 들어간 뒤에야 창 종료 시 보류 알림을 넘김(같은 레인 내 순서 유지)
+            try {
+                dispatchPipeline.submit(event, soap);
+            } finally {
+                synchronized (windows) {
+                    Window opened = windows.get(key);
+                    if (opened != null) {
+                        opened.leadingHandedOff = true;
+                    }
+                }
+            }
+            return;
+        }
+        if (previous != null) {
+            superseded.incrementAndGet();
+            previous.event().complete();
+            log.debug("Coalesced notification for user {} ({}): exceedQty {} -> {}", soap.getUserSequence(),
+                    soap.getSvcTypeCd(), previous.soap().getExceedQty(), soap.getExceedQty());
+        }
+    }
+
+    private void release(CoalesceKey key) {
+        Held held;
+        synchronized (windows) {
+            Window window = windows.get(key);
+            if (window == null) {
+                return;
+            }
+            if (!window.leadingHandedOff) {
+                scheduler.schedule(() -> release(key), HAND_OFF_RETRY_MS, TimeUnit.MILLISECONDS);
+                return;
+            }
+            held = window.held;
+            if (held == null) {
+                // 창 안에 반복 알림이 없었음: 창을 닫아 다음 알림이 바로 발송되게 함
+                windows.remove(key);
+                return;
+            }
+            window.held = null;
+        }
+
+        boolean handedOff = dispatchPipeline.offer(held.event(), held.soap());
+        Held replaced = null;
+        boolean stopped = false;
+        synchronized (windows) {
+            Window window = windows.get(key);
+            if (window == null) {
+                stopped = !handedOff;
+            } else if (handedOff) {
+                // 넘긴 알림부터 다시 한 창 동안 모음
+                scheduler.schedule(() -> release(key), windowMs, TimeUnit.MILLISECONDS);
+            } else {
+                // 레인이 가득 참: 다시 보류해 두고 잠시 뒤 재시도, 그 사이 같은 키의 새 알림이 들어왔으면 대체됨
+                if (window.held == null) {
+                    window.held = held;
+                } else {
+                    replaced = held;
+                }
+                scheduler.schedule(() -> release(key), HAND_OFF_RETRY_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (replaced != null) {
+            superseded.incrementAndGet();
+            replaced.event().complete();
+        } else if (stopped) {
+            // 넘기는 사이 종료됨: stop()이 보지 못한 알림이므로 여기서 넘김
+            handOffBlocking(held);
+        }
+    }
+
+    private void handOffBlocking(Held held) {
+        try {
+            dispatchPipeline.submit(held.event(), held.soap());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            held.event().fail(e);
+        }
+    }
+
+    private record CoalesceKey(String userSequence, String svcTypeCd) {}
+
+    private record Held(DispatchHandle event, ExcessNotificationSoap soap) {}
+
+    /**
+     * 키별로 열린 창입니다. 창의 첫 알림이 레인에 들어갔는지와 창 안에서 보류 중인 마지막 알림을 담습니다.
+     */
+    private static final class Window {
+        private boolean leadingHandedOff;
+        private Held held;
+    }
+}
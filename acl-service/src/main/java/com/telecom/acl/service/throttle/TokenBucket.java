@@ -0,0 +1,40 @@
+package com.telecom.acl.service.throttle;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 ratePerSecond 개의 토큰이 채워지고 최대 burst 개까지 쌓이는 토큰 버킷입니다.
+ * 토큰이 없으면 미리 예약한 뒤 채워질 때까지 대기하므로 대기자 간 순서가 유지됩니다.
+ * {@link #reserve()}는 대기하지 않고 예약만 하므로, 호출자가 남은 시간만큼 지연 실행할 수 있습니다.
+ */
+class TokenBucket {
+    private final double ratePerNano;
+    private final double burst;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double ratePerSecond, double burst) {
+        this.ratePerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰 하나를 예약하고 그 토큰이 채워질 때까지 남은 시간(ns)을 반환합니다. 0이면 바로 사용 가능.
+     */
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * ratePerNano);
+        lastRefillNanos = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) (-tokens / ratePerNano);
+    }
+}
@@ -0,0 +1,113 @@
+package com.telecom.acl.service.checkpoint;
+
+import com.azure.messaging.eventhubs.CheckpointStore;
+import com.azure.messaging.eventhubs.models.Checkpoint;
+import com.azure.messaging.eventhubs.models.PartitionOwnership;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingCheckpointStoreTest {
+    private static final String NAMESPACE = "ns";
+    private static final String HUB = "hub";
+    private static final String GROUP = "$Default";
+
+    private final InMemoryStore delegate = new InMemoryStore();
+    private final CoalescingCheckpointStore store = new CoalescingCheckpointStore(delegate, 3_600_000);
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void flushWritesLatestPositionWhileStillOwned() {
+        store.claimOwnership(List.of(ownership("0", "me"))).blockLast();
+        store.updateCheckpoint(checkpoint("0", 5)).block();
+        store.updateCheckpoint(checkpoint("0", 9)).block();
+
+        store.flush();
+
+        assertThat(delegate.checkpoints.get("0").getSequenceNumber()).isEqualTo(9L);
+    }
+
+    @Test
+    void flushDiscardsPositionAfterOwnershipMoved() {
+        store.claimOwnership(List.of(ownership("0", "me"))).blockLast();
+        store.updateCheckpoint(checkpoint("0", 5)).block();
+        // 다른 인스턴스가 소유권을 가져가 더 앞선 위치를 기록함
+        delegate.claimOwnership(List.of(ownership("0", "other"))).blockLast();
+        delegate.updateCheckpoint(checkpoint("0", 20)).block();
+
+        store.flush();
+        store.flush();
+
+        assertThat(delegate.checkpoints.get("0").getSequenceNumber()).isEqualTo(20L);
+    }
+
+    @Test
+    void flushWritesPositionAfterOwnershipRelinquished() {
+        store.claimOwnership(List.of(ownership("0", "me"))).blockLast();
+        store.updateCheckpoint(checkpoint("0", 5)).block();
+        // 정상 종료 시 프로세서는 빈 ownerId로 소유권을 반납한 뒤 저장소를 닫음
+        store.claimOwnership(List.of(ownership("0", ""))).blockLast();
+
+        store.flush();
+
+        assertThat(delegate.checkpoints.get("0").getSequenceNumber()).isEqualTo(5L);
+    }
+
+    private static PartitionOwnership ownership(String partitionId, String ownerId) {
+        return new PartitionOwnership()
+                .setFullyQualifiedNamespace(NAMESPACE)
+                .setEventHubName(HUB)
+                .setConsumerGroup(GROUP)
+                .setPartitionId(partitionId)
+                .setOwnerId(ownerId);
+    }
+
+    private static Checkpoint checkpoint(String partitionId, long sequenceNumber) {
+        return new Checkpoint()
+                .setFullyQualifiedNamespace(NAMESPACE)
+                .setEventHubName(HUB)
+                .setConsumerGroup(GROUP)
+                .setPartitionId(partitionId)
+                .setSequenceNumber(sequenceNumber);
+    }
+
+    private static class InMemoryStore implements CheckpointStore {
+        private final Map<String, PartitionOwnership> ownerships = new ConcurrentHashMap<>();
+        private final Map<String, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+
+        @Override
+        public Flux<PartitionOwnership> listOwnership(String fullyQualifiedNamespace, String eventHubName,
+                                                      String consumerGroup) {
+            return Flux.fromIterable(ownerships.values());
+        }
+
+        @Override
+        public Flux<PartitionOwnership> claimOwnership(List<PartitionOwnership> requestedPartitionOwnerships) {
+            requestedPartitionOwnerships.forEach(ownership -> ownerships.put(ownership.getPartitionId(), ownership));
+            return Flux.fromIterable(requestedPartitionOwnerships);
+        }
+
+        @Override
+        public Flux<Checkpoint> listCheckpoints(String fullyQualifiedNamespace, String eventHubName,
+                                                String consumerGroup) {
+            return Flux.fromIterable(checkpoints.values());
+        }
+
+        @Override
+        public Mono<Void> updateCheckpoint(Checkpoint checkpoint) {
+            checkpoints.put(checkpoint.getPartitionId(), checkpoint);
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.telecom.acl.service.config;
+
+import com.azure.messaging.eventhubs.CheckpointStore;
+import com.telecom.acl.service.checkpoint.CoalescingCheckpointStore;
+import com.telecom.acl.service.checkpoint.FileCheckpointStore;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.pipeline.PartitionCheckpointTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheckpointStoreConfigTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ApplicationContextRunner runner() {
+        return new ApplicationContextRunner()
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withBean(PipelineMetrics.class)
+                .withBean("partitionCheckpointTracker", PartitionCheckpointTracker.class)
+                .withUserConfiguration(CheckpointStoreConfig.class)
+                .withPropertyValues("acl.checkpoint.store=file", "acl.checkpoint.file.directory=" + tempDir);
+    }
+
+    @Test
+    void coalescingStoreIsClosedAfterTheTracker() {
+        runner().withPropertyValues("acl.checkpoint.coalesce-interval-ms=1000").run(context -> {
+            assertThat(context.getBean(CheckpointStore.class)).isInstanceOf(CoalescingCheckpointStore.class);
+            assertThat(context.getBeanFactory().getBeanDefinition("checkpointStore").getDestroyMethodName())
+                    .isEqualTo("close");
+            // tracker가 먼저 정리되어야 마지막 flushAll이 넘긴 위치를 close()가 기록함
+            assertThat(context.getBeanFactory().getDependentBeans("checkpointStore"))
+                    .contains("partitionCheckpointTracker");
+        });
+    }
+
+    @Test
+    void zeroIntervalWritesThroughToTheStore() {
+        runner().withPropertyValues("acl.checkpoint.coalesce-interval-ms=0").run(context ->
+                assertThat(context.getBean(CheckpointStore.class)).isInstanceOf(FileCheckpointStore.class));
+    }
+}
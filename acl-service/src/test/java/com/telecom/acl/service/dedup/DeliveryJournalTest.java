@@ -0,0 +1,65 @@
+package com.telecom.acl.service.dedup;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeliveryJournalTest {
+    private static final DeliveryKey KEY = new DeliveryKey("user1", "DATA", "20240101120000", 100);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void rewriteCreatesMissingDirectory() throws Exception {
+        Path path = tempDir.resolve("data/nested/delivery-journal.log");
+        DeliveryJournal journal = new DeliveryJournal(path, 100, List::of);
+
+        journal.rewrite(List.of(new DeliveryJournal.Record(1L, KEY, "PUSH")));
+        journal.close();
+
+        assertThat(Files.readAllLines(path)).containsExactly("1|user1|DATA|20240101120000|100|PUSH");
+    }
+
+    @Test
+    void closeFlushesQueuedRecordsAndLoadFiltersExpired() throws Exception {
+        Path path = tempDir.resolve("delivery-journal.log");
+        DeliveryJournal journal = new DeliveryJournal(path, 1_000, List::of);
+        journal.open();
+        journal.start();
+        journal.append(new DeliveryJournal.Record(10L, KEY, "PUSH"));
+        journal.append(new DeliveryJournal.Record(20L, KEY, "SMS"));
+        journal.append(new DeliveryJournal.Record(30L, new DeliveryKey("user2", "VOICE", "x", null), "KAKAO"));
+        journal.close();
+
+        List<DeliveryJournal.Record> loaded = new ArrayList<>();
+        new DeliveryJournal(path, 1_000, List::of).load(20L, loaded::add);
+
+        assertThat(loaded).containsExactly(
+                new DeliveryJournal.Record(20L, KEY, "SMS"),
+                new DeliveryJournal.Record(30L, new DeliveryKey("user2", "VOICE", "x", null), "KAKAO"));
+    }
+
+    @Test
+    void writerCompactsToSnapshotPastThreshold() throws Exception {
+        Path path = tempDir.resolve("delivery-journal.log");
+        List<DeliveryJournal.Record> live = List.of(new DeliveryJournal.Record(99L, KEY, "PUSH"));
+        DeliveryJournal journal = new DeliveryJournal(path, 5, () -> live);
+        journal.open();
+        journal.start();
+        for (int i = 0; i < 5; i++) {
+            journal.append(new DeliveryJournal.Record(i, KEY, "PUSH"));
+        }
+        journal.close();
+
+        List<DeliveryJournal.Record> loaded = new ArrayList<>();
+        new DeliveryJournal(path, 5, List::of).load(0L, loaded::add);
+        assertThat(loaded).containsExactlyElementsOf(live);
+    }
+}
@@ -0,0 +1,105 @@
+package com.telecom.acl.service.outbox;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxSegmentTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void markDeliveredIsIdempotent() throws IOException {
+        OutboxSegment segment = OutboxSegment.create(tempDir, 0, 4096);
+        int first = append(segment, notification("user1"));
+        append(segment, notification("user2"));
+
+        segment.markDelivered(first);
+        segment.markDelivered(first);
+
+        assertThat(segment.pending()).isEqualTo(1);
+        assertThat(segment.isPending(first)).isFalse();
+        segment.close();
+    }
+
+    @Test
+    void recoverRestoresPendingEntriesAndSealsSegment() throws IOException {
+        OutboxSegment segment = OutboxSegment.create(tempDir, 3, 4096);
+        int first = append(segment, notification("user1"));
+        int second = append(segment, notification("user2"));
+        append(segment, notification("user3"));
+        segment.markDelivered(first);
+        int writePosition = segment.writePosition();
+        segment.force();
+        segment.close();
+
+        OutboxSegment recovered = OutboxSegment.recover(tempDir.resolve(OutboxSegment.fileName(3)));
+
+        assertThat(recovered.id()).isEqualTo(3);
+        assertThat(recovered.isSealed()).isTrue();
+        assertThat(recovered.pending()).isEqualTo(2);
+        assertThat(recovered.writePosition()).isEqualTo(writePosition);
+        assertThat(recovered.isPending(first)).isFalse();
+        assertThat(OutboxCodec.decode(recovered.payloadAt(second)).getUserSequence()).isEqualTo("user2");
+        recovered.close();
+    }
+
+    @Test
+    void recoverTruncatesTornEntry() throws IOException {
+        OutboxSegment segment = OutboxSegment.create(tempDir, 0, 4096);
+        append(segment, notification("user1"));
+        int torn = append(segment, notification("user2"));
+        segment.force();
+        segment.close();
+
+        // 두 번째 항목의 payload 한 바이트를 바꿔 crc 불일치(기록 도중 중단)를 만든다
+        Path file = tempDir.resolve(OutboxSegment.fileName(0));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), torn + OutboxSegment.HEADER_BYTES + 4);
+        }
+
+        OutboxSegment recovered = OutboxSegment.recover(file);
+
+        assertThat(recovered.pending()).isEqualTo(1);
+        assertThat(recovered.writePosition()).isEqualTo(torn);
+        recovered.close();
+    }
+
+    @Test
+    void appendRejectsEntriesPastCapacity() throws IOException {
+        OutboxSegment segment = OutboxSegment.create(tempDir, 0, 64);
+        assertThat(append(segment, notification("user1"))).isZero();
+        assertThat(append(segment, notification("user2"))).isEqualTo(-1);
+        segment.close();
+    }
+
+    private static int append(OutboxSegment segment, ExcessNotificationSoap notification) {
+        ByteBuffer payload = ByteBuffer.allocate(256);
+        OutboxCodec.encode(notification, payload);
+        payload.flip();
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        return segment.append(payload, (int) crc.getValue());
+    }
+
+    private static ExcessNotificationSoap notification(String userSequence) {
+        return ExcessNotificationSoap.builder()
+                .userSequence(userSequence)
+                .svcTypeCd("D")
+                .usedQty(1200)
+                .baseQty(1000)
+                .exceedQty(200)
+                .notifyDtm("20240101120000")
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.telecom.acl.service.parser;
+
+import com.telecom.acl.common.exception.NotificationException;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.common.soap.SoapEnvelope;
+import jakarta.xml.bind.JAXBContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 운영 기본값인 StAX 파서가 기존 JAXB 파서와 같은 {@link ExcessNotificationSoap}을 만드는지 같은 XML로 비교합니다.
+ */
+class SoapMessageParserEquivalenceTest {
+    private static final String ENVELOPE = "<soap:Envelope xmlns:soap=\"" + StaxSoapMessageParser.SOAP_NS + "\">%s</soap:Envelope>";
+    private static final String NOTIFICATION = "<kos:ExcessNotification xmlns:kos=\"" + StaxSoapMessageParser.KOS_NS + "\">%s</kos:ExcessNotification>";
+
+    private static JaxbSoapMessageParser jaxb;
+    private static final StaxSoapMessageParser stax = new StaxSoapMessageParser();
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        jaxb = new JaxbSoapMessageParser(JAXBContext.newInstance(SoapEnvelope.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // kos-mock이 발행하는 형식
+            "<userSequence>user3</userSequence><svcTypeCd>D</svcTypeCd><usedQty>10300</usedQty>"
+                    + "<baseQty>10240</baseQty><exceedQty>60</exceedQty><notifyDtm>20240101120000</notifyDtm>",
+            // 숫자 앞뒤 공백, 줄바꿈과 들여쓰기
+            "\n  <userSequence>user3</userSequence>\n  <svcTypeCd>D</svcTypeCd>\n"
+                    + "  <usedQty>\n    10300\n  </usedQty>\n  <baseQty> 10240 </baseQty>\n"
+                    + "  <exceedQty>\t60\t</exceedQty>\n  <notifyDtm>20240101120000</notifyDtm>\n",
+            // 문자열 앞뒤 공백은 그대로 유지
+            "<userSequence> user3 </userSequence><svcTypeCd>D</svcTypeCd><usedQty>1</usedQty>"
+                    + "<baseQty>2</baseQty><exceedQty>0</exceedQty><notifyDtm>20240101120000</notifyDtm>",
+            // CDATA와 entity
+            "<userSequence><![CDATA[user<3>&]]></userSequence><svcTypeCd>&#68;</svcTypeCd>"
+                    + "<usedQty><![CDATA[10300]]></usedQty><baseQty>10<![CDATA[24]]>0</baseQty>"
+                    + "<exceedQty>60</exceedQty><notifyDtm>2024&#48;101120000</notifyDtm>",
+            // 부호와 int 경계값
+            "<userSequence>user3</userSequence><svcTypeCd>V</svcTypeCd><usedQty>+300</usedQty>"
+                    + "<baseQty>-2147483648</baseQty><exceedQty>2147483647</exceedQty><notifyDtm>20240101120000</notifyDtm>",
+            "<userSequence>user3</userSequence><svcTypeCd>V</svcTypeCd><usedQty>-0</usedQty>"
+                    + "<baseQty>007</baseQty><exceedQty>-15</exceedQty><notifyDtm>20240101120000</notifyDtm>",
+            // 모르는 요소(중첩 포함)와 속성은 무시
+            "<userSequence ext=\"1\">user3</userSequence><extension><nested><usedQty>1</usedQty></nested></extension>"
+                    + "<svcTypeCd>S</svcTypeCd><usedQty>301</usedQty><baseQty>300</baseQty><exceedQty>1</exceedQty>"
+                    + "<notifyDtm>20240101120000</notifyDtm><trailer/>",
+            // 필드 누락은 null
+            "<userSequence>user3</userSequence><svcTypeCd>S</svcTypeCd>"
+    })
+    void staxMatchesJaxb(String fields) {
+        String xml = envelope("", String.format(NOTIFICATION, fields));
+
+        assertThat(stax.parse(xml)).isEqualTo(jaxb.parse(xml));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "<soap:Header><auth xmlns=\"urn:test\"><token>abc</token></auth></soap:Header>",
+            "<soap:Header/>"
+    })
+    void headerAndUnknownBodyElementsAreIgnored(String header) {
+        String notification = String.format(NOTIFICATION,
+                "<userSequence>user3</userSequence><svcTypeCd>D</svcTypeCd><usedQty>10300</usedQty>"
+                        + "<baseQty>10240</baseQty><exceedQty>60</exceedQty><notifyDtm>20240101120000</notifyDtm>");
+        String xml = envelope(header, "<trace xmlns=\"urn:test\"><id>1</id></trace>" + notification);
+
+        ExcessNotificationSoap parsed = stax.parse(xml);
+        assertThat(parsed).isEqualTo(jaxb.parse(xml));
+        assertThat(parsed.getUsedQty()).isEqualTo(10300);
+    }
+
+    /**
+     * JAXB는 int 범위를 넘거나 형식이 틀린 숫자를 조용히 잘못된 값(자리 넘침)이나 null로 바꾸지만,
+     * StAX 파서는 잘못된 금액으로 알림을 보내지 않도록 파싱 실패로 처리합니다. (의도된 차이)
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"2147483648", "-2147483649", "99999999999", "12 34", "1-2", "-", "0x10", "1e3"})
+    void staxRejectsNumbersJaxbWouldCorrupt(String usedQty) {
+        String xml = envelope("", String.format(NOTIFICATION,
+                "<userSequence>user3</userSequence><svcTypeCd>D</svcTypeCd><usedQty>" + usedQty + "</usedQty>"));
+
+        assertThatThrownBy(() -> stax.parse(xml)).isInstanceOf(NotificationException.class);
+    }
+
+    private static String envelope(String header, String body) {
+        return String.format(ENVELOPE, header + "<soap:Body>" + body + "</soap:Body>");
+    }
+}
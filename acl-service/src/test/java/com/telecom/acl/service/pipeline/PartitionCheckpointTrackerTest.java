@@ -0,0 +1,105 @@
+package com.telecom.acl.service.pipeline;
+
+import com.telecom.acl.common.exception.NotificationException;
+import com.telecom.acl.common.messaging.MessagePartition;
+import com.telecom.acl.common.messaging.SourceMessage;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.telecom.acl.service.pipeline.PartitionProgressTest.message;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PartitionCheckpointTrackerTest {
+    private final List<Long> checkpoints = new ArrayList<>();
+    private final MessagePartition partition = new MessagePartition() {
+        @Override
+        public String partitionId() {
+            return "0";
+        }
+
+        @Override
+        public Long lastEnqueuedSequenceNumber() {
+            return null;
+        }
+
+        @Override
+        public CompletableFuture<Void> checkpoint(SourceMessage message) {
+            checkpoints.add(message.sequenceNumber());
+            return CompletableFuture.completedFuture(null);
+        }
+    };
+
+    private PartitionCheckpointTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new PartitionCheckpointTracker(new PipelineMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(tracker, "maxInFlightPerPartition", 2);
+    }
+
+    @Test
+    void flushWritesHighestContiguousCompletion() throws InterruptedException {
+        InFlightEvent first = tracker.register(partition, message(0));
+        InFlightEvent second = tracker.register(partition, message(1));
+        second.complete();
+        first.complete();
+
+        tracker.flush("0");
+
+        assertThat(checkpoints).containsExactly(1L);
+    }
+
+    @Test
+    void failedEventResetsPartitionInsteadOfWedgingRegistration() throws InterruptedException {
+        InFlightEvent first = tracker.register(partition, message(0));
+        InFlightEvent second = tracker.register(partition, message(1));
+        first.complete();
+        second.fail(new IllegalStateException("dedup lookup failed"));
+
+        // 한도(2)가 찬 상태였지만 실패로 permit이 반환되어 대기 없이 예외로 끝나야 함
+        assertThatThrownBy(() -> tracker.register(partition, message(2)))
+                .isInstanceOf(NotificationException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(checkpoints).containsExactly(0L);
+
+        // 소스가 체크포인트 다음부터 다시 읽으면 새 진행 상태로 등록됨
+        InFlightEvent retried = tracker.register(partition, message(1));
+        retried.complete();
+        tracker.flush("0");
+        assertThat(checkpoints).containsExactly(0L, 1L);
+    }
+
+    @Test
+    void redeliveredEventIsSkippedWithoutTakingAnotherPermit() throws InterruptedException {
+        InFlightEvent first = tracker.register(partition, message(0));
+        InFlightEvent second = tracker.register(partition, message(1));
+
+        // 소스가 되감아 같은 이벤트를 다시 전달해도 한도(2)가 찬 상태에서 대기하지 않고 건너뜀
+        assertThat(tracker.register(partition, message(0))).isNull();
+        assertThat(tracker.register(partition, message(1))).isNull();
+
+        first.complete();
+        second.complete();
+        tracker.flush("0");
+        assertThat(checkpoints).containsExactly(1L);
+    }
+
+    @Test
+    void discardDropsStateWithoutWritingCheckpoint() throws InterruptedException {
+        InFlightEvent first = tracker.register(partition, message(0));
+        first.complete();
+
+        tracker.discard("0");
+        tracker.flush("0");
+
+        assertThat(checkpoints).isEmpty();
+    }
+}
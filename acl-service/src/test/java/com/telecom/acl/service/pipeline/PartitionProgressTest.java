@@ -0,0 +1,107 @@
+package com.telecom.acl.service.pipeline;
+
+import com.telecom.acl.common.messaging.MessagePartition;
+import com.telecom.acl.common.messaging.SourceMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionProgressTest {
+    private static final MessagePartition PARTITION = new MessagePartition() {
+        @Override
+        public String partitionId() {
+            return "0";
+        }
+
+        @Override
+        public Long lastEnqueuedSequenceNumber() {
+            return null;
+        }
+
+        @Override
+        public CompletableFuture<Void> checkpoint(SourceMessage message) {
+            return CompletableFuture.completedFuture(null);
+        }
+    };
+
+    @Test
+    void commitsOnlyContiguousCompletions() throws InterruptedException {
+        PartitionProgress progress = new PartitionProgress(PARTITION, 3);
+        for (long seq = 0; seq < 3; seq++) {
+            assertThat(progress.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+            progress.add(message(seq));
+        }
+        assertThat(progress.tryAcquire(0, TimeUnit.MILLISECONDS)).isFalse();
+
+        progress.complete(1);
+        progress.complete(2);
+        assertThat(progress.pendingCheckpoint()).isNull();
+        assertThat(progress.inFlight()).isEqualTo(3);
+
+        progress.complete(0);
+        assertThat(progress.pendingCheckpoint().sequenceNumber()).isEqualTo(2);
+        assertThat(progress.inFlight()).isZero();
+        for (int i = 0; i < 3; i++) {
+            assertThat(progress.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void failureStopsCommitAndReleasesAllPermits() throws InterruptedException {
+        PartitionProgress progress = new PartitionProgress(PARTITION, 4);
+        for (long seq = 0; seq < 4; seq++) {
+            assertThat(progress.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+            progress.add(message(seq));
+        }
+        progress.complete(0);
+        progress.fail(1, new IllegalStateException("render failed"));
+        progress.complete(2);
+        progress.complete(3);
+
+        assertThat(progress.failure()).hasMessage("render failed");
+        assertThat(progress.pendingCheckpoint().sequenceNumber()).isZero();
+        assertThat(progress.inFlight()).isZero();
+        for (int i = 0; i < 4; i++) {
+            assertThat(progress.tryAcquire(0, TimeUnit.MILLISECONDS)).isTrue();
+        }
+        assertThat(progress.tryAcquire(0, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(progress.add(message(4))).isEqualTo(PartitionProgress.AddResult.FAILED);
+    }
+
+    @Test
+    void redeliveredSequenceIsNotAddedTwice() throws InterruptedException {
+        PartitionProgress progress = new PartitionProgress(PARTITION, 2);
+        progress.tryAcquire(0, TimeUnit.MILLISECONDS);
+        progress.add(message(0));
+        progress.tryAcquire(0, TimeUnit.MILLISECONDS);
+        progress.add(message(1));
+        progress.complete(0);
+
+        assertThat(progress.add(message(0))).isEqualTo(PartitionProgress.AddResult.DUPLICATE);
+        assertThat(progress.add(message(1))).isEqualTo(PartitionProgress.AddResult.DUPLICATE);
+
+        // 기존 in-flight 항목이 그대로 남아 있어 완료가 유실되지 않음
+        progress.complete(1);
+        assertThat(progress.pendingCheckpoint().sequenceNumber()).isEqualTo(1);
+        assertThat(progress.inFlight()).isZero();
+    }
+
+    @Test
+    void markCheckpointedHidesAlreadyWrittenPosition() throws InterruptedException {
+        PartitionProgress progress = new PartitionProgress(PARTITION, 1);
+        progress.tryAcquire(0, TimeUnit.MILLISECONDS);
+        progress.add(message(7));
+        progress.complete(7);
+
+        progress.markCheckpointed(7);
+
+        assertThat(progress.pendingCheckpoint()).isNull();
+    }
+
+    static SourceMessage message(long sequenceNumber) {
+        return new SourceMessage("0", sequenceNumber, sequenceNumber * 10, "<soap/>");
+    }
+}
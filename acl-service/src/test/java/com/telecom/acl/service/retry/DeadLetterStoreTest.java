@@ -0,0 +1,118 @@
+package com.telecom.acl.service.retry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telecom.acl.common.dto.NotificationRequest;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class DeadLetterStoreTest {
+    private static final ExcessNotificationSoap NOTIFICATION = ExcessNotificationSoap.builder()
+            .userSequence("user1").svcTypeCd("D").usedQty(1200).baseQty(1000).exceedQty(200)
+            .notifyDtm("20240101120000").build();
+    private static final NotificationRequest SMS = NotificationRequest.builder()
+            .userId("user1").channel("SMS").message("초과").build();
+
+    @TempDir
+    Path tempDir;
+
+    private final List<DeadLetterStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        stores.forEach(DeadLetterStore::close);
+    }
+
+    @Test
+    void pendingRetryChurnIsCompactedWhileRunning() throws Exception {
+        DeadLetterStore store = newStore(1000, 100);
+        ExecutorService callbacks = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String id = "retry-" + i;
+            futures.add(callbacks.submit(() -> {
+                store.addPendingRetry(deadLetter(id));
+                store.removePendingRetry(id);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        callbacks.shutdown();
+
+        await().untilAsserted(() -> assertThat(Files.readAllLines(journal())).hasSizeLessThanOrEqualTo(200));
+        assertThat(store.pendingRetries()).isEmpty();
+    }
+
+    @Test
+    void pendingRetryIsOnDiskWhenAddReturns() throws Exception {
+        DeadLetterStore store = newStore(1000, 10_000);
+
+        store.addPendingRetry(deadLetter("retry-1"));
+
+        assertThat(Files.readAllLines(journal())).anyMatch(line -> line.startsWith(">") && line.contains("retry-1"));
+    }
+
+    @Test
+    void oldestDeadLettersOverflowToSideFile() throws Exception {
+        DeadLetterStore store = newStore(3, 10_000);
+
+        for (int i = 0; i < 5; i++) {
+            store.add(deadLetter("dl-" + i));
+        }
+
+        assertThat(store.list()).extracting(DeadLetter::id).containsExactly("dl-2", "dl-3", "dl-4");
+        store.close();
+        assertThat(Files.readAllLines(tempDir.resolve("dead-letters.log.overflow")))
+                .hasSize(2)
+                .allMatch(line -> line.startsWith("+"));
+
+        DeadLetterStore reopened = newStore(3, 10_000);
+        assertThat(reopened.list()).extracting(DeadLetter::id).containsExactly("dl-2", "dl-3", "dl-4");
+    }
+
+    @Test
+    void entriesSurviveRestart() {
+        DeadLetterStore store = newStore(1000, 10_000);
+        store.add(deadLetter("dl-1"));
+        store.add(deadLetter("dl-2"));
+        store.remove("dl-1");
+        store.addPendingRetry(deadLetter("retry-1"));
+        store.close();
+
+        DeadLetterStore reopened = newStore(1000, 10_000);
+
+        assertThat(reopened.list()).extracting(DeadLetter::id).containsExactly("dl-2");
+        assertThat(reopened.pendingRetries()).extracting(DeadLetter::id).containsExactly("retry-1");
+    }
+
+    private Path journal() {
+        return tempDir.resolve("dead-letters.log");
+    }
+
+    private DeadLetterStore newStore(int maxEntries, long compactMinLines) {
+        DeadLetterStore store = new DeadLetterStore(new ObjectMapper(), maxEntries);
+        ReflectionTestUtils.setField(store, "path", journal().toString());
+        ReflectionTestUtils.setField(store, "compactMinLines", compactMinLines);
+        store.init();
+        stores.add(store);
+        return store;
+    }
+
+    private static DeadLetter deadLetter(String id) {
+        return new DeadLetter(id, NOTIFICATION, SMS, 3, "503", 0L);
+    }
+}
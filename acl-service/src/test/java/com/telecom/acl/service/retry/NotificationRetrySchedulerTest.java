@@ -0,0 +1,145 @@
+package com.telecom.acl.service.retry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.telecom.acl.common.dto.NotificationRequest;
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.dedup.DeliveryCache;
+import com.telecom.acl.service.dedup.DeliveryKey;
+import com.telecom.acl.service.dto.ChannelResult;
+import com.telecom.acl.service.metrics.PipelineMetrics;
+import com.telecom.acl.service.service.AsyncNotificationSender;
+import com.telecom.acl.service.throttle.ChannelRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationRetrySchedulerTest {
+    private static final ExcessNotificationSoap NOTIFICATION = ExcessNotificationSoap.builder()
+            .userSequence("user1").svcTypeCd("D").usedQty(1200).baseQty(1000).exceedQty(200)
+            .notifyDtm("20240101120000").build();
+    private static final NotificationRequest SMS = NotificationRequest.builder()
+            .userId("user1").channel("SMS").message("초과").build();
+
+    @TempDir
+    Path tempDir;
+
+    private final AsyncNotificationSender sender = mock(AsyncNotificationSender.class);
+    private DeliveryCache deliveryCache;
+    private DeadLetterStore store;
+    private NotificationRetryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        deliveryCache = new DeliveryCache(1000);
+        ReflectionTestUtils.setField(deliveryCache, "enabled", true);
+        ReflectionTestUtils.setField(deliveryCache, "ttlMs", 60_000L);
+        store = newStore();
+        scheduler = newScheduler(store, 3, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+        store.close();
+    }
+
+    @Test
+    void exhaustedRetriesMoveToDeadLetterStore() {
+        when(sender.send(any())).thenReturn(CompletableFuture.completedFuture(
+                ChannelResult.failure("SMS", 1, "503")));
+
+        scheduler.scheduleRetry(NOTIFICATION, SMS, "timeout");
+
+        // 최초 발송 1회 + 재시도 2회 = max-attempts 3
+        verify(sender, timeout(2000).times(2)).send(SMS);
+        await().untilAsserted(() -> assertThat(store.list()).hasSize(1));
+        assertThat(store.list().get(0).attempts()).isEqualTo(3);
+        assertThat(store.pendingRetries()).isEmpty();
+    }
+
+    @Test
+    void successfulRetryMarksDeliveredAndClearsPendingRecord() {
+        when(sender.send(any())).thenReturn(CompletableFuture.completedFuture(ChannelResult.success("SMS", 1)));
+
+        scheduler.scheduleRetry(NOTIFICATION, SMS, "timeout");
+
+        await().untilAsserted(() -> assertThat(store.pendingRetries()).isEmpty());
+        assertThat(deliveryCache.deliveredChannels(DeliveryKey.of(NOTIFICATION))).containsExactly("SMS");
+        assertThat(store.list()).isEmpty();
+    }
+
+    @Test
+    void pendingRetryIsPersistedAndResumedAfterRestart() {
+        NotificationRetryScheduler slow = newScheduler(store, 3, 60_000);
+        slow.scheduleRetry(NOTIFICATION, SMS, "timeout");
+        slow.stop();
+        store.close();
+
+        DeadLetterStore reopened = newStore();
+        assertThat(reopened.pendingRetries()).hasSize(1);
+
+        when(sender.send(any())).thenReturn(CompletableFuture.completedFuture(ChannelResult.success("SMS", 1)));
+        NotificationRetryScheduler restarted = newScheduler(reopened, 3, 10);
+        verify(sender, timeout(2000)).send(SMS);
+        await().untilAsserted(() -> assertThat(reopened.pendingRetries()).isEmpty());
+        restarted.stop();
+        reopened.close();
+    }
+
+    @Test
+    void disabledRetryDeadLettersImmediately() {
+        NotificationRetryScheduler noRetry = newScheduler(store, 1, 10);
+
+        noRetry.scheduleRetry(NOTIFICATION, SMS, "timeout");
+
+        assertThat(store.list()).hasSize(1);
+        verify(sender, never()).send(any());
+        noRetry.stop();
+    }
+
+    @Test
+    void replaySkipsChannelAlreadyDelivered() {
+        store.add(new DeadLetter("dl-1", NOTIFICATION, SMS, 3, "503", 0L));
+        deliveryCache.markDelivered(DeliveryKey.of(NOTIFICATION), "SMS");
+
+        assertThat(scheduler.replay("dl-1")).isTrue();
+
+        await().untilAsserted(() -> assertThat(store.pendingRetries()).isEmpty());
+        verify(sender, times(0)).send(any());
+        assertThat(store.list()).isEmpty();
+    }
+
+    private DeadLetterStore newStore() {
+        DeadLetterStore created = new DeadLetterStore(new ObjectMapper(), 1000);
+        ReflectionTestUtils.setField(created, "path", tempDir.resolve("dead-letters.log").toString());
+        created.init();
+        return created;
+    }
+
+    private NotificationRetryScheduler newScheduler(DeadLetterStore deadLetterStore, int maxAttempts, long backoffMs) {
+        NotificationRetryScheduler created = new NotificationRetryScheduler(sender, deliveryCache,
+                new ChannelRateLimiter(0, 0, 0), deadLetterStore, new PipelineMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(created, "maxAttempts", maxAttempts);
+        ReflectionTestUtils.setField(created, "initialBackoffMs", backoffMs);
+        ReflectionTestUtils.setField(created, "maxBackoffMs", backoffMs);
+        ReflectionTestUtils.setField(created, "threads", 1);
+        created.start();
+        return created;
+    }
+}
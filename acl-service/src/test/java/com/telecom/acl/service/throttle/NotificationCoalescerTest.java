@@ -0,0 +1,131 @@
+package com.telecom.acl.service.throttle;
+
+import com.telecom.acl.common.soap.ExcessNotificationSoap;
+import com.telecom.acl.service.pipeline.DispatchHandle;
+import com.telecom.acl.service.pipeline.DispatchPipeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationCoalescerTest {
+    private DispatchPipeline dispatchPipeline;
+    private NotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        dispatchPipeline = mock(DispatchPipeline.class);
+        coalescer = new NotificationCoalescer(dispatchPipeline);
+        ReflectionTestUtils.setField(coalescer, "windowMs", 20L);
+        coalescer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.stop();
+    }
+
+    @Test
+    void firstNotificationIsDispatchedWithoutWaitingForTheWindow() throws InterruptedException {
+        DispatchHandle event = mock(DispatchHandle.class);
+        ExcessNotificationSoap soap = notification(100);
+
+        coalescer.submit(event, soap);
+
+        verify(dispatchPipeline).submit(event, soap);
+        verify(dispatchPipeline, never()).offer(any(), any());
+    }
+
+    @Test
+    void onlyLastRepeatInWindowIsDispatched() throws InterruptedException {
+        when(dispatchPipeline.offer(any(), any())).thenReturn(true);
+        DispatchHandle first = mock(DispatchHandle.class);
+        DispatchHandle second = mock(DispatchHandle.class);
+        DispatchHandle third = mock(DispatchHandle.class);
+        ExcessNotificationSoap latest = notification(300);
+
+        coalescer.submit(first, notification(100));
+        coalescer.submit(second, notification(200));
+        coalescer.submit(third, latest);
+
+        verify(dispatchPipeline).submit(first, notification(100));
+        verify(second).complete();
+        verify(dispatchPipeline, timeout(1000)).offer(third, latest);
+        verify(dispatchPipeline, never()).offer(second, notification(200));
+        verify(first, never()).complete();
+    }
+
+    @Test
+    void windowWithoutRepeatsCloses() throws InterruptedException {
+        DispatchHandle first = mock(DispatchHandle.class);
+        DispatchHandle second = mock(DispatchHandle.class);
+
+        coalescer.submit(first, notification(100));
+        Thread.sleep(200);
+        coalescer.submit(second, notification(200));
+
+        verify(dispatchPipeline).submit(first, notification(100));
+        verify(dispatchPipeline).submit(second, notification(200));
+        verify(dispatchPipeline, never()).offer(any(), any());
+    }
+
+    @Test
+    void distinctKeysAreNotHeld() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            coalescer.submit(mock(DispatchHandle.class), notification("user" + i, 100));
+        }
+
+        verify(dispatchPipeline, times(100)).submit(any(), any());
+        verify(dispatchPipeline, never()).offer(any(), any());
+    }
+
+    @Test
+    void fullLaneIsRetriedWithoutBlockingTheScheduler() throws InterruptedException {
+        when(dispatchPipeline.offer(any(), any())).thenReturn(false, false, true);
+        DispatchHandle event = mock(DispatchHandle.class);
+        ExcessNotificationSoap soap = notification(200);
+
+        coalescer.submit(mock(DispatchHandle.class), notification(100));
+        coalescer.submit(event, soap);
+
+        verify(dispatchPipeline, timeout(1000).times(3)).offer(event, soap);
+        verify(dispatchPipeline, never()).submit(event, soap);
+        verify(event, times(0)).complete();
+    }
+
+    @Test
+    void heldRepeatIsHandedOffOnStop() throws InterruptedException {
+        ReflectionTestUtils.setField(coalescer, "windowMs", 60_000L);
+        DispatchHandle event = mock(DispatchHandle.class);
+        ExcessNotificationSoap soap = notification(200);
+
+        coalescer.submit(mock(DispatchHandle.class), notification(100));
+        coalescer.submit(event, soap);
+        coalescer.stop();
+
+        verify(dispatchPipeline).submit(event, soap);
+    }
+
+    private static ExcessNotificationSoap notification(int exceedQty) {
+        return notification("user1", exceedQty);
+    }
+
+    private static ExcessNotificationSoap notification(String userSequence, int exceedQty) {
+        return ExcessNotificationSoap.builder()
+                .userSequence(userSequence)
+                .svcTypeCd("D")
+                .usedQty(1000 + exceedQty)
+                .baseQty(1000)
+                .exceedQty(exceedQty)
+                .notifyDtm("20240101120000")
+                .build();
+    }
+}
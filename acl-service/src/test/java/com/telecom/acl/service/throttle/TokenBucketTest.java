@@ -0,0 +1,41 @@
+package com.telecom.acl.service.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    void burstIsFreeThenReservationsQueueAtRate() {
+        TokenBucket bucket = new TokenBucket(10, 2);
+
+        assertThat(bucket.reserve()).isZero();
+        assertThat(bucket.reserve()).isZero();
+        long third = bucket.reserve();
+        long fourth = bucket.reserve();
+
+        // 초당 10개: 다음 토큰은 약 100ms 뒤, 그 다음은 약 200ms 뒤
+        assertThat(third).isBetween(TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(fourth - third).isBetween(TimeUnit.MILLISECONDS.toNanos(90), TimeUnit.MILLISECONDS.toNanos(110));
+    }
+
+    @Test
+    void throttledChannelDoesNotBlockCallerOrOtherChannels() {
+        ChannelRateLimiter limiter = new ChannelRateLimiter(0, 1, 0);
+        limiter.throttled("SMS", () -> CompletableFuture.completedFuture("first"));
+
+        long start = System.nanoTime();
+        CompletableFuture<String> sms = limiter.throttled("SMS", () -> CompletableFuture.completedFuture("sms"));
+        CompletableFuture<String> push = limiter.throttled("PUSH", () -> CompletableFuture.completedFuture("push"));
+        long callerNanos = System.nanoTime() - start;
+
+        assertThat(callerNanos).isLessThan(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(push).isCompletedWithValue("push");
+        assertThat(sms).isNotDone();
+        assertThat(sms.orTimeout(3, TimeUnit.SECONDS).join()).isEqualTo("sms");
+    }
+}
@@ -0,0 +1,26 @@
+package com.telecom.acl.common.messaging;
+
+import java.util.List;
+
+/**
+ * {@link MessageSource}가 파티션별로 읽은 메시지를 전달받는 콜백입니다.
+ * 같은 파티션의 호출은 순서대로, 동시에 겹치지 않게 이루어집니다.
+ * 예외를 던지면 소스는 마지막 체크포인트 이후부터 다시 전달합니다.
+ */
+public interface MessageHandler {
+
+    /**
+     * 메시지 묶음을 처리합니다. 대기 시간 동안 메시지가 없으면 빈 목록으로 호출될 수 있습니다.
+     */
+    void onMessages(MessagePartition partition, List<SourceMessage> messages);
+
+    /**
+     * 파티션 처리가 끝났을 때 호출됩니다. reason이 SHUTDOWN으로 끝나면 정상 종료이고,
+     * 그 외(소유권 상실 등)에는 다른 소비자가 이미 이 파티션을 이어받았을 수 있습니다.
+     */
+    default void onPartitionClosed(String partitionId, String reason) {
+    }
+
+    default void onError(String partitionId, Throwable error) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.telecom.acl.common.messaging;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 소비 중인 파티션 하나에 대한 핸들입니다.
+ * 체크포인트는 "이 메시지까지 처리 완료"를 뜻하며, 재시작이나 소유권 이동 후에는 그 다음 메시지부터 다시 읽습니다.
+ */
+public interface MessagePartition {
+
+    String partitionId();
+
+    /**
+     * 파티션에 마지막으로 적재된 메시지의 순번입니다. 소스가 제공하지 않으면 null.
+     */
+    Long lastEnqueuedSequenceNumber();
+
+    /**
+     * 주어진 메시지(포함)까지의 처리 완료를 기록합니다.
+     */
+    CompletableFuture<Void> checkpoint(SourceMessage message);
+}
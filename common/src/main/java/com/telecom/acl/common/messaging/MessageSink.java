@@ -0,0 +1,20 @@
+package com.telecom.acl.common.messaging;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 메시지를 파티션 키 기준으로 브로커에 발행하는 생산자입니다.
+ * 같은 파티션 키의 메시지는 같은 파티션에 순서대로 적재됩니다.
+ */
+public interface MessageSink extends AutoCloseable {
+
+    /**
+     * @param partitionKey 파티션 키, null이면 브로커가 파티션을 고릅니다
+     * @param body         메시지 본문
+     */
+    CompletableFuture<Void> send(String partitionKey, String body);
+
+    @Override
+    default void close() {
+    }
+}
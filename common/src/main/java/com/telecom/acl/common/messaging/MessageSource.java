@@ -0,0 +1,14 @@
+package com.telecom.acl.common.messaging;
+
+/**
+ * 파티션 단위로 메시지를 읽어 {@link MessageHandler}에 전달하는 소비자입니다.
+ * 운영 환경은 Event Hubs, 단일 장비 부하 테스트는 in-memory 브로커 구현을 사용합니다.
+ */
+public interface MessageSource {
+
+    void start(MessageHandler handler);
+
+    void stop();
+
+    boolean isRunning();
+}
@@ -0,0 +1,12 @@
+package com.telecom.acl.common.messaging;
+
+/**
+ * 소스 파티션에서 읽은 메시지 한 건입니다.
+ *
+ * @param partitionId    파티션 ID
+ * @param sequenceNumber 파티션 내 순번 (단조 증가)
+ * @param offset         브로커가 부여한 위치 (체크포인트에 함께 기록)
+ * @param body           메시지 본문 (SOAP XML)
+ */
+public record SourceMessage(String partitionId, long sequenceNumber, long offset, String body) {
+}
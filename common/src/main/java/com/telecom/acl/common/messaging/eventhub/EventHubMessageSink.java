@@ -0,0 +1,200 @@
+package com.telecom.acl.common.messaging.eventhub;
+
+import com.azure.messaging.eventhubs.EventData;
+import com.azure.messaging.eventhubs.EventDataBatch;
+import com.azure.messaging.eventhubs.EventHubProducerClient;
+import com.azure.messaging.eventhubs.models.CreateBatchOptions;
+import com.telecom.acl.common.messaging.MessageSink;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link EventHubProducerClient} 기반 {@link MessageSink} (운영 어댑터)입니다.
+ * 파티션 키로 파티션을 정하고, 파티션마다 전용 발행 스레드가 큐에 쌓인 메시지를
+ * {@link EventDataBatch}로 묶어(최대 maxBatchEvents건 또는 linger 경과 시) 보냅니다.
+ * send는 큐에 넣고 바로 반환하며, 큐가 가득 차면 발행 스레드가 따라잡을 때까지 대기합니다.
+ * 파티션당 전송 중인 배치는 하나뿐이므로 같은 파티션 키의 메시지 순서가 유지됩니다.
+ */
+@Slf4j
+public class EventHubMessageSink implements MessageSink {
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final EventHubProducerClient producerClient;
+    private final PartitionPublisher[] publishers;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    /**
+     * @param maxBatchEvents 배치 하나에 담을 최대 메시지 수 (배치 크기 한도에 먼저 닿으면 그 전에 나눔)
+     * @param linger         첫 메시지 이후 배치를 채우기 위해 기다리는 최대 시간
+     * @param queueCapacity  파티션별 발행 대기 메시지 수 한도
+     */
+    public EventHubMessageSink(EventHubProducerClient producerClient, int maxBatchEvents, Duration linger,
+                               int queueCapacity) {
+        this.producerClient = producerClient;
+        List<String> partitionIds = new ArrayList<>();
+        producerClient.getPartitionIds().forEach(partitionIds::add);
+        this.publishers = new PartitionPublisher[partitionIds.size()];
+        for (int i = 0; i < publishers.length; i++) {
+            publishers[i] = new PartitionPublisher(partitionIds.get(i), Math.max(1, maxBatchEvents),
+                    linger.toNanos(), queueCapacity);
+            publishers[i].start();
+        }
+        log.info("Publishing to {} partitions of {} (maxBatchEvents={}, linger={}ms)", publishers.length,
+                producerClient.getEventHubName(), maxBatchEvents, linger.toMillis());
+    }
+
+    /**
+     * 같은 파티션 키는 항상 같은 파티션으로 보냅니다. (파티션 목록의 키 해시 위치, null이면 순환)
+     */
+    @Override
+    public CompletableFuture<Void> send(String partitionKey, String body) {
+        int index = partitionKey == null
+                ? Math.floorMod(roundRobin.getAndIncrement(), publishers.length)
+                : Math.floorMod(partitionKey.hashCode(), publishers.length);
+        return publishers[index].enqueue(body);
+    }
+
+    /**
+     * 큐에 남은 메시지를 모두 보낸 뒤 producer를 닫습니다.
+     */
+    @Override
+    public void close() {
+        for (PartitionPublisher publisher : publishers) {
+            publisher.stop();
+        }
+        producerClient.close();
+    }
+
+    private final class PartitionPublisher implements Runnable {
+        private final String partitionId;
+        private final int maxBatchEvents;
+        private final long lingerNanos;
+        private final BlockingQueue<Pending> queue;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private PartitionPublisher(String partitionId, int maxBatchEvents, long lingerNanos, int queueCapacity) {
+            this.partitionId = partitionId;
+            this.maxBatchEvents = maxBatchEvents;
+            this.lingerNanos = lingerNanos;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this, "eventhub-publisher-" + partitionId);
+            this.thread.setDaemon(true);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        CompletableFuture<Void> enqueue(String body) {
+            if (!running) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Message sink is closed"));
+            }
+            Pending pending = new Pending(new EventData(body), new CompletableFuture<>());
+            try {
+                queue.put(pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CompletableFuture.failedFuture(e);
+            }
+            return pending.future();
+        }
+
+        void stop() {
+            running = false;
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // 종료 직전에 들어와 보내지 못한 메시지
+            List<Pending> left = new ArrayList<>();
+            queue.drainTo(left);
+            left.forEach(pending -> pending.future().completeExceptionally(
+                    new IllegalStateException("Message sink closed before publishing")));
+        }
+
+        @Override
+        public void run() {
+            List<Pending> drained = new ArrayList<>(maxBatchEvents);
+            try {
+                while (running || !queue.isEmpty()) {
+                    Pending first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    drained.add(first);
+                    long deadline = System.nanoTime() + lingerNanos;
+                    while (drained.size() < maxBatchEvents) {
+                        long remaining = deadline - System.nanoTime();
+                        Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                        if (next == null) {
+                            break;
+                        }
+                        drained.add(next);
+                    }
+                    publish(drained);
+                    drained.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                drained.forEach(pending -> pending.future().completeExceptionally(e));
+            }
+        }
+
+        private void publish(List<Pending> pendings) {
+            List<Pending> inBatch = new ArrayList<>(pendings.size());
+            try {
+                EventDataBatch batch = createBatch();
+                for (Pending pending : pendings) {
+                    if (batch.tryAdd(pending.event())) {
+                        inBatch.add(pending);
+                        continue;
+                    }
+                    // 배치 크기 한도 도달: 지금까지 모은 것을 보내고 새 배치로
+                    send(batch, inBatch);
+                    batch = createBatch();
+                    if (batch.tryAdd(pending.event())) {
+                        inBatch.add(pending);
+                    } else {
+                        pending.future().completeExceptionally(new IllegalArgumentException(
+                                "Message larger than the maximum batch size " + batch.getMaxSizeInBytes()));
+                    }
+                }
+                if (!inBatch.isEmpty()) {
+                    send(batch, inBatch);
+                }
+            } catch (Exception e) {
+                log.error("Failed to create batch for partition {}: {}", partitionId, e.getMessage());
+                pendings.forEach(pending -> pending.future().completeExceptionally(e));
+            }
+        }
+
+        private EventDataBatch createBatch() {
+            return producerClient.createBatch(new CreateBatchOptions().setPartitionId(partitionId));
+        }
+
+        private void send(EventDataBatch batch, List<Pending> inBatch) {
+            try {
+                producerClient.send(batch);
+                inBatch.forEach(pending -> pending.future().complete(null));
+            } catch (Exception e) {
+                log.error("Failed to publish {} events to partition {}: {}",
+                        inBatch.size(), partitionId, e.getMessage());
+                inBatch.forEach(pending -> pending.future().completeExceptionally(e));
+            }
+            inBatch.clear();
+        }
+    }
+
+    private record Pending(EventData event, CompletableFuture<Void> future) {
+    }
+}
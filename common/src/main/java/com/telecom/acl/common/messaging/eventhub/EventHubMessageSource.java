@@ -0,0 +1,140 @@
+package com.telecom.acl.common.messaging.eventhub;
+
+import com.azure.messaging.eventhubs.CheckpointStore;
+import com.azure.messaging.eventhubs.EventData;
+import com.azure.messaging.eventhubs.EventProcessorClient;
+import com.azure.messaging.eventhubs.EventProcessorClientBuilder;
+import com.azure.messaging.eventhubs.models.Checkpoint;
+import com.azure.messaging.eventhubs.models.LastEnqueuedEventProperties;
+import com.azure.messaging.eventhubs.models.PartitionContext;
+import com.telecom.acl.common.messaging.MessageHandler;
+import com.telecom.acl.common.messaging.MessagePartition;
+import com.telecom.acl.common.messaging.MessageSource;
+import com.telecom.acl.common.messaging.SourceMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Event Hubs {@link EventProcessorClient} 기반 {@link MessageSource} (운영 어댑터)입니다.
+ * maxBatchSize가 1 이하이면 processEvent(단건), 아니면 processEventBatch로 메시지를 받습니다.
+ * 체크포인트는 설정된 {@link CheckpointStore}에 기록합니다.
+ */
+@Slf4j
+public class EventHubMessageSource implements MessageSource {
+    private final String connectionString;
+    private final String eventHubName;
+    private final String consumerGroup;
+    private final CheckpointStore checkpointStore;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private EventProcessorClient client;
+
+    public EventHubMessageSource(String connectionString, String eventHubName, String consumerGroup,
+                                 CheckpointStore checkpointStore, int maxBatchSize, Duration maxWait) {
+        this.connectionString = connectionString;
+        this.eventHubName = eventHubName;
+        this.consumerGroup = consumerGroup;
+        this.checkpointStore = checkpointStore;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public synchronized void start(MessageHandler handler) {
+        EventProcessorClientBuilder builder = new EventProcessorClientBuilder()
+                .connectionString(connectionString, eventHubName)
+                .consumerGroup(consumerGroup)
+                .trackLastEnqueuedEventProperties(true)  // consumer lag 추정용
+                .checkpointStore(checkpointStore)
+                .processPartitionClose(context -> handler.onPartitionClosed(
+                        context.getPartitionContext().getPartitionId(), String.valueOf(context.getCloseReason())))
+                .processError(context -> handler.onError(
+                        context.getPartitionContext() == null ? null : context.getPartitionContext().getPartitionId(),
+                        context.getThrowable()));
+
+        if (maxBatchSize > 1) {
+            log.info("Event Hub {} batch processing: maxBatchSize={}, maxWait={}", eventHubName, maxBatchSize, maxWait);
+            builder.processEventBatch(batch -> handler.onMessages(
+                    partition(batch.getPartitionContext(), batch.getLastEnqueuedEventProperties()),
+                    toMessages(batch.getPartitionContext().getPartitionId(), batch.getEvents())),
+                    maxBatchSize, maxWait);
+        } else {
+            builder.processEvent(event -> handler.onMessages(
+                    partition(event.getPartitionContext(), event.getLastEnqueuedEventProperties()),
+                    List.of(toMessage(event.getPartitionContext().getPartitionId(), event.getEventData()))));
+        }
+
+        client = builder.buildEventProcessorClient();
+        client.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (client != null) {
+            client.stop();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        EventProcessorClient current = client;
+        return current != null && current.isRunning();
+    }
+
+    @Override
+    public String toString() {
+        return "Event Hub " + eventHubName + " (" + consumerGroup + ")";
+    }
+
+    private MessagePartition partition(PartitionContext context, LastEnqueuedEventProperties lastEnqueued) {
+        return new EventHubPartition(context, lastEnqueued == null ? null : lastEnqueued.getSequenceNumber());
+    }
+
+    private static List<SourceMessage> toMessages(String partitionId, List<EventData> events) {
+        List<SourceMessage> messages = new ArrayList<>(events.size());
+        for (EventData event : events) {
+            messages.add(toMessage(partitionId, event));
+        }
+        return messages;
+    }
+
+    private static SourceMessage toMessage(String partitionId, EventData event) {
+        return new SourceMessage(partitionId, event.getSequenceNumber(), event.getOffset(), event.getBodyAsString());
+    }
+
+    private class EventHubPartition implements MessagePartition {
+        private final PartitionContext context;
+        private final Long lastEnqueuedSequenceNumber;
+
+        private EventHubPartition(PartitionContext context, Long lastEnqueuedSequenceNumber) {
+            this.context = context;
+            this.lastEnqueuedSequenceNumber = lastEnqueuedSequenceNumber;
+        }
+
+        @Override
+        public String partitionId() {
+            return context.getPartitionId();
+        }
+
+        @Override
+        public Long lastEnqueuedSequenceNumber() {
+            return lastEnqueuedSequenceNumber;
+        }
+
+        @Override
+        public CompletableFuture<Void> checkpoint(SourceMessage message) {
+            Checkpoint checkpoint = new Checkpoint()
+                    .setFullyQualifiedNamespace(context.getFullyQualifiedNamespace())
+                    .setEventHubName(context.getEventHubName())
+                    .setConsumerGroup(context.getConsumerGroup())
+                    .setPartitionId(context.getPartitionId())
+                    .setSequenceNumber(message.sequenceNumber())
+                    .setOffset(message.offset());
+            return checkpointStore.updateCheckpoint(checkpoint).toFuture();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.telecom.acl.common.messaging.memory;
+
+import com.telecom.acl.common.messaging.MessageSink;
+import com.telecom.acl.common.messaging.MessageSource;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단일 JVM에서 KOS → ACL → 알림 경로 전체를 부하 테스트하기 위한 파티션 브로커입니다.
+ * 파티션 키 해시로 파티션을 고르고, 파티션마다 고정 크기 ring buffer에 메시지를 적재합니다.
+ * 체크포인트(커밋 위치)는 메모리에만 남으므로 프로세스 재시작 후에는 이어서 읽을 수 없습니다.
+ */
+public class InMemoryBroker {
+    private final PartitionLog[] partitions;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    public InMemoryBroker(int partitionCount, int capacityPerPartition) {
+        this.partitions = new PartitionLog[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new PartitionLog(String.valueOf(i), capacityPerPartition);
+        }
+    }
+
+    public int partitionCount() {
+        return partitions.length;
+    }
+
+    public MessageSink sink() {
+        return new InMemoryMessageSink(this);
+    }
+
+    /**
+     * consumer group 하나로 모든 파티션을 읽는 소스를 만듭니다. 파티션마다 전용 스레드가 배정됩니다.
+     */
+    public MessageSource source(String consumerGroup, int maxBatchSize, Duration maxWait) {
+        return new InMemoryMessageSource(this, consumerGroup, maxBatchSize, maxWait);
+    }
+
+    PartitionLog partitionFor(String partitionKey) {
+        int index = partitionKey == null
+                ? Math.floorMod(roundRobin.getAndIncrement(), partitions.length)
+                : Math.floorMod(partitionKey.hashCode(), partitions.length);
+        return partitions[index];
+    }
+
+    PartitionLog[] partitions() {
+        return partitions;
+    }
+}
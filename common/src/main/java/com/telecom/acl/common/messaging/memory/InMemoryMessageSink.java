@@ -0,0 +1,28 @@
+package com.telecom.acl.common.messaging.memory;
+
+import com.telecom.acl.common.messaging.MessageSink;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link InMemoryBroker}에 메시지를 적재하는 {@link MessageSink}입니다.
+ * 파티션이 가득 차면 소비자가 체크포인트할 때까지 호출 스레드가 대기합니다.
+ */
+class InMemoryMessageSink implements MessageSink {
+    private final InMemoryBroker broker;
+
+    InMemoryMessageSink(InMemoryBroker broker) {
+        this.broker = broker;
+    }
+
+    @Override
+    public CompletableFuture<Void> send(String partitionKey, String body) {
+        try {
+            broker.partitionFor(partitionKey).append(body);
+            return CompletableFuture.completedFuture(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
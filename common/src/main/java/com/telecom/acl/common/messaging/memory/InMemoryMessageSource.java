@@ -0,0 +1,125 @@
+package com.telecom.acl.common.messaging.memory;
+
+import com.telecom.acl.common.messaging.MessageHandler;
+import com.telecom.acl.common.messaging.MessagePartition;
+import com.telecom.acl.common.messaging.MessageSource;
+import com.telecom.acl.common.messaging.SourceMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InMemoryBroker}의 모든 파티션을 consumer group 하나로 읽는 {@link MessageSource}입니다.
+ * 파티션마다 전용 스레드가 메시지를 최대 maxBatchSize건씩 읽어 전달하며,
+ * 핸들러가 예외를 던지면 마지막 체크포인트 다음부터 다시 읽습니다(Event Hubs와 같은 재처리 규칙).
+ * 이때 이미 전달되어 처리 중인 메시지도 다시 전달되므로, 핸들러는 같은 offset의 중복 전달을 견뎌야 합니다.
+ */
+@Slf4j
+class InMemoryMessageSource implements MessageSource {
+    private final InMemoryBroker broker;
+    private final String consumerGroup;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    InMemoryMessageSource(InMemoryBroker broker, String consumerGroup, int maxBatchSize, Duration maxWait) {
+        this.broker = broker;
+        this.consumerGroup = consumerGroup;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitNanos = maxWait.toNanos();
+        for (PartitionLog partition : broker.partitions()) {
+            partition.register(consumerGroup);
+        }
+    }
+
+    @Override
+    public synchronized void start(MessageHandler handler) {
+        running = true;
+        for (PartitionLog partition : broker.partitions()) {
+            Thread thread = new Thread(() -> consume(partition, handler),
+                    "in-memory-" + consumerGroup + "-" + partition.partitionId());
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        log.info("In-memory source {} started on {} partitions", consumerGroup, threads.size());
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        threads.clear();
+        for (PartitionLog partition : broker.partitions()) {
+            log.info("In-memory partition {} closed at offset {} (committed {})",
+                    partition.partitionId(), partition.lastOffset(), partition.committed(consumerGroup));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public String toString() {
+        return "in-memory broker (" + consumerGroup + ", " + broker.partitionCount() + " partitions)";
+    }
+
+    private void consume(PartitionLog partitionLog, MessageHandler handler) {
+        MessagePartition partition = new InMemoryPartition(partitionLog);
+        long position = partitionLog.committed(consumerGroup);
+        while (running) {
+            try {
+                List<SourceMessage> messages = partitionLog.read(position, maxBatchSize, maxWaitNanos);
+                handler.onMessages(partition, messages);
+                if (!messages.isEmpty()) {
+                    position = messages.get(messages.size() - 1).offset() + 1;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                handler.onError(partitionLog.partitionId(), e);
+                position = partitionLog.committed(consumerGroup);
+            }
+        }
+        handler.onPartitionClosed(partitionLog.partitionId(), "SHUTDOWN");
+    }
+
+    private class InMemoryPartition implements MessagePartition {
+        private final PartitionLog partitionLog;
+
+        private InMemoryPartition(PartitionLog partitionLog) {
+            this.partitionLog = partitionLog;
+        }
+
+        @Override
+        public String partitionId() {
+            return partitionLog.partitionId();
+        }
+
+        @Override
+        public Long lastEnqueuedSequenceNumber() {
+            return partitionLog.lastOffset();
+        }
+
+        @Override
+        public CompletableFuture<Void> checkpoint(SourceMessage message) {
+            partitionLog.commit(consumerGroup, message.offset());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.telecom.acl.common.messaging.memory;
+
+import com.telecom.acl.common.messaging.SourceMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * in-memory 브로커의 파티션 하나입니다. 고정 크기 ring buffer에 메시지를 적재하며 offset은 0부터 1씩 증가합니다.
+ * consumer group이 있으면 가장 느린 group의 커밋 위치로부터 capacity만큼만 앞서 쓸 수 있고(생산자 대기),
+ * group이 없으면 가장 오래된 메시지를 덮어씁니다.
+ */
+class PartitionLog {
+    private final String partitionId;
+    private final String[] ring;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Map<String, Long> committed = new ConcurrentHashMap<>();
+    private long nextOffset;
+
+    PartitionLog(String partitionId, int capacity) {
+        this.partitionId = partitionId;
+        this.ring = new String[capacity];
+    }
+
+    String partitionId() {
+        return partitionId;
+    }
+
+    void append(String body) throws InterruptedException {
+        lock.lock();
+        try {
+            while (nextOffset - minCommitted() >= ring.length) {
+                notFull.await();
+            }
+            ring[(int) (nextOffset % ring.length)] = body;
+            nextOffset++;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * fromOffset부터 최대 maxMessages건을 읽습니다. 읽을 메시지가 없으면 maxWaitNanos 동안 기다립니다.
+     */
+    List<SourceMessage> read(long fromOffset, int maxMessages, long maxWaitNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            while (nextOffset <= fromOffset && remaining > 0) {
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            long start = Math.max(fromOffset, nextOffset - ring.length);
+            int count = (int) Math.min(maxMessages, Math.max(0, nextOffset - start));
+            List<SourceMessage> messages = new ArrayList<>(count);
+            for (long offset = start; offset < start + count; offset++) {
+                messages.add(new SourceMessage(partitionId, offset, offset, ring[(int) (offset % ring.length)]));
+            }
+            return messages;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void register(String consumerGroup) {
+        committed.putIfAbsent(consumerGroup, 0L);
+    }
+
+    long committed(String consumerGroup) {
+        return committed.getOrDefault(consumerGroup, 0L);
+    }
+
+    /**
+     * offset(포함)까지 처리 완료로 기록하고 대기 중인 생산자를 깨웁니다.
+     */
+    void commit(String consumerGroup, long offset) {
+        committed.merge(consumerGroup, offset + 1, Math::max);
+        lock.lock();
+        try {
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long lastOffset() {
+        lock.lock();
+        try {
+            return nextOffset - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long minCommitted() {
+        if (committed.isEmpty()) {
+            return nextOffset;
+        }
+        long min = Long.MAX_VALUE;
+        for (long offset : committed.values()) {
+            min = Math.min(min, offset);
+        }
+        return min;
+    }
+}
@@ -0,0 +1,48 @@
+package com.telecom.acl.common.type;
+
+import java.util.Optional;
+
+/**
+ * Legacy 시스템의 서비스 타입 코드(svcTypeCd)입니다.
+ */
+public enum ServiceType {
+    VOICE("V", "분", "min"),
+    DATA("D", "MB", "MB"),
+    SMS("S", "건", "msgs");
+
+    private final String code;
+    private final String unit;
+    private final String unitEn;
+
+    ServiceType(String code, String unit, String unitEn) {
+        this.code = code;
+        this.unit = unit;
+        this.unitEn = unitEn;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 로케일별 사용량 단위를 반환합니다. 지원하지 않는 로케일은 한국어 단위를 사용합니다.
+     */
+    public String getUnit(String locale) {
+        return "en".equals(locale) ? unitEn : unit;
+    }
+
+    /**
+     * 코드에 해당하는 서비스 타입을 찾습니다. 알 수 없는 코드는 예외 대신 빈 값을 반환합니다.
+     */
+    public static Optional<ServiceType> fromCode(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        return switch (code) {
+            case "V" -> Optional.of(VOICE);
+            case "D" -> Optional.of(DATA);
+            case "S" -> Optional.of(SMS);
+            default -> Optional.empty();
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.telecom.acl.common.workload;
+
+/**
+ * 워크로드 파일의 이벤트 하나입니다.
+ *
+ * @param offsetMicros 기록 시작 이후 경과 시간 (마이크로초)
+ * @param kind         USAGE: usage_data 사용량 행, EXCESS: KOS 초과 알림
+ * @param usedQty      사용량
+ * @param baseQty      기본 제공량 (초과량은 usedQty - baseQty)
+ */
+public record WorkloadEvent(long offsetMicros, Kind kind, String userSequence, String svcTypeCd,
+                            int usedQty, int baseQty) {
+
+    public enum Kind {
+        USAGE, EXCESS
+    }
+}
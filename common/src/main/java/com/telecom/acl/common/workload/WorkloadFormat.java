@@ -0,0 +1,21 @@
+package com.telecom.acl.common.workload;
+
+/**
+ * 워크로드 파일 형식입니다. (고정 길이 정수는 big-endian)
+ * <pre>
+ * header : magic(int "ACLW") | version(short) | reserved(short) | 기록 시작 epoch 마이크로초(long)
+ * record : kind(byte) | 직전 이벤트와의 간격 마이크로초(varint)
+ *          | userSequence 길이(byte) + UTF-8 | svcTypeCd(byte, ASCII 한 글자)
+ *          | usedQty(zigzag varint) | baseQty(zigzag varint)
+ * </pre>
+ * 이벤트 하나가 보통 20바이트 안팎이며, 파일 끝까지 record가 이어집니다.
+ */
+final class WorkloadFormat {
+    static final int MAGIC = 0x41434C57;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int MAX_USER_SEQUENCE_BYTES = 255;
+
+    private WorkloadFormat() {
+    }
+}
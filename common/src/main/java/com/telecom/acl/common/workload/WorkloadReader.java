@@ -0,0 +1,139 @@
+package com.telecom.acl.common.workload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * 워크로드 파일({@link WorkloadFormat})을 memory-mapped I/O로 처음부터 순서대로 읽습니다.
+ * 파일 전체를 한 번에 매핑하므로 2GB(약 1억 이벤트)를 넘는 파일은 나눠서 기록해야 합니다.
+ * 기록 중 프로세스가 끝나 마지막 record가 잘려 있으면 그 앞까지만 읽고 {@link #isTruncated()}가 true가 됩니다.
+ * thread-safe하지 않습니다.
+ */
+public class WorkloadReader implements AutoCloseable {
+    private static final WorkloadEvent.Kind[] KINDS = WorkloadEvent.Kind.values();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long startEpochMicros;
+    private final byte[] user = new byte[WorkloadFormat.MAX_USER_SEQUENCE_BYTES];
+    private long offsetMicros;
+    private WorkloadEvent nextEvent;
+    private boolean truncated;
+
+    public WorkloadReader(Path path) {
+        this.path = path;
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                channel.close();
+                throw new IllegalArgumentException("Workload file larger than 2GB: " + path);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open workload file " + path, e);
+        }
+        if (buffer.remaining() < WorkloadFormat.HEADER_BYTES || buffer.getInt() != WorkloadFormat.MAGIC) {
+            close();
+            throw new IllegalArgumentException("Not a workload file: " + path);
+        }
+        short version = buffer.getShort();
+        if (version != WorkloadFormat.VERSION) {
+            close();
+            throw new IllegalArgumentException("Unsupported workload file version " + version + ": " + path);
+        }
+        buffer.getShort();
+        this.startEpochMicros = buffer.getLong();
+    }
+
+    /**
+     * 기록을 시작한 시각 (epoch 마이크로초)
+     */
+    public long startEpochMicros() {
+        return startEpochMicros;
+    }
+
+    public boolean hasNext() {
+        if (nextEvent == null && buffer.hasRemaining()) {
+            int start = buffer.position();
+            long previousOffsetMicros = offsetMicros;
+            try {
+                nextEvent = decode();
+            } catch (BufferUnderflowException e) {
+                // 마지막 record가 잘림: 그 앞까지만 읽은 것으로 끝냄
+                buffer.position(start);
+                offsetMicros = previousOffsetMicros;
+                truncated = true;
+                buffer.limit(start);
+            }
+        }
+        return nextEvent != null;
+    }
+
+    public WorkloadEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        WorkloadEvent event = nextEvent;
+        nextEvent = null;
+        return event;
+    }
+
+    /**
+     * 파일 끝의 record가 잘려 있어 읽지 않고 건너뛰었는지 여부 (hasNext가 false를 반환한 뒤에 확정)
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    private WorkloadEvent decode() {
+        try {
+            WorkloadEvent.Kind kind = KINDS[buffer.get()];
+            offsetMicros += readVarLong();
+            int userLength = buffer.get() & 0xFF;
+            buffer.get(user, 0, userLength);
+            String userSequence = new String(user, 0, userLength, StandardCharsets.UTF_8);
+            String svcTypeCd = String.valueOf((char) buffer.get());
+            int usedQty = unzigzag(readVarLong());
+            int baseQty = unzigzag(readVarLong());
+            return new WorkloadEvent(offsetMicros, kind, userSequence, svcTypeCd, usedQty, baseQty);
+        } catch (BufferUnderflowException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Corrupt workload file " + path + " at byte " + buffer.position(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close workload file " + path, e);
+        }
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    private static int unzigzag(long value) {
+        return (int) ((value >>> 1) ^ -(value & 1));
+    }
+}
@@ -0,0 +1,165 @@
+package com.telecom.acl.common.workload;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생성기가 만든 이벤트를 워크로드 파일({@link WorkloadFormat})에 기록합니다.
+ * start 전이나 stop 후의 record 호출은 아무것도 하지 않으므로 생성기는 항상 record를 호출하면 됩니다.
+ * 여러 생성 스레드에서 호출할 수 있으며, 기록 순서대로 시각이 증가합니다.
+ * 버퍼는 1초마다 파일로 내보내므로 프로세스가 stop 없이 끝나도 그 전까지의 기록은 남습니다.
+ * (마지막 record가 잘려 있을 수 있으며 {@link WorkloadReader}는 그 앞까지 읽음)
+ * 형식에 담을 수 없는 이벤트(255바이트를 넘는 userSequence)는 생성기를 방해하지 않도록 건너뛰고 로그만 남깁니다.
+ */
+@Slf4j
+public class WorkloadRecorder {
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final long FLUSH_INTERVAL_MS = 1000;
+
+    private DataOutputStream out;
+    private Path path;
+    private ScheduledExecutorService flusher;
+    private long startNanos;
+    private long lastOffsetMicros;
+    private long recorded;
+    private long skipped;
+    // 기록 중이 아닐 때 record 호출이 lock을 잡지 않도록
+    private volatile boolean recording;
+
+    public synchronized void start(Path path) {
+        if (recording) {
+            stop();
+        }
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_BYTES));
+            out.writeInt(WorkloadFormat.MAGIC);
+            out.writeShort(WorkloadFormat.VERSION);
+            out.writeShort(0);
+            out.writeLong(ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open workload file " + path, e);
+        }
+        this.path = path;
+        startNanos = System.nanoTime();
+        lastOffsetMicros = 0;
+        recorded = 0;
+        skipped = 0;
+        recording = true;
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "workload-recorder-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        log.info("Recording workload to {}", path.toAbsolutePath());
+    }
+
+    public void record(WorkloadEvent.Kind kind, String userSequence, String svcTypeCd, int usedQty, int baseQty) {
+        if (!recording) {
+            return;
+        }
+        synchronized (this) {
+            if (!recording) {
+                return;
+            }
+            long offsetMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+            byte[] user = userSequence.getBytes(StandardCharsets.UTF_8);
+            if (user.length > WorkloadFormat.MAX_USER_SEQUENCE_BYTES) {
+                skipped++;
+                // 같은 원인이 반복되면 로그가 넘치므로 일부만 기록
+                if (skipped % 1000 == 1) {
+                    log.warn("Skipped workload event with {}-byte userSequence ({} skipped so far)",
+                            user.length, skipped);
+                }
+                return;
+            }
+            try {
+                out.writeByte(kind.ordinal());
+                writeVarLong(Math.max(0, offsetMicros - lastOffsetMicros));
+                out.writeByte(user.length);
+                out.write(user);
+                out.writeByte(svcTypeCd.charAt(0));
+                writeVarLong(zigzag(usedQty));
+                writeVarLong(zigzag(baseQty));
+            } catch (IOException e) {
+                log.error("Failed to record workload event, stopping recording: {}", e.getMessage());
+                closeQuietly();
+                return;
+            }
+            lastOffsetMicros = Math.max(lastOffsetMicros, offsetMicros);
+            recorded++;
+        }
+    }
+
+    /**
+     * 기록을 끝내고 파일을 닫습니다. 기록한 이벤트 수를 반환합니다.
+     */
+    public synchronized long stop() {
+        if (!recording) {
+            return recorded;
+        }
+        closeQuietly();
+        log.info("Recorded {} workload events ({}s, {} skipped) to {}", recorded,
+                TimeUnit.MICROSECONDS.toSeconds(lastOffsetMicros), skipped, path.toAbsolutePath());
+        return recorded;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public synchronized long recorded() {
+        return recorded;
+    }
+
+    private synchronized void flush() {
+        if (!recording) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            log.error("Failed to flush workload file, stopping recording: {}", e.getMessage());
+            closeQuietly();
+        }
+    }
+
+    private void closeQuietly() {
+        recording = false;
+        flusher.shutdown();
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("Failed to close workload file {}: {}", path, e.getMessage());
+        }
+        out = null;
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long zigzag(int value) {
+        return ((long) value << 1) ^ (value >> 31);
+    }
+}
@@ -0,0 +1,138 @@
+package com.telecom.acl.common.workload;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 워크로드 파일 1회 재생입니다. 전용 스레드가 파일을 순서대로 읽어 handler에 넘깁니다.
+ * speed가 0보다 크면 기록 당시의 이벤트 간격을 speed로 나눈 시각에 맞춰 넘기고(1이면 원래 속도),
+ * 0이면 기다리지 않고 최대 속도로 넘깁니다. 재생이 늦어지면 기다리지 않고 따라잡습니다.
+ */
+@Slf4j
+public class WorkloadReplay {
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * 재생 이벤트 처리기입니다. flush는 다음 이벤트를 기다리기 전과 재생이 끝날 때 호출됩니다. (모아 쓰는 처리기용)
+     */
+    public interface Handler {
+        void onEvent(WorkloadEvent event) throws Exception;
+
+        default void flush() throws Exception {
+        }
+    }
+
+    private final Path path;
+    private final double speed;
+    private final Handler handler;
+    private final Thread thread;
+    private final long startNanos = System.nanoTime();
+
+    private volatile boolean running = true;
+    private volatile long stoppedAtNanos;
+    private volatile long positionMicros;
+    private volatile long replayed;
+    private volatile long failed;
+
+    public WorkloadReplay(Path path, double speed, Handler handler) {
+        if (speed < 0) {
+            throw new IllegalArgumentException("speed must not be negative: " + speed);
+        }
+        this.path = path;
+        this.speed = speed;
+        this.handler = handler;
+        this.thread = new Thread(this::run, "workload-replay");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        log.info("Replaying workload {} at {}", path.toAbsolutePath(), speed > 0 ? "x" + speed : "max speed");
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public WorkloadReplayReport report() {
+        long now = running ? System.nanoTime() : stoppedAtNanos;
+        return new WorkloadReplayReport(running, path.toString(), speed,
+                TimeUnit.NANOSECONDS.toMillis(now - startNanos), TimeUnit.MICROSECONDS.toMillis(positionMicros),
+                replayed, failed);
+    }
+
+    private void run() {
+        try (WorkloadReader reader = new WorkloadReader(path)) {
+            while (running && reader.hasNext()) {
+                WorkloadEvent event = reader.next();
+                if (speed > 0 && !awaitDue(event.offsetMicros())) {
+                    break;
+                }
+                try {
+                    handler.onEvent(event);
+                    replayed++;
+                } catch (Exception e) {
+                    onFailure(e);
+                }
+                positionMicros = event.offsetMicros();
+            }
+            if (reader.isTruncated()) {
+                log.warn("Workload file {} ends with a truncated record (recording was not stopped cleanly), "
+                        + "replayed up to it", path);
+            }
+            flush();
+        } catch (Exception e) {
+            log.error("Workload replay of {} failed: {}", path, e.getMessage(), e);
+        } finally {
+            stoppedAtNanos = System.nanoTime();
+            running = false;
+            WorkloadReplayReport report = report();
+            log.info("Workload replay finished after {}ms: replayed {} events ({}ms of recorded traffic), failed {}",
+                    report.elapsedMs(), report.replayed(), report.positionMs(), report.failed());
+        }
+    }
+
+    /**
+     * 기록 시점 offsetMicros의 이벤트를 넘길 시각까지 기다립니다. 기다리기 전에 모아 둔 것을 flush합니다.
+     */
+    private boolean awaitDue(long offsetMicros) {
+        long dueNanos = startNanos + (long) (TimeUnit.MICROSECONDS.toNanos(offsetMicros) / speed);
+        if (dueNanos - System.nanoTime() <= 0) {
+            return running;
+        }
+        flush();
+        long remaining;
+        while (running && (remaining = dueNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(Math.min(remaining, MAX_PARK_NANOS));
+        }
+        return running;
+    }
+
+    private void flush() {
+        try {
+            handler.flush();
+        } catch (Exception e) {
+            onFailure(e);
+        }
+    }
+
+    private void onFailure(Exception e) {
+        failed++;
+        // 실패가 연속되면 로그가 넘치므로 일부만 기록
+        if (failed % 1000 == 1) {
+            log.warn("Failed to replay workload event ({} failures so far): {}", failed, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.telecom.acl.common.workload;
+
+/**
+ * 워크로드 재생 진행 상황입니다.
+ *
+ * @param speed      재생 배속 (1이면 기록 당시 간격 그대로, 0이면 최대 속도)
+ * @param elapsedMs  재생 시작 이후 경과 시간
+ * @param positionMs 마지막으로 재생한 이벤트의 기록 시점 (기록 시작 기준)
+ * @param replayed   재생한 이벤트 수
+ * @param failed     처리 중 실패한 이벤트 수 (모아 쓰는 처리기는 실패한 flush 수 포함)
+ */
+public record WorkloadReplayReport(boolean running, String path, double speed, long elapsedMs, long positionMs,
+                                   long replayed, long failed) {
+}
@@ -0,0 +1,72 @@
+package com.telecom.acl.common.messaging.memory;
+
+import com.telecom.acl.common.messaging.MessageHandler;
+import com.telecom.acl.common.messaging.MessagePartition;
+import com.telecom.acl.common.messaging.MessageSink;
+import com.telecom.acl.common.messaging.MessageSource;
+import com.telecom.acl.common.messaging.SourceMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class InMemoryBrokerTest {
+
+    @Test
+    void producerWaitsUntilSlowestGroupCommits() throws Exception {
+        InMemoryBroker broker = new InMemoryBroker(1, 2);
+        broker.source("acl", 10, Duration.ofMillis(10));
+        MessageSink sink = broker.sink();
+        sink.send("user-1", "a").get();
+        sink.send("user-1", "b").get();
+
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> sink.send("user-1", "c").join());
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(blocked).isNotDone();
+
+        broker.partitions()[0].commit("acl", 0);
+        blocked.get(5, TimeUnit.SECONDS);
+        assertThat(broker.partitions()[0].lastOffset()).isEqualTo(2);
+    }
+
+    @Test
+    void handlerExceptionRedeliversFromLastCheckpoint() throws Exception {
+        InMemoryBroker broker = new InMemoryBroker(1, 16);
+        MessageSource source = broker.source("acl", 3, Duration.ofMillis(10));
+        MessageSink sink = broker.sink();
+        for (int i = 0; i < 3; i++) {
+            sink.send("user-1", "m" + i).get();
+        }
+
+        List<Long> delivered = new CopyOnWriteArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        source.start(new MessageHandler() {
+            @Override
+            public void onMessages(MessagePartition partition, List<SourceMessage> messages) {
+                for (SourceMessage message : messages) {
+                    delivered.add(message.offset());
+                    if (message.offset() == 0) {
+                        partition.checkpoint(message).join();
+                    }
+                    if (message.offset() == 1 && failed.compareAndSet(false, true)) {
+                        throw new IllegalStateException("handler failed");
+                    }
+                }
+            }
+        });
+        try {
+            // 체크포인트(0) 다음부터 다시 전달되므로 처리 중이던 1이 중복 전달됨
+            await().atMost(Duration.ofSeconds(5)).until(() -> delivered.size() >= 4);
+            assertThat(delivered).startsWith(0L, 1L, 1L, 2L);
+        } finally {
+            source.stop();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.telecom.acl.common.workload;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class WorkloadRecorderTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsVarintAndZigzagValues() {
+        Path file = dir.resolve("round-trip.wl");
+        WorkloadRecorder recorder = new WorkloadRecorder();
+        recorder.start(file);
+        recorder.record(WorkloadEvent.Kind.USAGE, "user1", "D", 10140, 10240);
+        recorder.record(WorkloadEvent.Kind.EXCESS, "사용자-2", "V", -1, 0);
+        recorder.record(WorkloadEvent.Kind.USAGE, "user3", "S", Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertThat(recorder.stop()).isEqualTo(3);
+
+        List<WorkloadEvent> events = readAll(file, false);
+
+        assertThat(events).extracting(WorkloadEvent::kind)
+                .containsExactly(WorkloadEvent.Kind.USAGE, WorkloadEvent.Kind.EXCESS, WorkloadEvent.Kind.USAGE);
+        assertThat(events).extracting(WorkloadEvent::userSequence).containsExactly("user1", "사용자-2", "user3");
+        assertThat(events).extracting(WorkloadEvent::svcTypeCd).containsExactly("D", "V", "S");
+        assertThat(events).extracting(WorkloadEvent::usedQty).containsExactly(10140, -1, Integer.MIN_VALUE);
+        assertThat(events).extracting(WorkloadEvent::baseQty).containsExactly(10240, 0, Integer.MAX_VALUE);
+        assertThat(events).extracting(WorkloadEvent::offsetMicros).isSorted();
+    }
+
+    @Test
+    void readerStopsCleanlyAtTruncatedLastRecord() throws IOException {
+        Path file = dir.resolve("truncated.wl");
+        WorkloadRecorder recorder = new WorkloadRecorder();
+        recorder.start(file);
+        recorder.record(WorkloadEvent.Kind.USAGE, "user1", "D", 1, 2);
+        recorder.record(WorkloadEvent.Kind.USAGE, "user2", "V", 3, 4);
+        recorder.stop();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        List<WorkloadEvent> events = readAll(file, true);
+
+        assertThat(events).extracting(WorkloadEvent::userSequence).containsExactly("user1");
+    }
+
+    @Test
+    void oversizedUserSequenceIsSkippedInsteadOfThrowing() {
+        Path file = dir.resolve("oversized.wl");
+        WorkloadRecorder recorder = new WorkloadRecorder();
+        recorder.start(file);
+        recorder.record(WorkloadEvent.Kind.EXCESS, "u".repeat(256), "D", 1, 2);
+        recorder.record(WorkloadEvent.Kind.EXCESS, "user1", "D", 1, 2);
+
+        assertThat(recorder.stop()).isEqualTo(1);
+        assertThat(readAll(file, false)).extracting(WorkloadEvent::userSequence).containsExactly("user1");
+    }
+
+    @Test
+    void bufferIsFlushedWhileRecording() {
+        Path file = dir.resolve("flushed.wl");
+        WorkloadRecorder recorder = new WorkloadRecorder();
+        recorder.start(file);
+        try {
+            recorder.record(WorkloadEvent.Kind.USAGE, "user1", "D", 1, 2);
+
+            // stop 전에도 주기적으로 파일에 내보내짐
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> Files.size(file) > WorkloadFormat.HEADER_BYTES);
+            assertThat(readAll(file, false)).hasSize(1);
+        } finally {
+            recorder.stop();
+        }
+    }
+
+    private static List<WorkloadEvent> readAll(Path file, boolean expectTruncated) {
+        List<WorkloadEvent> events = new ArrayList<>();
+        try (WorkloadReader reader = new WorkloadReader(file)) {
+            while (reader.hasNext()) {
+                events.add(reader.next());
+            }
+            assertThat(reader.isTruncated()).isEqualTo(expectTruncated);
+        }
+        return events;
+    }
+}
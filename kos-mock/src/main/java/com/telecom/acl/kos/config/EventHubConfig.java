@@ -3,11 +3,17 @@ package com.telecom.acl.kos.config;
 
 import com.azure.messaging.eventhubs.EventHubClientBuilder;
 import com.azure.messaging.eventhubs.EventHubProducerClient;
+import com.telecom.acl.common.messaging.MessageSink;
+import com.telecom.acl.common.messaging.eventhub.EventHubMessageSink;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
+@ConditionalOnProperty(name = "kos.messaging.sink", havingValue = "eventhub", matchIfMissing = true)
 public class EventHubConfig {
 
     @Value("${azure.eventhub.connection-string}")
@@ -16,10 +22,21 @@ public class EventHubConfig {
     @Value("${azure.eventhub.name}")
     private String eventHubName;
 
+    @Value("${kos.publish.batch.max-events:500}")
+    private int maxBatchEvents;
+
+    @Value("${kos.publish.batch.linger-ms:20}")
+    private long lingerMs;
+
+    @Value("${kos.publish.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // 종료 시 sink가 남은 메시지를 보낸 뒤 producer를 닫음
     @Bean
-    public EventHubProducerClient eventHubProducerClient() {
-        return new EventHubClientBuilder()
+    public MessageSink messageSink() {
+        EventHubProducerClient producerClient = new EventHubClientBuilder()
                 .connectionString(connectionString, eventHubName)
                 .buildProducerClient();
+        return new EventHubMessageSink(producerClient, maxBatchEvents, Duration.ofMillis(lingerMs), queueCapacity);
     }
 }
@@ -0,0 +1,34 @@
+package com.telecom.acl.kos.config;
+
+import com.telecom.acl.common.messaging.MessageSink;
+import com.telecom.acl.common.messaging.memory.InMemoryBroker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Event Hubs 대신 프로세스 내 파티션 브로커로 발행합니다.
+ * acl-service와 같은 JVM에서 같은 {@link InMemoryBroker} 빈을 공유할 때만 의미가 있습니다. (단일 머신 부하 테스트용)
+ */
+@Configuration
+@ConditionalOnProperty(name = "kos.messaging.sink", havingValue = "in-memory")
+public class InMemoryMessagingConfig {
+    @Value("${kos.messaging.in-memory.partitions:4}")
+    private int partitions;
+
+    @Value("${kos.messaging.in-memory.capacity:100000}")
+    private int capacity;
+
+    @Bean
+    @ConditionalOnMissingBean
+    public InMemoryBroker inMemoryBroker() {
+        return new InMemoryBroker(partitions, capacity);
+    }
+
+    @Bean
+    public MessageSink messageSink(InMemoryBroker inMemoryBroker) {
+        return inMemoryBroker.sink();
+    }
+}
@@ -0,0 +1,26 @@
+package com.telecom.acl.kos.config;
+
+import com.telecom.acl.common.workload.WorkloadRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * 발행하는 초과 알림을 워크로드 파일로 기록합니다. (record-path가 비어 있으면 API로 시작할 때까지 기록하지 않음)
+ */
+@Configuration
+public class WorkloadConfig {
+    @Value("${kos.workload.record-path:}")
+    private String recordPath;
+
+    @Bean(destroyMethod = "stop")
+    public WorkloadRecorder workloadRecorder() {
+        WorkloadRecorder recorder = new WorkloadRecorder();
+        if (!recordPath.isBlank()) {
+            recorder.start(Path.of(recordPath));
+        }
+        return recorder;
+    }
+}
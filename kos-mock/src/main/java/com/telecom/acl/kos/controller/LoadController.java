@@ -0,0 +1,53 @@
+package com.telecom.acl.kos.controller;
+
+import com.telecom.acl.kos.load.LoadGenerator;
+import com.telecom.acl.kos.load.LoadReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/load")
+@Tag(name = "부하 발생 API", description = "acl-service 부하 테스트용 초과 알림 이벤트 발생")
+public class LoadController {
+
+    @Autowired
+    private LoadGenerator loadGenerator;
+
+    @Operation(summary = "부하 시작", description = "kos.load.* 설정으로 부하를 시작 (지정한 값만 덮어씀, 실행 중이면 재시작)")
+    @PostMapping("/start")
+    public LoadReport start(@RequestParam(required = false) Double eventsPerSec,
+                            @RequestParam(required = false) Long rampUpMs,
+                            @RequestParam(required = false) Long durationMs) {
+        return loadGenerator.start(eventsPerSec, rampUpMs, durationMs);
+    }
+
+    @Operation(summary = "부하 중지")
+    @PostMapping("/stop")
+    public ResponseEntity<LoadReport> stop() {
+        LoadReport report = loadGenerator.stop();
+        return report == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(report);
+    }
+
+    @Operation(summary = "burst", description = "실행 중인 부하의 목표 속도를 durationMs 동안 multiplier배로 올림")
+    @PostMapping("/burst")
+    public ResponseEntity<LoadReport> burst(@RequestParam(defaultValue = "5") double multiplier,
+                                            @RequestParam(defaultValue = "10000") long durationMs) {
+        try {
+            return ResponseEntity.ok(loadGenerator.burst(multiplier, durationMs));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).build();
+        }
+    }
+
+    @Operation(summary = "진행 상황", description = "목표/실제 발행 속도와 목표 대비 밀린 이벤트 수")
+    @GetMapping("/report")
+    public ResponseEntity<LoadReport> report() {
+        LoadReport report = loadGenerator.report();
+        return report == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(report);
+    }
+}
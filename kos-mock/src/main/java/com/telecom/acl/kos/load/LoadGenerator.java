@@ -0,0 +1,116 @@
+package com.telecom.acl.kos.load;
+
+import com.telecom.acl.kos.service.NotificationGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * acl-service 부하 테스트용 고속 이벤트 발생기입니다.
+ * kos.load.* 설정(또는 API 요청)에 따라 목표 속도, ramp-up, Zipf 분포의 사용자, 서비스 타입 비율,
+ * burst 시나리오로 초과 알림을 발행하고, 실제 발행 속도가 목표에 얼마나 못 미치는지 보고합니다.
+ */
+@Slf4j
+@Service
+public class LoadGenerator {
+    private final NotificationGenerator notificationGenerator;
+    private LoadRun current;
+
+    @Value("${kos.load.enabled:false}")
+    private boolean autoStart;
+
+    @Value("${kos.load.events-per-sec:1000}")
+    private double eventsPerSec;
+
+    @Value("${kos.load.ramp-up-ms:30000}")
+    private long rampUpMs;
+
+    @Value("${kos.load.duration-ms:0}")
+    private long durationMs;
+
+    @Value("${kos.load.users:1000000}")
+    private int users;
+
+    @Value("${kos.load.zipf-exponent:1.0}")
+    private double zipfExponent;
+
+    @Value("${kos.load.service-mix:V:30,D:60,S:10}")
+    private String serviceMix;
+
+    @Value("${kos.load.burst.interval-ms:0}")
+    private long burstIntervalMs;
+
+    @Value("${kos.load.burst.duration-ms:5000}")
+    private long burstDurationMs;
+
+    @Value("${kos.load.burst.multiplier:5}")
+    private double burstMultiplier;
+
+    @Value("${kos.load.threads:4}")
+    private int threads;
+
+    @Value("${kos.load.report-interval-ms:5000}")
+    private long reportIntervalMs;
+
+    public LoadGenerator(NotificationGenerator notificationGenerator) {
+        this.notificationGenerator = notificationGenerator;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (autoStart) {
+            start(defaultProfile());
+        }
+    }
+
+    public LoadProfile defaultProfile() {
+        return new LoadProfile(eventsPerSec, rampUpMs, durationMs, users, zipfExponent, serviceMix,
+                burstIntervalMs, burstDurationMs, burstMultiplier, threads, reportIntervalMs);
+    }
+
+    /**
+     * 설정값 중 목표 속도, ramp-up, 실행 시간만 바꿔 시작합니다. (null이면 설정값 사용)
+     */
+    public LoadReport start(Double eventsPerSec, Long rampUpMs, Long durationMs) {
+        return start(defaultProfile().withRate(eventsPerSec, rampUpMs, durationMs));
+    }
+
+    /**
+     * 새 부하를 시작합니다. 실행 중인 부하가 있으면 먼저 멈춥니다.
+     */
+    public synchronized LoadReport start(LoadProfile profile) {
+        if (current != null && current.isRunning()) {
+            current.stop();
+        }
+        current = new LoadRun(profile, notificationGenerator);
+        current.start();
+        return current.report();
+    }
+
+    @PreDestroy
+    public synchronized LoadReport stop() {
+        if (current == null) {
+            return null;
+        }
+        current.stop();
+        return current.report();
+    }
+
+    /**
+     * 실행 중인 부하에 일시적인 burst를 겁니다.
+     */
+    public synchronized LoadReport burst(double multiplier, long durationMs) {
+        if (current == null || !current.isRunning()) {
+            throw new IllegalStateException("Load is not running");
+        }
+        current.burst(multiplier, durationMs);
+        return current.report();
+    }
+
+    public synchronized LoadReport report() {
+        return current == null ? null : current.report();
+    }
+}
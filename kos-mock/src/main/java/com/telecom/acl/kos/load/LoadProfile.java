@@ -0,0 +1,59 @@
+package com.telecom.acl.kos.load;
+
+/**
+ * 부하 발생 설정입니다.
+ *
+ * @param eventsPerSec         목표 초당 이벤트 수 (ramp-up 이후, burst 제외)
+ * @param rampUpMs             0에서 목표 속도까지 선형으로 올리는 시간
+ * @param durationMs           실행 시간 (0이면 stop 호출 전까지 계속)
+ * @param users                사용자 수 (user1 ~ userN)
+ * @param zipfExponent         사용자 분포의 치우침 (0이면 균등, 1 전후면 소수 사용자에 집중)
+ * @param serviceMix           서비스 타입 가중치 ("V:30,D:60,S:10")
+ * @param burstIntervalMs      주기적 burst 간격 (0이면 주기적 burst 없음)
+ * @param burstDurationMs      burst 한 번의 지속 시간
+ * @param burstMultiplier      burst 동안 목표 속도에 곱하는 배수
+ * @param threads              발행 스레드 수
+ * @param reportIntervalMs     진행 상황 보고 주기
+ */
+public record LoadProfile(double eventsPerSec, long rampUpMs, long durationMs, int users, double zipfExponent,
+                          String serviceMix, long burstIntervalMs, long burstDurationMs, double burstMultiplier,
+                          int threads, long reportIntervalMs) {
+
+    public LoadProfile {
+        if (eventsPerSec <= 0) {
+            throw new IllegalArgumentException("eventsPerSec must be positive: " + eventsPerSec);
+        }
+        if (users < 1 || threads < 1 || reportIntervalMs < 1) {
+            throw new IllegalArgumentException("users, threads and reportIntervalMs must be positive");
+        }
+    }
+
+    /**
+     * 시작 후 elapsedMs 시점의 목표 초당 이벤트 수 (ramp-up과 주기적 burst 반영, 수동 burst 제외)
+     */
+    double rateAt(long elapsedMs) {
+        double rate = rampUpMs > 0 && elapsedMs < rampUpMs
+                ? eventsPerSec * elapsedMs / rampUpMs
+                : eventsPerSec;
+        return inPeriodicBurst(elapsedMs) ? rate * burstMultiplier : rate;
+    }
+
+    /**
+     * burst는 ramp-up이 끝난 뒤 burstIntervalMs마다 burstDurationMs 동안 발생합니다.
+     */
+    boolean inPeriodicBurst(long elapsedMs) {
+        if (burstIntervalMs <= 0 || burstDurationMs <= 0 || elapsedMs < rampUpMs + burstIntervalMs) {
+            return false;
+        }
+        return (elapsedMs - rampUpMs) % burstIntervalMs < burstDurationMs;
+    }
+
+    LoadProfile withRate(Double eventsPerSec, Long rampUpMs, Long durationMs) {
+        return new LoadProfile(
+                eventsPerSec != null ? eventsPerSec : this.eventsPerSec,
+                rampUpMs != null ? rampUpMs : this.rampUpMs,
+                durationMs != null ? durationMs : this.durationMs,
+                users, zipfExponent, serviceMix, burstIntervalMs, burstDurationMs, burstMultiplier,
+                threads, reportIntervalMs);
+    }
+}
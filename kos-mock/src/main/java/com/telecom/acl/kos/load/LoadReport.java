@@ -0,0 +1,16 @@
+package com.telecom.acl.kos.load;
+
+/**
+ * 부하 발생 진행 상황입니다.
+ *
+ * @param targetRate    현재 목표 초당 이벤트 수 (ramp-up, burst 반영)
+ * @param actualRate    직전 보고 구간의 실제 초당 발행 수
+ * @param expected      시작 이후 목표대로라면 발행했어야 할 누적 이벤트 수
+ * @param sent          실제로 발행에 성공한 누적 이벤트 수
+ * @param behind        목표 대비 밀린 이벤트 수 (expected - sent - failed)
+ * @param behindPercent 직전 보고 구간에서 실제 발행이 목표에 못 미친 비율 (%)
+ */
+public record LoadReport(boolean running, long elapsedMs, double targetRate, double actualRate,
+                         long expected, long sent, long failed, long behind, double behindPercent,
+                         boolean bursting) {
+}
@@ -0,0 +1,200 @@
+package com.telecom.acl.kos.load;
+
+import com.telecom.acl.kos.service.NotificationGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 발생 1회 실행입니다.
+ * pacer 스레드가 목표 속도를 적분해 발행 허가(permit)를 내주고, 발행 스레드들이 허가를 받아 이벤트를 보냅니다.
+ * 발행은 비동기이며 브로커 기록이 끝난 건만 sent로 셉니다.
+ * 발행이 목표를 따라가지 못하면 허가가 쌓이며, 1초 분량을 넘는 허가는 버리고 밀린 이벤트로 집계합니다.
+ * (느려진 뒤 한꺼번에 따라잡으며 부하 형태가 왜곡되지 않도록)
+ */
+@Slf4j
+class LoadRun {
+    private static final long PACER_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LoadProfile profile;
+    private final NotificationGenerator notificationGenerator;
+    private final ZipfSampler userSampler;
+    private final ServiceTypeMix serviceTypeMix;
+    private final Semaphore permits = new Semaphore(0);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final List<Thread> threads = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+
+    private volatile boolean running = true;
+    private volatile long expected;
+    private volatile double currentRate;
+    private volatile double manualBurstMultiplier = 1d;
+    private volatile long manualBurstUntilNanos;
+    private volatile long stoppedAtNanos;
+
+    // 보고 구간 상태 (reportIfDue를 호출하는 pacer 스레드만 갱신)
+    private long lastReportNanos = startNanos;
+    private long lastReportSent;
+    private long lastReportExpected;
+    private volatile double windowRate;
+    private volatile double windowBehindPercent;
+
+    LoadRun(LoadProfile profile, NotificationGenerator notificationGenerator) {
+        this.profile = profile;
+        this.notificationGenerator = notificationGenerator;
+        this.userSampler = new ZipfSampler(profile.users(), profile.zipfExponent());
+        this.serviceTypeMix = ServiceTypeMix.parse(profile.serviceMix());
+    }
+
+    void start() {
+        SplittableRandom seed = new SplittableRandom();
+        for (int i = 0; i < profile.threads(); i++) {
+            SplittableRandom random = seed.split();
+            Thread worker = new Thread(() -> publishLoop(random), "load-worker-" + (i + 1));
+            worker.setDaemon(true);
+            threads.add(worker);
+        }
+        Thread pacer = new Thread(this::paceLoop, "load-pacer");
+        pacer.setDaemon(true);
+        threads.add(pacer);
+        threads.forEach(Thread::start);
+        log.info("Load started: {}", profile);
+    }
+
+    void stop() {
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 지금부터 durationMs 동안 목표 속도를 multiplier배로 올립니다.
+     */
+    void burst(double multiplier, long durationMs) {
+        manualBurstMultiplier = multiplier;
+        manualBurstUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        log.info("Manual burst: x{} for {}ms", multiplier, durationMs);
+    }
+
+    LoadReport report() {
+        long now = running ? System.nanoTime() : stoppedAtNanos;
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - startNanos);
+        long sentCount = sent.sum();
+        long failedCount = failed.sum();
+        return new LoadReport(running, elapsedMs, currentRate, windowRate, expected, sentCount, failedCount,
+                Math.max(0, expected - sentCount - failedCount), windowBehindPercent, isBursting(now));
+    }
+
+    private void paceLoop() {
+        long last = startNanos;
+        double credit = 0;
+        while (running) {
+            long now = System.nanoTime();
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - startNanos);
+            if (profile.durationMs() > 0 && elapsedMs >= profile.durationMs()) {
+                break;
+            }
+            double rate = profile.rateAt(elapsedMs) * (now < manualBurstUntilNanos ? manualBurstMultiplier : 1d);
+            currentRate = rate;
+            credit += rate * (now - last) / 1e9;
+            last = now;
+
+            int due = (int) credit;
+            if (due > 0) {
+                credit -= due;
+                expected += due;
+                int room = (int) Math.max(1, rate) - permits.availablePermits();
+                if (room > 0) {
+                    permits.release(Math.min(due, room));
+                }
+            }
+            reportIfDue(now);
+            LockSupport.parkNanos(PACER_TICK_NANOS);
+        }
+        running = false;
+        stoppedAtNanos = System.nanoTime();
+        currentRate = 0;
+        LoadReport report = report();
+        log.info("Load finished after {}ms: expected {}, sent {}, failed {}, behind {} ({} events/s on average)",
+                report.elapsedMs(), report.expected(), report.sent(), report.failed(), report.behind(),
+                report.elapsedMs() > 0 ? report.sent() * 1000 / report.elapsedMs() : 0);
+    }
+
+    private void publishLoop(SplittableRandom random) {
+        while (running) {
+            try {
+                if (!permits.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            String userSequence = "user" + userSampler.sample(random);
+            String svcTypeCd = serviceTypeMix.sample(random);
+            try {
+                notificationGenerator.publish(notificationGenerator.createSoapNotification(userSequence, svcTypeCd))
+                        .whenComplete((ignored, error) -> {
+                            if (error == null) {
+                                sent.increment();
+                            } else {
+                                onFailure(error);
+                            }
+                        });
+            } catch (Exception e) {
+                onFailure(e);
+            }
+        }
+    }
+
+    private void onFailure(Throwable error) {
+        failed.increment();
+        // 발행 실패가 연속되면 로그가 넘치므로 일부만 기록
+        if (failed.sum() % 1000 == 1) {
+            log.warn("Failed to publish load event ({} failures so far): {}", failed.sum(), error.getMessage());
+        }
+    }
+
+    private void reportIfDue(long now) {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(profile.reportIntervalMs());
+        if (now - lastReportNanos < intervalNanos) {
+            return;
+        }
+        long sentCount = sent.sum();
+        long expectedCount = expected;
+        long sentDelta = sentCount - lastReportSent;
+        long expectedDelta = expectedCount - lastReportExpected;
+        windowRate = sentDelta * 1e9 / (now - lastReportNanos);
+        windowBehindPercent = expectedDelta > 0 ? Math.max(0, 100d * (expectedDelta - sentDelta) / expectedDelta) : 0;
+        lastReportNanos = now;
+        lastReportSent = sentCount;
+        lastReportExpected = expectedCount;
+
+        log.info("Load: target {}/s, actual {}/s, {}% behind target{} (sent {}, failed {}, behind {} events)",
+                Math.round(currentRate), Math.round(windowRate), Math.round(windowBehindPercent),
+                isBursting(now) ? " [burst]" : "", sentCount, failed.sum(),
+                Math.max(0, expectedCount - sentCount - failed.sum()));
+    }
+
+    private boolean isBursting(long now) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(now - startNanos);
+        return now < manualBurstUntilNanos || profile.inPeriodicBurst(elapsedMs);
+    }
+}
@@ -0,0 +1,58 @@
+package com.telecom.acl.kos.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * "V:30,D:60,S:10" 형식의 가중치로 서비스 타입을 뽑습니다.
+ */
+class ServiceTypeMix {
+    private final String[] codes;
+    private final double[] cumulative;
+
+    private ServiceTypeMix(String[] codes, double[] cumulative) {
+        this.codes = codes;
+        this.cumulative = cumulative;
+    }
+
+    static ServiceTypeMix parse(String spec) {
+        List<String> codes = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        double total = 0;
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid service mix entry: " + entry);
+            }
+            double weight = Double.parseDouble(parts[1].trim());
+            if (weight <= 0) {
+                continue;
+            }
+            codes.add(parts[0].trim());
+            weights.add(weight);
+            total += weight;
+        }
+        if (codes.isEmpty()) {
+            throw new IllegalArgumentException("Service mix has no positive weight: " + spec);
+        }
+        double[] cumulative = new double[codes.size()];
+        double sum = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            sum += weights.get(i) / total;
+            cumulative[i] = sum;
+        }
+        cumulative[cumulative.length - 1] = 1d;
+        return new ServiceTypeMix(codes.toArray(new String[0]), cumulative);
+    }
+
+    String sample(SplittableRandom random) {
+        double u = random.nextDouble();
+        for (int i = 0; i < cumulative.length; i++) {
+            if (u < cumulative[i]) {
+                return codes[i];
+            }
+        }
+        return codes[codes.length - 1];
+    }
+}
@@ -1,10 +1,11 @@
 // File: acl/kos-mock/src/main/java/com/telecom/acl/kos/service/NotificationGenerator.java
 package com.telecom.acl.kos.service;
 
-import com.azure.messaging.eventhubs.EventData;
-import com.azure.messaging.eventhubs.EventHubProducerClient;
+import com.telecom.acl.common.messaging.MessageSink;
 import com.telecom.acl.common.soap.ExcessNotificationSoap;
 import com.telecom.acl.common.soap.SoapEnvelope;
+import com.telecom.acl.common.workload.WorkloadEvent;
+import com.telecom.acl.common.workload.WorkloadRecorder;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
@@ -15,30 +16,35 @@ import org.springframework.stereotype.Service;
 import java.io.StringWriter;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Service
 public class NotificationGenerator {
-    private final EventHubProducerClient eventHubClient;
-    private final Random random = new Random();
+    private static final DateTimeFormatter NOTIFY_DTM_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final MessageSink messageSink;
+    private final WorkloadRecorder workloadRecorder;
     private final String[] users = {"user1", "user2", "user3", "user4", "user5"};
     private final String[] serviceTypes = {"V", "D", "S"};  // V:음성, D:데이터, S:문자
     private final JAXBContext jaxbContext;
+    // Marshaller는 thread-safe하지 않으므로 발행 스레드마다 하나씩 재사용
+    private final ThreadLocal<Marshaller> marshallers;
+    private final ThreadLocal<StringWriter> writers = ThreadLocal.withInitial(() -> new StringWriter(512));
 
-    public NotificationGenerator(EventHubProducerClient eventHubClient) throws JAXBException {
-        this.eventHubClient = eventHubClient;
+    public NotificationGenerator(MessageSink messageSink, WorkloadRecorder workloadRecorder) throws JAXBException {
+        this.messageSink = messageSink;
+        this.workloadRecorder = workloadRecorder;
         this.jaxbContext = JAXBContext.newInstance(SoapEnvelope.class);
+        this.marshallers = ThreadLocal.withInitial(this::createMarshaller);
     }
 
     @Scheduled(fixedRate = 60000) // 1분마다 실행
     public void generateNotification() {
         try {
             ExcessNotificationSoap notification = createRandomSoapNotification();
-            String soapMessage = convertToSoapXml(notification);
-            publishEvent(soapMessage);
+            publish(notification).join();
             log.info("Generated and published notification for user: {}", notification.getUserSequence());
         } catch (Exception e) {
             log.error("Error generating notification: {}", e.getMessage(), e);
@@ -46,40 +52,67 @@ public class NotificationGenerator {
     }
 
     private ExcessNotificationSoap createRandomSoapNotification() {
-        String userSequence = users[random.nextInt(users.length)];
-        String svcTypeCd = serviceTypes[random.nextInt(serviceTypes.length)];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return createSoapNotification(users[random.nextInt(users.length)],
+                serviceTypes[random.nextInt(serviceTypes.length)]);
+    }
+
+    /**
+     * 지정한 사용자/서비스 타입의 초과 알림을 만듭니다. (사용량은 임의)
+     */
+    public ExcessNotificationSoap createSoapNotification(String userSequence, String svcTypeCd) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         int baseQty = (svcTypeCd.equals("D")) ? 10240 : 300; // DATA는 MB단위
-        int usedQty = baseQty + random.nextInt(100);
+        return createSoapNotification(userSequence, svcTypeCd, baseQty + random.nextInt(100), baseQty);
+    }
 
+    /**
+     * 지정한 사용량으로 초과 알림을 만듭니다. (워크로드 재생용, 알림 시각은 현재)
+     */
+    public ExcessNotificationSoap createSoapNotification(String userSequence, String svcTypeCd, int usedQty,
+                                                         int baseQty) {
         return ExcessNotificationSoap.builder()
                 .userSequence(userSequence)
                 .svcTypeCd(svcTypeCd)
                 .usedQty(usedQty)
                 .baseQty(baseQty)
                 .exceedQty(usedQty - baseQty)
-                .notifyDtm(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")))
+                .notifyDtm(LocalDateTime.now().format(NOTIFY_DTM_FORMAT))
                 .build();
     }
 
-    private String convertToSoapXml(ExcessNotificationSoap notification) throws JAXBException {
-        Marshaller marshaller = jaxbContext.createMarshaller();
-        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-
+    /**
+     * 들여쓰기 없는 SOAP XML로 변환합니다. 호출 스레드의 Marshaller와 버퍼를 재사용합니다.
+     */
+    public String convertToSoapXml(ExcessNotificationSoap notification) throws JAXBException {
         SoapEnvelope envelope = new SoapEnvelope(new SoapEnvelope.SoapBody(notification));
 
-        StringWriter sw = new StringWriter();
-        marshaller.marshal(envelope, sw);
+        StringWriter sw = writers.get();
+        sw.getBuffer().setLength(0);
+        marshallers.get().marshal(envelope, sw);
         return sw.toString();
     }
 
-    private void publishEvent(String soapMessage) {
+    /**
+     * 알림을 SOAP XML로 변환해 발행 큐에 넣습니다. 반환된 future는 브로커에 기록되면 완료됩니다.
+     * 워크로드 기록 중이면 발행한 알림을 함께 기록합니다.
+     */
+    public CompletableFuture<Void> publish(ExcessNotificationSoap notification) throws JAXBException {
+        String soapMessage = convertToSoapXml(notification);
+        log.debug("Publishing SOAP message: {}", soapMessage);
+        workloadRecorder.record(WorkloadEvent.Kind.EXCESS, notification.getUserSequence(),
+                notification.getSvcTypeCd(), notification.getUsedQty(), notification.getBaseQty());
+        // 같은 사용자의 이벤트는 같은 파티션으로 보내 순서를 유지
+        return messageSink.send(notification.getUserSequence(), soapMessage);
+    }
+
+    private Marshaller createMarshaller() {
         try {
-            EventData eventData = new EventData(soapMessage);
-            List<EventData> events = Arrays.asList(eventData);  // 단일 이벤트를 List로 변환
-            eventHubClient.send(events);  // Iterable<EventData> 형태로 전송
-            log.debug("Published SOAP message: {}", soapMessage);
-        } catch (Exception e) {
-            log.error("Error publishing event: {}", e.getMessage(), e);
+            Marshaller marshaller = jaxbContext.createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.FALSE);
+            return marshaller;
+        } catch (JAXBException e) {
+            throw new IllegalStateException("Failed to create SOAP marshaller", e);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.telecom.acl.kos.workload;
+
+import com.telecom.acl.common.workload.WorkloadEvent;
+import com.telecom.acl.common.workload.WorkloadRecorder;
+import com.telecom.acl.common.workload.WorkloadReplay;
+import com.telecom.acl.common.workload.WorkloadReplayReport;
+import com.telecom.acl.kos.service.NotificationGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 워크로드 파일의 초과 알림(EXCESS)을 기록 당시의 간격대로(또는 N배속, 최대 속도로) 다시 발행합니다.
+ * 같은 파일을 재생하면 매 실행이 같은 사용자, 서비스 타입, 사용량, 도착 간격의 트래픽을 받습니다.
+ * 사용량(USAGE) 이벤트는 usage-generator가 재생하므로 건너뜁니다.
+ * 발행은 비동기로 완료되므로, 발행 실패는 완료 시점에 세어 재생 보고서의 failed에 더합니다.
+ */
+@Slf4j
+@Service
+public class WorkloadReplayService {
+    private static final int MAX_IN_FLIGHT_PUBLISHES = 1024;
+
+    private final NotificationGenerator notificationGenerator;
+    private final WorkloadRecorder workloadRecorder;
+    private WorkloadReplay current;
+    private PublishHandler currentHandler;
+
+    @Value("${kos.workload.replay-path:}")
+    private String replayPath;
+
+    @Value("${kos.workload.replay-speed:1}")
+    private double replaySpeed;
+
+    public WorkloadReplayService(NotificationGenerator notificationGenerator, WorkloadRecorder workloadRecorder) {
+        this.notificationGenerator = notificationGenerator;
+        this.workloadRecorder = workloadRecorder;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (!replayPath.isBlank()) {
+            replay(replayPath, replaySpeed);
+        }
+    }
+
+    /**
+     * 재생을 시작합니다. 실행 중인 재생이 있으면 먼저 멈춥니다.
+     */
+    public synchronized WorkloadReplayReport replay(String path, double speed) {
+        if (current != null && current.isRunning()) {
+            current.stop();
+        }
+        currentHandler = new PublishHandler();
+        current = new WorkloadReplay(Path.of(path), speed, currentHandler);
+        current.start();
+        return report();
+    }
+
+    @PreDestroy
+    public synchronized WorkloadReplayReport stopReplay() {
+        if (current == null) {
+            return null;
+        }
+        current.stop();
+        return report();
+    }
+
+    public synchronized WorkloadReplayReport report() {
+        if (current == null) {
+            return null;
+        }
+        WorkloadReplayReport report = current.report();
+        return new WorkloadReplayReport(report.running(), report.path(), report.speed(), report.elapsedMs(),
+                report.positionMs(), report.replayed(), report.failed() + currentHandler.failed.get());
+    }
+
+    public void startRecording(String path) {
+        workloadRecorder.start(Path.of(path));
+    }
+
+    public long stopRecording() {
+        return workloadRecorder.stop();
+    }
+
+    /**
+     * 초과 알림을 발행하고 결과는 기다리지 않습니다. 재생이 다음 이벤트를 기다리기 전과 끝날 때(flush)
+     * 발행 중인 것을 모두 기다려, 재생이 끝난 뒤의 보고서에 비동기 실패까지 포함되게 합니다.
+     * 최대 속도 재생처럼 flush 사이가 길면 발행 중인 것이 MAX_IN_FLIGHT_PUBLISHES를 넘지 않도록 가장 오래된 것을 기다립니다.
+     */
+    private class PublishHandler implements WorkloadReplay.Handler {
+        private final AtomicLong failed = new AtomicLong();
+        // 재생 스레드만 사용
+        private final Deque<CompletableFuture<Void>> inFlight = new ArrayDeque<>();
+
+        @Override
+        public void onEvent(WorkloadEvent event) throws Exception {
+            if (event.kind() != WorkloadEvent.Kind.EXCESS) {
+                return;
+            }
+            CompletableFuture<Void> sent = notificationGenerator.publish(notificationGenerator.createSoapNotification(
+                            event.userSequence(), event.svcTypeCd(), event.usedQty(), event.baseQty()))
+                    .whenComplete((result, error) -> {
+                        if (error != null) {
+                            onPublishFailure(error);
+                        }
+                    });
+            inFlight.addLast(sent);
+            while (inFlight.size() > MAX_IN_FLIGHT_PUBLISHES) {
+                awaitQuietly(inFlight.removeFirst());
+            }
+        }
+
+        @Override
+        public void flush() {
+            while (!inFlight.isEmpty()) {
+                awaitQuietly(inFlight.removeFirst());
+            }
+        }
+
+        private void onPublishFailure(Throwable error) {
+            long count = failed.incrementAndGet();
+            // 실패가 연속되면 로그가 넘치므로 일부만 기록
+            if (count % 1000 == 1) {
+                log.warn("Failed to publish replayed notification ({} failures so far): {}", count, error.getMessage());
+            }
+        }
+
+        private static void awaitQuietly(CompletableFuture<Void> sent) {
+            // 실패는 whenComplete에서 이미 셌으므로 여기서는 완료만 기다림
+            sent.handle((result, error) -> null).join();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- 기존에 Hibernate ddl-auto로 만들어진 테이블이 있으면 그대로 사용
+CREATE TABLE IF NOT EXISTS usage_data (
+    id            BIGSERIAL PRIMARY KEY,
+    user_sequence VARCHAR(255),
+    svc_type_cd   VARCHAR(255),
+    used_qty      INTEGER,
+    base_qty      INTEGER,
+    update_dtm    VARCHAR(255)
+);
@@ -0,0 +1,7 @@
+-- update_dtm: 'yyyyMMddHHmmss' 문자열(생성 서비스의 로컬 시각) → timestamptz
+ALTER TABLE usage_data
+    ALTER COLUMN update_dtm TYPE TIMESTAMPTZ
+    USING to_timestamp(update_dtm, 'YYYYMMDDHH24MISS')::TIMESTAMP AT TIME ZONE '${legacyTimeZone}';
+
+ALTER TABLE usage_data ALTER COLUMN user_sequence TYPE VARCHAR(64);
+ALTER TABLE usage_data ALTER COLUMN svc_type_cd TYPE VARCHAR(8);
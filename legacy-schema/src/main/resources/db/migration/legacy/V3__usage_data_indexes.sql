@@ -0,0 +1,5 @@
+-- 증분 동기화 keyset 조회 (update_dtm, id) > (?, ?) 를 index range scan으로
+CREATE INDEX IF NOT EXISTS idx_usage_data_update_dtm_id ON usage_data (update_dtm, id);
+
+-- 사용자/서비스별 조회
+CREATE INDEX IF NOT EXISTS idx_usage_data_user_svc ON usage_data (user_sequence, svc_type_cd);
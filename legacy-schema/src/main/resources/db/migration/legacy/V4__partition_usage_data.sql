@@ -0,0 +1,107 @@
+-- usage_data를 update_dtm 기준 일 단위 range 파티션 테이블로 전환
+-- 파티션 이름: usage_data_pYYYYMMDD (${legacyTimeZone} 기준 하루)
+-- DEFAULT 파티션은 두지 않음: 거기 들어간 행과 겹치는 날짜의 파티션은 만들 수 없고, 보존 작업도 정리하지 못하며,
+-- DETACH PARTITION ... CONCURRENTLY도 쓸 수 없음. 파티션이 없는 날짜의 INSERT는 실패하므로
+-- usage-generator가 미리 만들어 두고, 실패하면 경보 로그를 남기고 바로 다시 만듦
+-- 오래된 파티션은 sync-mock 보존 작업이 분리 후 usage_archive 스키마로 옮기거나 삭제함
+
+CREATE SCHEMA IF NOT EXISTS usage_archive;
+
+ALTER TABLE usage_data RENAME TO usage_data_unpartitioned;
+
+-- IDENTITY/BIGSERIAL 시퀀스는 기존 테이블과 함께 삭제되므로 별도 시퀀스 사용
+CREATE SEQUENCE IF NOT EXISTS usage_data_seq;
+
+CREATE TABLE usage_data (
+    id            BIGINT      NOT NULL DEFAULT nextval('usage_data_seq'),
+    user_sequence VARCHAR(64),
+    svc_type_cd   VARCHAR(8),
+    used_qty      INTEGER,
+    base_qty      INTEGER,
+    update_dtm    TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (id, update_dtm)
+) PARTITION BY RANGE (update_dtm);
+
+ALTER SEQUENCE usage_data_seq OWNED BY usage_data.id;
+
+-- 하루치 파티션 생성 (이미 있으면 무시)
+CREATE OR REPLACE FUNCTION create_usage_data_partition(day DATE) RETURNS TEXT AS $$
+DECLARE
+    partition_name TEXT := 'usage_data_p' || to_char(day, 'YYYYMMDD');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF usage_data FOR VALUES FROM (%L) TO (%L)',
+                   partition_name,
+                   day::TIMESTAMP AT TIME ZONE '${legacyTimeZone}',
+                   (day + 1)::TIMESTAMP AT TIME ZONE '${legacyTimeZone}');
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 오늘부터 days_ahead일 뒤까지의 파티션 생성 (usage-generator가 주기적으로 호출)
+CREATE OR REPLACE FUNCTION create_usage_data_partitions(days_ahead INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    today DATE := (now() AT TIME ZONE '${legacyTimeZone}')::DATE;
+    offset_days INTEGER;
+BEGIN
+    FOR offset_days IN 0..days_ahead LOOP
+        PERFORM create_usage_data_partition(today + offset_days);
+    END LOOP;
+    RETURN days_ahead + 1;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 기존 데이터 범위(미래 날짜 포함)의 파티션을 만든 뒤 옮김
+DO $$
+DECLARE
+    first_day DATE;
+    last_day DATE;
+    day DATE;
+BEGIN
+    SELECT (min(update_dtm) AT TIME ZONE '${legacyTimeZone}')::DATE,
+           (max(update_dtm) AT TIME ZONE '${legacyTimeZone}')::DATE
+    INTO first_day, last_day
+    FROM usage_data_unpartitioned;
+    IF first_day IS NOT NULL THEN
+        day := first_day;
+        WHILE day <= last_day LOOP
+            PERFORM create_usage_data_partition(day);
+            day := day + 1;
+        END LOOP;
+    END IF;
+END;
+$$;
+
+SELECT create_usage_data_partitions(7);
+
+-- update_dtm이 없는 행은 파티션 키가 없어 옮길 수 없으므로 usage_archive에 보관하고 건수를 남김
+CREATE TABLE usage_archive.usage_data_null_update_dtm AS
+SELECT * FROM usage_data_unpartitioned WHERE update_dtm IS NULL;
+
+DO $$
+DECLARE
+    archived BIGINT;
+BEGIN
+    SELECT count(*) INTO archived FROM usage_archive.usage_data_null_update_dtm;
+    IF archived > 0 THEN
+        RAISE WARNING 'usage_data: % rows without update_dtm archived to usage_archive.usage_data_null_update_dtm',
+            archived;
+    END IF;
+END;
+$$;
+
+INSERT INTO usage_data (id, user_sequence, svc_type_cd, used_qty, base_qty, update_dtm)
+SELECT id, user_sequence, svc_type_cd, used_qty, base_qty, update_dtm
+FROM usage_data_unpartitioned
+WHERE update_dtm IS NOT NULL;
+
+-- 보관한 행의 id도 다시 쓰지 않도록 함께 고려
+SELECT setval('usage_data_seq',
+              GREATEST(COALESCE((SELECT max(id) FROM usage_data), 0),
+                       COALESCE((SELECT max(id) FROM usage_archive.usage_data_null_update_dtm), 0)) + 1,
+              false);
+
+DROP TABLE usage_data_unpartitioned;
+
+-- 파티션마다 생성되는 인덱스 (기존 테이블과 함께 삭제된 V3 인덱스 재생성)
+CREATE INDEX idx_usage_data_update_dtm_id ON usage_data (update_dtm, id);
+CREATE INDEX idx_usage_data_user_svc ON usage_data (user_sequence, svc_type_cd);
@@ -0,0 +1,12 @@
+-- usage_data id를 블록 단위로 예약 (usage-generator 일괄 적재, Hibernate pooled optimizer)
+-- nextval 한 번이 50개 id 구간을 예약: 반환값 N이 구간 [N-49, N]의 최대값
+-- 컬럼 DEFAULT(nextval)로 들어오는 행은 자기 구간의 N만 쓰므로 다른 구간과 겹치지 않음
+
+-- 지금까지 발급된 id가 모두 첫 구간보다 작도록 위치를 맞춘 뒤 증가폭 변경
+SELECT setval('usage_data_seq',
+              GREATEST((SELECT max(id) FROM usage_data),
+                       (SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END FROM usage_data_seq),
+                       1),
+              true);
+
+ALTER SEQUENCE usage_data_seq INCREMENT BY 50;
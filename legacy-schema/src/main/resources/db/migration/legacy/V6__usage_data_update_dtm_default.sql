@@ -0,0 +1,4 @@
+-- update_dtm을 DB가 트랜잭션 시작 시각(now())으로 채움 (usage-generator는 값을 넣지 않음)
+-- 앱 서버 시계와 무관하게 DB 시계 하나로 정렬되고, 열린 트랜잭션 중 가장 먼저 시작한 것의 시작 시각보다
+-- 이전 행은 모두 커밋되어 있으므로 sync-mock이 그 시각을 누락 없는 읽기 상한으로 씀
+ALTER TABLE usage_data ALTER COLUMN update_dtm SET DEFAULT now();
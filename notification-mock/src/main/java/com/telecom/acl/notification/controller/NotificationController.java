@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/notifications")
@@ -19,6 +21,20 @@ public class NotificationController {
     @PostMapping("/send")
     public NotificationResponse sendNotification(@RequestBody NotificationRequest request) {
         log.info("Notification request received: {}", request);
+        return toResponse(request);
+    }
+
+    @Operation(summary = "알림 일괄 발송", description = "여러 알림을 한 번에 받아 요청 순서대로 결과를 반환")
+    @PostMapping("/send-batch")
+    public List<NotificationResponse> sendNotifications(@RequestBody List<NotificationRequest> requests) {
+        log.info("Batch notification request received: {} items", requests.size());
+        requests.forEach(request -> log.debug("Batch item: {}", request));
+        return requests.stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private NotificationResponse toResponse(NotificationRequest request) {
         return NotificationResponse.builder()
                 .success(true)
                 .message("알림이 발송되었습니다.")
@@ -0,0 +1,28 @@
+package com.telecom.acl.sync.controller;
+
+import com.telecom.acl.sync.projection.PhonePlanView;
+import com.telecom.acl.sync.projection.PhonePlanViewReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/plan-views")
+@Tag(name = "요금제 사용량 조회 API", description = "phone_plan_views 프로젝션 조회 (캐시 사용)")
+public class PhonePlanViewController {
+
+    @Autowired
+    private PhonePlanViewReader phonePlanViewReader;
+
+    @Operation(summary = "사용자 요금제 사용량", description = "동기화된 현재 사용량과 기본 제공량 (동기화된 적 없는 사용자는 404)")
+    @GetMapping("/{userId}")
+    public ResponseEntity<PhonePlanView> find(@PathVariable String userId) {
+        return phonePlanViewReader.find(userId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
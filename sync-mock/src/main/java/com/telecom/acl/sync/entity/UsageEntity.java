@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.OffsetDateTime;
+
 @Entity
 @Table(name = "usage_data")
 @Data
@@ -21,5 +23,5 @@ public class UsageEntity {
     private String svcTypeCd;
     private Integer usedQty;
     private Integer baseQty;
-    private String updateDtm;
+    private OffsetDateTime updateDtm;
 }
@@ -0,0 +1,10 @@
+package com.telecom.acl.sync.projection;
+
+/**
+ * phone_plan_views 문서 하나 (사용자별 현재 요금제 사용량)입니다. 아직 동기화되지 않은 서비스 타입의 값은 null입니다.
+ */
+public record PhonePlanView(String userId,
+                            Integer callUsage, Integer callMinutes,
+                            Integer dataUsage, Integer dataAllowance,
+                            Integer messageUsage, Integer messageCount) {
+}
@@ -0,0 +1,157 @@
+package com.telecom.acl.sync.projection;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * phone_plan_views 조회 캐시입니다. 크기 제한(LRU)과 TTL로 항목을 제거하며, 문서가 없는 사용자도 캐시합니다.
+ * 조회가 한 lock에 몰리지 않도록 사용자 해시로 나눈 stripe마다 LRU를 둡니다.
+ * {@link PhonePlanViewWriter}가 upsert한 사용자를 바로 무효화하며, 무효화와 겹친 조회 결과는 캐시에 넣지 않으므로
+ * upsert 이전 값이 TTL 동안 남지 않습니다.
+ */
+@Component
+public class PhonePlanViewCache {
+    private static final int STRIPES = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Value("${sync.view-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sync.view-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    public PhonePlanViewCache(@Value("${sync.view-cache.max-entries:100000}") int maxEntries,
+                              MeterRegistry meterRegistry) {
+        int maxPerStripe = Math.max(1, maxEntries / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(maxPerStripe);
+        }
+        FunctionCounter.builder("sync.view.cache.hits", this, PhonePlanViewCache::hits)
+                .description("phone_plan_views reads served from the cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("sync.view.cache.misses", this, PhonePlanViewCache::misses)
+                .description("phone_plan_views reads that went to MongoDB")
+                .register(meterRegistry);
+        FunctionCounter.builder("sync.view.cache.invalidations", this, PhonePlanViewCache::invalidations)
+                .description("Cached users invalidated by a projection upsert")
+                .register(meterRegistry);
+        Gauge.builder("sync.view.cache.size", this, PhonePlanViewCache::size)
+                .description("Users held in the phone_plan_views cache")
+                .register(meterRegistry);
+        Gauge.builder("sync.view.cache.hit.ratio", this, PhonePlanViewCache::hitRatio)
+                .description("Cache hits / reads since startup")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 있으면 바로 반환하고, 없거나 만료되었으면 loader로 읽어 캐시에 넣습니다.
+     */
+    public Optional<PhonePlanView> get(String userId, Function<String, Optional<PhonePlanView>> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        Stripe stripe = stripeFor(userId);
+        long generation;
+        synchronized (stripe) {
+            Entry entry = stripe.entries.get(userId);
+            if (entry != null) {
+                if (System.currentTimeMillis() - entry.loadedAt <= ttlMs) {
+                    hits.incrementAndGet();
+                    return entry.view;
+                }
+                stripe.entries.remove(userId);
+            }
+            generation = stripe.generation;
+        }
+        misses.incrementAndGet();
+        Optional<PhonePlanView> view = loader.apply(userId);
+        synchronized (stripe) {
+            // 읽는 동안 이 stripe에 upsert가 있었으면 읽은 값이 이미 지난 값일 수 있으므로 넣지 않음
+            if (stripe.generation == generation) {
+                stripe.entries.put(userId, new Entry(view, System.currentTimeMillis()));
+            }
+        }
+        return view;
+    }
+
+    /**
+     * upsert한 사용자들을 캐시에서 제거합니다. 다음 조회는 MongoDB에서 새 값을 읽습니다.
+     */
+    public void invalidate(Collection<String> userIds) {
+        if (!enabled) {
+            return;
+        }
+        for (String userId : userIds) {
+            Stripe stripe = stripeFor(userId);
+            synchronized (stripe) {
+                stripe.generation++;
+                if (stripe.entries.remove(userId) != null) {
+                    invalidations.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long invalidations() {
+        return invalidations.get();
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String userId) {
+        return stripes[Math.floorMod(userId.hashCode(), STRIPES)];
+    }
+
+    private static final class Stripe {
+        private final Map<String, Entry> entries;
+        private long generation;
+
+        private Stripe(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+
+    private record Entry(Optional<PhonePlanView> view, long loadedAt) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.telecom.acl.sync.projection;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * phone_plan_views에서 사용자의 현재 요금제 사용량을 읽습니다. 자주 조회되는 사용자는 {@link PhonePlanViewCache}에서 반환합니다.
+ */
+@Component
+public class PhonePlanViewReader {
+    private final MongoTemplate mongoTemplate;
+    private final PhonePlanViewCache cache;
+
+    public PhonePlanViewReader(MongoTemplate mongoTemplate, PhonePlanViewCache cache) {
+        this.mongoTemplate = mongoTemplate;
+        this.cache = cache;
+    }
+
+    public Optional<PhonePlanView> find(String userId) {
+        return cache.get(userId, this::load);
+    }
+
+    private Optional<PhonePlanView> load(String userId) {
+        Document document = mongoTemplate.findOne(new Query(Criteria.where("userId").is(userId)),
+                Document.class, PhonePlanViewWriter.COLLECTION);
+        if (document == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new PhonePlanView(userId,
+                document.getInteger("callUsage"), document.getInteger("callMinutes"),
+                document.getInteger("dataUsage"), document.getInteger("dataAllowance"),
+                document.getInteger("messageUsage"), document.getInteger("messageCount")));
+    }
+}
@@ -0,0 +1,166 @@
+package com.telecom.acl.sync.projection;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.telecom.acl.sync.entity.UsageEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * usage_data 행 묶음을 phone_plan_views 프로젝션에 반영합니다.
+ * 같은 (사용자, 서비스 타입)은 마지막 행만 남기고, 사용자별로 하나의 upsert로 합쳐
+ * 한 번의 unordered bulk 요청으로 보냅니다. bulk 중 실패한 문서만 개별 upsert로 재시도합니다.
+ * 요청이 끝나면 (일부 실패해도) 반영 대상 사용자를 조회 캐시에서 바로 무효화합니다.
+ */
+@Slf4j
+@Component
+public class PhonePlanViewWriter {
+    static final String COLLECTION = "phone_plan_views";
+
+    private final MongoTemplate mongoTemplate;
+    private final PhonePlanViewCache cache;
+    private final Timer bulkTimer;
+    private final DistributionSummary batchSize;
+    private final Counter collapsedRows;
+    private final Counter retriedDocuments;
+
+    @Value("${sync.projection.retry-attempts:3}")
+    private int retryAttempts;
+
+    public PhonePlanViewWriter(MongoTemplate mongoTemplate, PhonePlanViewCache cache, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.cache = cache;
+        this.bulkTimer = Timer.builder("sync.projection.bulk")
+                .description("phone_plan_views bulk upsert latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("sync.projection.batch.size")
+                .description("Documents per phone_plan_views bulk upsert")
+                .register(meterRegistry);
+        this.collapsedRows = Counter.builder("sync.projection.collapsed")
+                .description("usage_data rows superseded by a later row in the same batch")
+                .register(meterRegistry);
+        this.retriedDocuments = Counter.builder("sync.projection.retried")
+                .description("Documents retried individually after a bulk failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 행 묶음을 반영합니다. 행은 (updateDtm, id) 순서여야 하며, 재시도 후에도 실패한 문서가 있으면 예외를 던집니다.
+     *
+     * @return 실제로 쓴 문서 수
+     */
+    public int write(List<UsageEntity> rows) {
+        Map<String, Update> updates = collapse(rows);
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<String, Update>> entries = new ArrayList<>(updates.entrySet());
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        entries.forEach(entry -> bulk.upsert(queryFor(entry.getKey()), entry.getValue()));
+
+        long startNanos = System.nanoTime();
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            log.warn("{} of {} phone_plan_views upserts failed, retrying them individually",
+                    e.getErrors().size(), entries.size());
+            retryFailed(entries, e.getErrors());
+        } finally {
+            cache.invalidate(updates.keySet());
+            long elapsedNanos = System.nanoTime() - startNanos;
+            bulkTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            batchSize.record(entries.size());
+            log.debug("Bulk upserted {} phone_plan_views from {} rows in {}ms",
+                    entries.size(), rows.size(), elapsedNanos / 1_000_000);
+        }
+        return entries.size();
+    }
+
+    /**
+     * 사용자별 Update로 합칩니다. 뒤의 행이 같은 필드를 덮어쓰므로 (사용자, 서비스 타입)별 마지막 값만 남습니다.
+     */
+    private Map<String, Update> collapse(List<UsageEntity> rows) {
+        Map<String, Update> updates = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (UsageEntity row : rows) {
+            String usageField = usageField(row.getSvcTypeCd());
+            if (usageField == null) {
+                log.warn("Unknown service type: {}", row.getSvcTypeCd());
+                continue;
+            }
+            if (!seen.add(row.getUserSequence() + "|" + row.getSvcTypeCd())) {
+                collapsedRows.increment();
+            }
+            updates.computeIfAbsent(row.getUserSequence(), user -> new Update())
+                    .set(usageField, row.getUsedQty())
+                    .set(allowanceField(row.getSvcTypeCd()), row.getBaseQty());
+        }
+        return updates;
+    }
+
+    private void retryFailed(List<Map.Entry<String, Update>> entries, List<BulkWriteError> errors) {
+        List<String> stillFailed = new ArrayList<>();
+        for (BulkWriteError error : errors) {
+            Map.Entry<String, Update> entry = entries.get(error.getIndex());
+            retriedDocuments.increment();
+            if (!upsertWithRetry(entry.getKey(), entry.getValue())) {
+                stillFailed.add(entry.getKey());
+            }
+        }
+        if (!stillFailed.isEmpty()) {
+            throw new IllegalStateException("Failed to update phone_plan_views for users " + stillFailed);
+        }
+    }
+
+    private boolean upsertWithRetry(String userSequence, Update update) {
+        for (int attempt = 1; attempt <= retryAttempts; attempt++) {
+            try {
+                mongoTemplate.upsert(queryFor(userSequence), update, COLLECTION);
+                return true;
+            } catch (Exception e) {
+                log.warn("Retry {}/{} for user {} failed: {}", attempt, retryAttempts, userSequence, e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private static Query queryFor(String userSequence) {
+        return new Query(Criteria.where("userId").is(userSequence));
+    }
+
+    private static String usageField(String svcTypeCd) {
+        return switch (svcTypeCd) {
+            case "V" -> "callUsage";
+            case "D" -> "dataUsage";
+            case "S" -> "messageUsage";
+            default -> null;
+        };
+    }
+
+    private static String allowanceField(String svcTypeCd) {
+        return switch (svcTypeCd) {
+            case "V" -> "callMinutes";
+            case "D" -> "dataAllowance";
+            default -> "messageCount";
+        };
+    }
+}
@@ -1,13 +1,29 @@
 package com.telecom.acl.sync.repository;
 
 import com.telecom.acl.sync.entity.UsageEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 public interface UsageRepository extends JpaRepository<UsageEntity, Long> {
-    @Query("SELECT u FROM UsageEntity u WHERE u.updateDtm > :lastSyncTime")
-    List<UsageEntity> findUpdatedAfter(@Param("lastSyncTime") String lastSyncTime);
+
+    /**
+     * (updateDtm, id) 순서로 watermark 이후의 행을 한 페이지 읽습니다.
+     * (keyset pagination, OFFSET 없음, idx_usage_data_update_dtm_id index range scan)
+     * upperDtm({@link com.telecom.acl.sync.watermark.SyncHorizon}) 미만의 행만 읽어
+     * 아직 커밋되지 않았을 수 있는 구간은 다음 주기로 미룹니다.
+     * updateDtm 범위 조건(>= watermark, < upperDtm)으로 watermark 이후의 일 파티션만 스캔합니다.
+     */
+    @Query("SELECT u FROM UsageEntity u " +
+            "WHERE u.updateDtm >= :updateDtm AND u.updateDtm < :upperDtm " +
+            "AND (u.updateDtm > :updateDtm OR u.id > :id) " +
+            "ORDER BY u.updateDtm, u.id")
+    List<UsageEntity> findPageAfter(@Param("updateDtm") OffsetDateTime updateDtm,
+                                    @Param("id") long id,
+                                    @Param("upperDtm") OffsetDateTime upperDtm,
+                                    Pageable pageable);
 }
@@ -0,0 +1,146 @@
+package com.telecom.acl.sync.retention;
+
+import com.telecom.acl.sync.watermark.SyncWatermark;
+import com.telecom.acl.sync.watermark.SyncWatermarkStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 모든 동기화 consumer가 지나간 usage_data 일 파티션을 정리합니다.
+ * 파티션의 끝 시각이 모든 consumer watermark 이전이고 keep-days보다 오래되었으면 분리한 뒤
+ * archive 모드는 usage_archive 스키마로 옮기고, drop 모드는 삭제합니다.
+ * 분리는 DETACH PARTITION ... CONCURRENTLY로 하여 usage_data 쓰기/읽기를 막지 않습니다. 이 문은 트랜잭션 안에서
+ * 실행할 수 없으므로 각 단계는 autocommit으로 따로 실행되며, 중간에 끊긴 작업(분리 대기 중인 파티션,
+ * 분리만 되고 옮기지 못한 테이블)은 다음 실행 때 이어서 마무리합니다.
+ */
+@Slf4j
+@Component
+public class UsagePartitionRetention {
+    private static final Pattern PARTITION_NAME = Pattern.compile("usage_data_p(\\d{8})");
+    private static final DateTimeFormatter PARTITION_DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String LIST_PARTITIONS = """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'usage_data'
+            ORDER BY c.relname""";
+    // DETACH ... CONCURRENTLY가 중간에 끊겨 분리 대기 상태로 남은 파티션
+    private static final String LIST_DETACH_PENDING = """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'usage_data' AND i.inhdetachpending
+            ORDER BY c.relname""";
+    // 분리는 끝났지만 archive/drop 전에 중단되어 현재 스키마에 남은 일 파티션 테이블
+    private static final String LIST_DETACHED = """
+            SELECT c.relname FROM pg_class c
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = current_schema() AND c.relkind = 'r' AND NOT c.relispartition
+              AND c.relname ~ '^usage_data_p[0-9]{8}$'
+            ORDER BY c.relname""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyncWatermarkStore watermarkStore;
+
+    // archive: usage_archive 스키마로 이동, drop: 삭제, none: 정리하지 않음
+    @Value("${sync.retention.mode:archive}")
+    private String mode;
+
+    @Value("${sync.retention.keep-days:7}")
+    private int keepDays;
+
+    // 정리 전에 모두 지나가야 하는 watermark 이름 (sharded 모드도 전체 최저 위치를 usage_data로 기록함)
+    @Value("${sync.retention.consumers:usage_data}")
+    private List<String> consumers;
+
+    // 파티션 경계의 시간대 (legacy-schema 마이그레이션의 legacyTimeZone과 같아야 함)
+    @Value("${sync.retention.time-zone:Asia/Seoul}")
+    private String timeZone;
+
+    public UsagePartitionRetention(JdbcTemplate jdbcTemplate, SyncWatermarkStore watermarkStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.watermarkStore = watermarkStore;
+    }
+
+    @Scheduled(cron = "${sync.retention.cron:0 30 3 * * *}")  // 기본 매일 03:30
+    public void applyRetention() {
+        if ("none".equalsIgnoreCase(mode)) {
+            return;
+        }
+        try {
+            resumeInterrupted();
+            ZoneId zone = ZoneId.of(timeZone);
+            OffsetDateTime passed = consumers.stream()
+                    .map(watermarkStore::load)
+                    .min(Comparator.naturalOrder())
+                    .map(SyncWatermark::updateDtm)
+                    .orElseThrow();
+            LocalDate keepFrom = LocalDate.now(zone).minusDays(keepDays);
+
+            int retired = 0;
+            for (String partition : jdbcTemplate.queryForList(LIST_PARTITIONS, String.class)) {
+                Matcher matcher = PARTITION_NAME.matcher(partition);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                LocalDate day = LocalDate.parse(matcher.group(1), PARTITION_DAY);
+                OffsetDateTime end = day.plusDays(1).atStartOfDay(zone).toOffsetDateTime();
+                if (!day.isBefore(keepFrom) || end.isAfter(passed)) {
+                    continue;
+                }
+                retire(partition);
+                retired++;
+            }
+            if (retired > 0) {
+                log.info("Retired {} usage_data partitions ({}), consumers passed {}", retired, mode, passed);
+            }
+        } catch (Exception e) {
+            log.error("Error applying usage_data retention: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 지난 실행에서 중단된 정리를 마무리합니다. 보존 조건은 분리를 시작할 때 이미 확인했습니다.
+     */
+    private void resumeInterrupted() {
+        for (String partition : jdbcTemplate.queryForList(LIST_DETACH_PENDING, String.class)) {
+            if (PARTITION_NAME.matcher(partition).matches()) {
+                log.warn("Finalizing interrupted detach of partition {}", partition);
+                jdbcTemplate.execute("ALTER TABLE usage_data DETACH PARTITION " + partition + " FINALIZE");
+                archiveOrDrop(partition);
+            }
+        }
+        for (String table : jdbcTemplate.queryForList(LIST_DETACHED, String.class)) {
+            log.warn("Completing retention of already detached partition {}", table);
+            archiveOrDrop(table);
+        }
+    }
+
+    private void retire(String partition) {
+        // 이름은 PARTITION_NAME 패턴으로 검증된 값만 사용
+        // CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없으므로 autocommit으로 실행
+        jdbcTemplate.execute("ALTER TABLE usage_data DETACH PARTITION " + partition + " CONCURRENTLY");
+        archiveOrDrop(partition);
+    }
+
+    private void archiveOrDrop(String partition) {
+        if ("drop".equalsIgnoreCase(mode)) {
+            jdbcTemplate.execute("DROP TABLE " + partition);
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA usage_archive");
+        }
+        log.info("{} partition {}", "drop".equalsIgnoreCase(mode) ? "Dropped" : "Archived", partition);
+    }
+}
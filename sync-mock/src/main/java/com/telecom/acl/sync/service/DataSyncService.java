@@ -1,71 +1,73 @@
 package com.telecom.acl.sync.service;
 
 import com.telecom.acl.sync.entity.UsageEntity;
+import com.telecom.acl.sync.projection.PhonePlanViewWriter;
 import com.telecom.acl.sync.repository.UsageRepository;
+import com.telecom.acl.sync.watermark.SyncHorizon;
+import com.telecom.acl.sync.watermark.SyncWatermark;
+import com.telecom.acl.sync.watermark.SyncWatermarkStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "sync.mode", havingValue = "single", matchIfMissing = true)
 public class DataSyncService {
+    private static final String WATERMARK_NAME = "usage_data";
+
     private final UsageRepository usageRepository;
-    private final MongoTemplate mongoTemplate;
-    private String lastSyncTime = "20240101000000";
-    private final DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private final PhonePlanViewWriter phonePlanViewWriter;
+    private final SyncWatermarkStore watermarkStore;
+    private final SyncHorizon syncHorizon;
+    private SyncWatermark watermark;
+
+    @Value("${sync.page-size:1000}")
+    private int pageSize;
 
+    /**
+     * watermark 이후의 행을 (updateDtm, id) 순서로 페이지 단위로 읽어 반영합니다.
+     * 페이지는 (사용자, 서비스 타입)별 최신 값으로 합쳐 한 번의 bulk upsert로 반영하고,
+     * 페이지마다 마지막 행을 watermark로 저장하므로 밀린 양과 관계없이 메모리 사용량은 페이지 크기로 고정되고,
+     * 중간에 실패하거나 재시작해도 마지막으로 반영한 페이지 다음부터 이어서 동기화합니다.
+     */
     @Scheduled(fixedRate = 30000)  // 30초마다 실행
     public void syncData() {
         try {
-            List<UsageEntity> updatedData = usageRepository.findUpdatedAfter(lastSyncTime);
-
-            if (!updatedData.isEmpty()) {
-                updatedData.forEach(this::updatePhonePlanView);
-                lastSyncTime = LocalDateTime.now().format(dtf);
-                log.info("Synced {} records. Last sync time: {}", updatedData.size(), lastSyncTime);
+            if (watermark == null) {
+                watermark = watermarkStore.load(WATERMARK_NAME);
             }
-        } catch (Exception e) {
-            log.error("Error during sync: {}", e.getMessage(), e);
-        }
-    }
+            // 아직 커밋 중인 트랜잭션이 쓸 수 있는 구간은 다음 주기에 읽음
+            OffsetDateTime upperDtm = syncHorizon.current();
+            long synced = 0;
+            long written = 0;
+            List<UsageEntity> page;
+            do {
+                page = usageRepository.findPageAfter(watermark.updateDtm(), watermark.id(), upperDtm,
+                        PageRequest.of(0, pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                written += phonePlanViewWriter.write(page);
 
-    private void updatePhonePlanView(UsageEntity data) {
-        try {
-            Query query = new Query(Criteria.where("userId").is(data.getUserSequence()));
-            Update update = new Update();
+                watermark = SyncWatermark.of(page.get(page.size() - 1));
+                watermarkStore.save(WATERMARK_NAME, watermark);
+                synced += page.size();
+            } while (page.size() == pageSize);
 
-            switch (data.getSvcTypeCd()) {
-                case "V":
-                    update.set("callUsage", data.getUsedQty());
-                    update.set("callMinutes", data.getBaseQty());
-                    break;
-                case "D":
-                    update.set("dataUsage", data.getUsedQty());
-                    update.set("dataAllowance", data.getBaseQty());
-                    break;
-                case "S":
-                    update.set("messageUsage", data.getUsedQty());
-                    update.set("messageCount", data.getBaseQty());
-                    break;
-                default:
-                    log.warn("Unknown service type: {}", data.getSvcTypeCd());
-                    return;
+            if (synced > 0) {
+                log.info("Synced {} records into {} documents. Watermark: {}", synced, written, watermark);
             }
-
-            mongoTemplate.upsert(query, update, "phone_plan_views");
-            log.debug("### Updated user {}'s {} usage TO {}", data.getUserSequence(), data.getSvcTypeCd(), data.getUsedQty());
         } catch (Exception e) {
-            log.error("Error updating MongoDB: {}", e.getMessage(), e);
+            log.error("Error during sync: {}", e.getMessage(), e);
         }
     }
 }
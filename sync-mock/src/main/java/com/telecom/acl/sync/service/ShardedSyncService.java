@@ -0,0 +1,200 @@
+package com.telecom.acl.sync.service;
+
+import com.telecom.acl.sync.entity.UsageEntity;
+import com.telecom.acl.sync.projection.PhonePlanViewWriter;
+import com.telecom.acl.sync.repository.UsageRepository;
+import com.telecom.acl.sync.watermark.SyncHorizon;
+import com.telecom.acl.sync.watermark.SyncWatermark;
+import com.telecom.acl.sync.watermark.SyncWatermarkStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 샤드 병렬 동기화 모드입니다. (sync.mode=sharded)
+ * reader가 usage_data를 (updateDtm, id) 순서로 페이지 단위로 읽어 userSequence 해시로 N개 샤드에 나누고,
+ * 샤드마다 전용 worker가 자기 bounded queue의 행을 MongoDB에 반영합니다.
+ * 큐가 가득 차면 reader가 대기하므로 Postgres 읽기가 Mongo 쓰기를 앞지르지 않으며,
+ * 같은 사용자의 행은 항상 같은 샤드에서 순서대로 반영됩니다.
+ * reader는 @Scheduled 스레드가 아닌 전용 스레드에서 돌므로 대기해도 보존 작업 등 다른 예약 작업을 막지 않고,
+ * offer-timeout-ms 안에 자리가 나지 않으면 이번 주기를 끝내고 다음 주기에 가장 뒤처진 샤드 위치부터 다시 읽습니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "sync.mode", havingValue = "sharded")
+public class ShardedSyncService {
+    private static final String WATERMARK_NAME = "usage_data";
+
+    private final UsageRepository usageRepository;
+    private final PhonePlanViewWriter phonePlanViewWriter;
+    private final SyncWatermarkStore watermarkStore;
+    private final SyncHorizon syncHorizon;
+    private final MeterRegistry meterRegistry;
+    private final SyncDeadLetterStore deadLetters;
+    private final List<SyncShard> shards = new ArrayList<>();
+    private ScheduledExecutorService reader;
+    private volatile boolean running;
+
+    @Value("${sync.page-size:1000}")
+    private int pageSize;
+
+    // 0이면 CPU 코어 수
+    @Value("${sync.shards:0}")
+    private int shardCount;
+
+    @Value("${sync.shard.queue-capacity:4}")
+    private int queueCapacity;
+
+    // 큐가 가득 찼을 때 reader가 기다리는 최대 시간, 넘으면 이번 주기를 끝냄
+    @Value("${sync.shard.offer-timeout-ms:10000}")
+    private long offerTimeoutMs;
+
+    // 묶음 반영 시도 횟수, 넘으면 sync_dead_letters에 남기고 다음 묶음으로 진행
+    @Value("${sync.shard.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${sync.interval-ms:30000}")
+    private long intervalMs;
+
+    public ShardedSyncService(UsageRepository usageRepository, PhonePlanViewWriter phonePlanViewWriter,
+                              SyncWatermarkStore watermarkStore, SyncHorizon syncHorizon,
+                              SyncDeadLetterStore deadLetters, MeterRegistry meterRegistry) {
+        this.usageRepository = usageRepository;
+        this.phonePlanViewWriter = phonePlanViewWriter;
+        this.watermarkStore = watermarkStore;
+        this.syncHorizon = syncHorizon;
+        this.deadLetters = deadLetters;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        // 샤드 watermark가 없으면(최초 실행 또는 샤드 수 변경) 단일 모드 watermark부터 시작
+        SyncWatermark global = watermarkStore.load(WATERMARK_NAME);
+        for (int i = 0; i < count; i++) {
+            SyncShard shard = new SyncShard(i, count, queueCapacity, maxAttempts, phonePlanViewWriter,
+                    watermarkStore, deadLetters, global);
+            Gauge.builder("sync.shard.queued", shard, SyncShard::queued)
+                    .description("Row chunks waiting to be written by the shard worker")
+                    .tag("shard", String.valueOf(i))
+                    .register(meterRegistry);
+            shards.add(shard);
+        }
+        shards.forEach(SyncShard::start);
+        running = true;
+        reader = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sync-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reader.scheduleWithFixedDelay(this::syncData, 0, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Started {} sync shards (queue capacity {} pages)", count, queueCapacity);
+    }
+
+    /**
+     * reader를 먼저 멈춰 큐에 더 넣지 않게 한 뒤 worker를 멈춥니다.
+     * (worker가 먼저 멈추면 reader가 가득 찬 큐 앞에서 대기한 채 남음)
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        reader.shutdownNow();
+        try {
+            if (!reader.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Sync reader did not stop within 30s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        shards.forEach(SyncShard::stop);
+        saveGlobalWatermark();
+    }
+
+    /**
+     * 가장 뒤처진 샤드 위치부터 읽어 샤드별로 나눕니다. 각 샤드는 이미 넣었거나 반영한 행을 건너뜁니다.
+     */
+    void syncData() {
+        try {
+            SyncWatermark position = lowestWatermark();
+            OffsetDateTime upperDtm = syncHorizon.current();
+            long read = 0;
+            long startNanos = System.nanoTime();
+            List<UsageEntity> page;
+            do {
+                page = usageRepository.findPageAfter(position.updateDtm(), position.id(), upperDtm,
+                        PageRequest.of(0, pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                if (!dispatch(page)) {
+                    log.warn("Shard queues stayed full for {}ms, resuming from {} next cycle", offerTimeoutMs, position);
+                    break;
+                }
+                position = SyncWatermark.of(page.get(page.size() - 1));
+                for (SyncShard shard : shards) {
+                    shard.advanceIfIdle(position);
+                }
+                read += page.size();
+            } while (running && page.size() == pageSize);
+
+            saveGlobalWatermark();
+            if (read > 0) {
+                log.info("Dispatched {} records to {} shards in {}ms. Read position: {}",
+                        read, shards.size(), (System.nanoTime() - startNanos) / 1_000_000, position);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Error during sharded sync: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 모든 샤드에 넣었으면 true, 어느 샤드의 큐가 offer-timeout-ms 동안 가득 차 있었으면 false를 반환합니다.
+     */
+    private boolean dispatch(List<UsageEntity> page) throws InterruptedException {
+        List<List<UsageEntity>> split = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            split.add(new ArrayList<>());
+        }
+        for (UsageEntity row : page) {
+            split.get(Math.floorMod(row.getUserSequence().hashCode(), shards.size())).add(row);
+        }
+        boolean dispatched = true;
+        for (int i = 0; i < shards.size(); i++) {
+            if (!split.get(i).isEmpty() && !shards.get(i).enqueue(split.get(i), offerTimeoutMs)) {
+                dispatched = false;
+            }
+        }
+        return dispatched;
+    }
+
+    private SyncWatermark lowestWatermark() {
+        return shards.stream()
+                .map(SyncShard::watermark)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+    }
+
+    /**
+     * 모든 샤드가 반영을 마친 위치를 단일 모드 watermark로도 기록해 sync.mode를 되돌려도 이어서 동기화되게 합니다.
+     */
+    private void saveGlobalWatermark() {
+        watermarkStore.save(WATERMARK_NAME, lowestWatermark());
+    }
+}
@@ -0,0 +1,48 @@
+package com.telecom.acl.sync.service;
+
+import com.telecom.acl.sync.entity.UsageEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 재시도 한도를 넘겨 반영하지 못한 행 묶음을 MongoDB sync_dead_letters 컬렉션에 남깁니다.
+ * 이 기록마저 실패하면(대개 MongoDB 장애) 행 id를 ERROR 로그로 남깁니다.
+ * 운영자가 확인 후 watermark를 되돌리거나 해당 행을 다시 반영합니다.
+ */
+@Slf4j
+@Component
+public class SyncDeadLetterStore {
+    private static final String COLLECTION = "sync_dead_letters";
+
+    private final MongoTemplate mongoTemplate;
+
+    public SyncDeadLetterStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public void add(String source, List<UsageEntity> rows, Exception error) {
+        List<Document> documents = rows.stream()
+                .map(row -> new Document("id", row.getId())
+                        .append("userSequence", row.getUserSequence())
+                        .append("svcTypeCd", row.getSvcTypeCd())
+                        .append("usedQty", row.getUsedQty())
+                        .append("baseQty", row.getBaseQty())
+                        // keyset 비교에 필요한 μs가 잘리지 않도록 ISO-8601 문자열로 저장 (watermark와 같은 형식)
+                        .append("updateDtm", String.valueOf(row.getUpdateDtm())))
+                .toList();
+        try {
+            mongoTemplate.insert(new Document("source", source)
+                    .append("rows", documents)
+                    .append("error", String.valueOf(error.getMessage()))
+                    .append("failedAt", Instant.now().toString()), COLLECTION);
+        } catch (Exception e) {
+            log.error("Failed to store dead-lettered rows from {} (ids {}): {}",
+                    source, rows.stream().map(UsageEntity::getId).toList(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.telecom.acl.sync.service;
+
+import com.telecom.acl.sync.entity.UsageEntity;
+import com.telecom.acl.sync.projection.PhonePlanViewWriter;
+import com.telecom.acl.sync.watermark.SyncWatermark;
+import com.telecom.acl.sync.watermark.SyncWatermarkStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 샤드 하나의 동기화 worker입니다. 자기 샤드의 행 묶음을 bounded queue에서 꺼내 순서대로 MongoDB에 반영하고,
+ * 반영할 때마다 샤드 watermark를 저장합니다. 반영에 실패한 묶음은 최대 maxAttempts번까지 backoff를 두고
+ * 재시도하며, 그래도 실패하면 {@link SyncDeadLetterStore}에 남기고 watermark를 넘겨 다음 묶음으로 진행합니다.
+ * (같은 사용자의 행 순서는 유지되며, 이후 묶음이 같은 사용자의 더 최신 값을 반영함)
+ */
+@Slf4j
+class SyncShard implements Runnable {
+    private static final long MAX_RETRY_BACKOFF_MS = 30_000;
+
+    private final int index;
+    private final String watermarkName;
+    private final PhonePlanViewWriter writer;
+    private final SyncWatermarkStore watermarkStore;
+    private final SyncDeadLetterStore deadLetters;
+    private final int maxAttempts;
+    private final BlockingQueue<Chunk> queue;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private SyncWatermark watermark;
+    // 큐에 넣은 마지막 위치 (reader만 접근): 다음 주기에 다시 읽은 행 중 아직 반영 대기 중인 것을 또 넣지 않도록
+    private SyncWatermark enqueued;
+
+    SyncShard(int index, int shardCount, int queueCapacity, int maxAttempts, PhonePlanViewWriter writer,
+              SyncWatermarkStore watermarkStore, SyncDeadLetterStore deadLetters, SyncWatermark initial) {
+        this.index = index;
+        this.watermarkName = "usage_data/shard-" + index + "-of-" + shardCount;
+        this.writer = writer;
+        this.watermarkStore = watermarkStore;
+        this.deadLetters = deadLetters;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.watermark = watermarkStore.loadOrDefault(watermarkName, initial);
+        this.enqueued = watermark;
+        this.thread = new Thread(this, "sync-shard-" + index);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void stop() {
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    synchronized SyncWatermark watermark() {
+        return watermark;
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    /**
+     * 이미 큐에 넣었거나 반영한 위치 이후의 행만 큐에 넣습니다. 큐가 가득 차면 worker가 따라잡을 때까지
+     * 최대 timeoutMs 동안 대기하고(backpressure), 그래도 자리가 없으면 넣지 않고 false를 반환합니다.
+     */
+    boolean enqueue(List<UsageEntity> rows, long timeoutMs) throws InterruptedException {
+        SyncWatermark current = enqueued.compareTo(watermark()) >= 0 ? enqueued : watermark();
+        List<UsageEntity> newer = rows.stream()
+                .filter(row -> SyncWatermark.of(row).compareTo(current) > 0)
+                .toList();
+        if (newer.isEmpty()) {
+            return true;
+        }
+        pending.incrementAndGet();
+        if (!queue.offer(new Chunk(newer), timeoutMs, TimeUnit.MILLISECONDS)) {
+            pending.decrementAndGet();
+            return false;
+        }
+        enqueued = SyncWatermark.of(newer.get(newer.size() - 1));
+        return true;
+    }
+
+    /**
+     * 처리 중인 묶음이 없으면 이 샤드는 position까지 반영된 것이므로 watermark를 그 위치로 올립니다.
+     * (해당 구간에 이 샤드의 행이 없었던 경우 watermark가 뒤처지지 않도록)
+     */
+    void advanceIfIdle(SyncWatermark position) {
+        if (pending.get() == 0) {
+            advance(position);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            Chunk chunk;
+            try {
+                chunk = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (!apply(chunk)) {
+                return;
+            }
+            pending.decrementAndGet();
+        }
+    }
+
+    private boolean apply(Chunk chunk) {
+        SyncWatermark last = SyncWatermark.of(chunk.rows().get(chunk.rows().size() - 1));
+        long backoffMs = 1000;
+        for (int attempt = 1; running; attempt++) {
+            try {
+                writer.write(chunk.rows());
+                advance(last);
+                return true;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Shard {} gave up applying {} rows up to {} after {} attempts, dead-lettering: {}",
+                            index, chunk.rows().size(), last, attempt, e.getMessage());
+                    deadLetters.add(watermarkName, chunk.rows(), e);
+                    advance(last);
+                    return true;
+                }
+                log.error("Shard {} failed to apply {} rows (attempt {}/{}), retrying in {}ms: {}",
+                        index, chunk.rows().size(), attempt, maxAttempts, backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    return false;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+            }
+        }
+        return false;
+    }
+
+    private synchronized void advance(SyncWatermark position) {
+        if (position.compareTo(watermark) <= 0) {
+            return;
+        }
+        watermark = position;
+        watermarkStore.save(watermarkName, position);
+    }
+
+    private record Chunk(List<UsageEntity> rows) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.telecom.acl.sync.watermark;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 증분 동기화가 누락 없이 읽을 수 있는 update_dtm 상한을 DB에서 구합니다.
+ * update_dtm은 DB가 트랜잭션 시작 시각(DEFAULT now())으로 채우므로, 열려 있는 트랜잭션 중 가장 먼저 시작한 것의
+ * 시작 시각보다 이전의 행은 모두 커밋되어 있습니다. 이 상한 미만만 읽으면 앱 서버 시계 차이나 커밋 지연과
+ * 무관하게 나중에 그 앞 위치로 커밋되는 행이 없습니다.
+ * 다른 계정 세션의 xact_start를 보려면 동기화 계정에 pg_read_all_stats 권한이 필요합니다.
+ */
+@Slf4j
+@Component
+public class SyncHorizon {
+    private static final String HORIZON_SQL = """
+            SELECT least(now(), (SELECT min(xact_start) FROM pg_stat_activity
+                                 WHERE datname = current_database()
+                                   AND backend_type = 'client backend'
+                                   AND pid <> pg_backend_pid()))""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyncHorizon(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void checkPrivilege() {
+        Boolean visible = jdbcTemplate.queryForObject("SELECT pg_has_role('pg_read_all_stats', 'USAGE')", Boolean.class);
+        if (!Boolean.TRUE.equals(visible)) {
+            log.error("Sync user cannot see other sessions' transactions (grant pg_read_all_stats); "
+                    + "rows committed by long transactions of other users may be skipped");
+        }
+    }
+
+    /**
+     * 이 시각 미만의 update_dtm을 가진 행은 모두 커밋되어 있습니다.
+     */
+    public OffsetDateTime current() {
+        return jdbcTemplate.queryForObject(HORIZON_SQL, OffsetDateTime.class);
+    }
+}
@@ -0,0 +1,24 @@
+package com.telecom.acl.sync.watermark;
+
+import com.telecom.acl.sync.entity.UsageEntity;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+
+/**
+ * 동기화가 끝난 마지막 usage_data 행의 위치입니다. (update_dtm, id) 순서로 이 위치 이후의 행만 읽습니다.
+ */
+public record SyncWatermark(OffsetDateTime updateDtm, long id) implements Comparable<SyncWatermark> {
+    private static final Comparator<SyncWatermark> ORDER = Comparator
+            .comparing((SyncWatermark watermark) -> watermark.updateDtm().toInstant())
+            .thenComparingLong(SyncWatermark::id);
+
+    public static SyncWatermark of(UsageEntity row) {
+        return new SyncWatermark(row.getUpdateDtm(), row.getId());
+    }
+
+    @Override
+    public int compareTo(SyncWatermark other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,73 @@
+package com.telecom.acl.sync.watermark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 동기화 watermark를 MongoDB sync_watermarks 컬렉션에 저장합니다.
+ * 프로젝션과 같은 DB에 두어 재시작 후에도 마지막으로 반영한 위치부터 이어서 동기화합니다.
+ */
+@Slf4j
+@Component
+public class SyncWatermarkStore {
+    private static final String COLLECTION = "sync_watermarks";
+    private static final DateTimeFormatter LEGACY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${sync.initial-watermark:20240101000000}")
+    private String initialUpdateDtm;
+
+    // 'yyyyMMddHHmmss' 값의 시간대: V2 마이그레이션이 기존 update_dtm을 변환한 시간대와 같아야 함
+    @Value("${spring.flyway.placeholders.legacyTimeZone:Asia/Seoul}")
+    private String legacyTimeZone;
+
+    public SyncWatermarkStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 저장된 watermark가 없으면 sync.initial-watermark부터 시작합니다.
+     */
+    public SyncWatermark load(String name) {
+        return loadOrDefault(name, new SyncWatermark(parse(initialUpdateDtm), 0L));
+    }
+
+    public SyncWatermark loadOrDefault(String name, SyncWatermark defaultWatermark) {
+        Document document = mongoTemplate.findById(name, Document.class, COLLECTION);
+        if (document == null) {
+            log.info("No watermark stored for {}, starting from {}", name, defaultWatermark);
+            return defaultWatermark;
+        }
+        return new SyncWatermark(parse(document.getString("updateDtm")), document.get("lastId", Number.class).longValue());
+    }
+
+    public void save(String name, SyncWatermark watermark) {
+        mongoTemplate.upsert(new Query(Criteria.where("_id").is(name)),
+                // Date는 ms 단위라 keyset 비교에 필요한 μs가 잘리므로 ISO-8601 문자열로 저장
+                new Update().set("updateDtm", watermark.updateDtm().toString()).set("lastId", watermark.id()),
+                COLLECTION);
+    }
+
+    /**
+     * ISO-8601 또는 이전 형식('yyyyMMddHHmmss', legacyTimeZone 기준 시각)의 시각을 읽습니다.
+     * 서버 시간대와 무관하게 마이그레이션된 update_dtm과 같은 시각으로 해석합니다.
+     */
+    private OffsetDateTime parse(String value) {
+        if (value.length() == 14 && value.chars().allMatch(Character::isDigit)) {
+            return LocalDateTime.parse(value, LEGACY_FORMAT).atZone(ZoneId.of(legacyTimeZone)).toOffsetDateTime();
+        }
+        return OffsetDateTime.parse(value);
+    }
+}
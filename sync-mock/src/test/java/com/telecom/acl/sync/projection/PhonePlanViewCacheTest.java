@@ -0,0 +1,160 @@
+package com.telecom.acl.sync.projection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhonePlanViewCacheTest {
+    private static final int STRIPES = 16;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Optional<PhonePlanView>> loader = userId -> {
+        loads.incrementAndGet();
+        return Optional.of(view(userId, loads.get()));
+    };
+
+    @Test
+    void repeatedReadIsServedFromCache() {
+        PhonePlanViewCache cache = newCache(1000, 60_000);
+
+        Optional<PhonePlanView> first = cache.get("user1", loader);
+        Optional<PhonePlanView> second = cache.get("user1", loader);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void missingDocumentIsCachedToo() {
+        PhonePlanViewCache cache = newCache(1000, 60_000);
+        Function<String, Optional<PhonePlanView>> absent = userId -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertThat(cache.get("user1", absent)).isEmpty();
+        assertThat(cache.get("user1", absent)).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void leastRecentlyUsedUserIsEvictedWhenStripeIsFull() {
+        // stripe당 2명
+        PhonePlanViewCache cache = newCache(STRIPES * 2, 60_000);
+        List<String> sameStripe = usersInOneStripe(3);
+
+        cache.get(sameStripe.get(0), loader);
+        cache.get(sameStripe.get(1), loader);
+        cache.get(sameStripe.get(0), loader);  // 0번을 최근 사용으로
+        cache.get(sameStripe.get(2), loader);  // 1번이 밀려남
+        assertThat(loads).hasValue(3);
+
+        cache.get(sameStripe.get(0), loader);
+        assertThat(loads).hasValue(3);
+        cache.get(sameStripe.get(1), loader);
+        assertThat(loads).hasValue(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredEntryIsReloaded() throws InterruptedException {
+        PhonePlanViewCache cache = newCache(1000, 20);
+
+        cache.get("user1", loader);
+        Thread.sleep(50);
+        Optional<PhonePlanView> reloaded = cache.get("user1", loader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(reloaded).contains(view("user1", 2));
+    }
+
+    @Test
+    void invalidatedUserIsReadAgain() {
+        PhonePlanViewCache cache = newCache(1000, 60_000);
+        cache.get("user1", loader);
+
+        cache.invalidate(List.of("user1", "user2"));
+        Optional<PhonePlanView> reloaded = cache.get("user1", loader);
+
+        assertThat(reloaded).contains(view("user1", 2));
+        assertThat(cache.invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void readOverlappingAnUpsertIsNotCached() {
+        PhonePlanViewCache cache = newCache(1000, 60_000);
+        // 읽는 도중 writer가 같은 사용자를 upsert하고 무효화한 상황: 읽은 값은 upsert 이전 값일 수 있음
+        Function<String, Optional<PhonePlanView>> racingLoader = userId -> {
+            Optional<PhonePlanView> stale = loader.apply(userId);
+            cache.invalidate(List.of(userId));
+            return stale;
+        };
+
+        assertThat(cache.get("user1", racingLoader)).contains(view("user1", 1));
+        Optional<PhonePlanView> next = cache.get("user1", loader);
+
+        assertThat(next).contains(view("user1", 2));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void upsertOfAnotherUserInTheSameStripeAlsoSkipsCaching() {
+        PhonePlanViewCache cache = newCache(1000, 60_000);
+        List<String> sameStripe = usersInOneStripe(2);
+        Function<String, Optional<PhonePlanView>> racingLoader = userId -> {
+            Optional<PhonePlanView> view = loader.apply(userId);
+            cache.invalidate(List.of(sameStripe.get(1)));
+            return view;
+        };
+
+        cache.get(sameStripe.get(0), racingLoader);
+        cache.get(sameStripe.get(0), loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        PhonePlanViewCache cache = newCache(1000, 60_000);
+        ReflectionTestUtils.setField(cache, "enabled", false);
+
+        cache.get("user1", loader);
+        cache.get("user1", loader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private static PhonePlanViewCache newCache(int maxEntries, long ttlMs) {
+        PhonePlanViewCache cache = new PhonePlanViewCache(maxEntries, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "ttlMs", ttlMs);
+        return cache;
+    }
+
+    private static List<String> usersInOneStripe(int count) {
+        List<String> users = new ArrayList<>();
+        int stripe = Math.floorMod("user0".hashCode(), STRIPES);
+        for (int i = 0; users.size() < count; i++) {
+            String userId = "user" + i;
+            if (Math.floorMod(userId.hashCode(), STRIPES) == stripe) {
+                users.add(userId);
+            }
+        }
+        return users;
+    }
+
+    private static PhonePlanView view(String userId, int dataUsage) {
+        return new PhonePlanView(userId, 0, 100, dataUsage, 10240, 0, 300);
+    }
+}
@@ -0,0 +1,88 @@
+package com.telecom.acl.sync.service;
+
+import com.telecom.acl.sync.entity.UsageEntity;
+import com.telecom.acl.sync.projection.PhonePlanViewWriter;
+import com.telecom.acl.sync.repository.UsageRepository;
+import com.telecom.acl.sync.watermark.SyncHorizon;
+import com.telecom.acl.sync.watermark.SyncWatermark;
+import com.telecom.acl.sync.watermark.SyncWatermarkStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataSyncServiceTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime HORIZON = START.plusMinutes(10);
+
+    private final UsageRepository repository = mock(UsageRepository.class);
+    private final PhonePlanViewWriter writer = mock(PhonePlanViewWriter.class);
+    private final SyncWatermarkStore watermarkStore = mock(SyncWatermarkStore.class);
+    private final SyncHorizon horizon = mock(SyncHorizon.class);
+    private final DataSyncService service = new DataSyncService(repository, writer, watermarkStore, horizon);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "pageSize", 2);
+        when(watermarkStore.load("usage_data")).thenReturn(new SyncWatermark(START, 0L));
+        when(horizon.current()).thenReturn(HORIZON);
+        when(writer.write(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+    }
+
+    @Test
+    void pagesFromLastRowOfPreviousPageUpToDatabaseHorizon() {
+        UsageEntity first = row(1, START.plusSeconds(1));
+        UsageEntity second = row(2, START.plusSeconds(1));
+        UsageEntity third = row(3, START.plusSeconds(2));
+        when(repository.findPageAfter(eq(START), eq(0L), eq(HORIZON), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(repository.findPageAfter(eq(START.plusSeconds(1)), eq(2L), eq(HORIZON), any(Pageable.class)))
+                .thenReturn(List.of(third));
+
+        service.syncData();
+
+        InOrder order = inOrder(writer, watermarkStore);
+        order.verify(writer).write(List.of(first, second));
+        order.verify(watermarkStore).save("usage_data", new SyncWatermark(START.plusSeconds(1), 2L));
+        order.verify(writer).write(List.of(third));
+        order.verify(watermarkStore).save("usage_data", new SyncWatermark(START.plusSeconds(2), 3L));
+    }
+
+    @Test
+    void failedWriteKeepsWatermarkAtLastAppliedPage() {
+        UsageEntity first = row(1, START.plusSeconds(1));
+        when(repository.findPageAfter(eq(START), eq(0L), eq(HORIZON), any(Pageable.class)))
+                .thenReturn(List.of(first));
+        when(writer.write(anyList())).thenThrow(new IllegalStateException("mongo down"));
+
+        service.syncData();
+
+        verify(watermarkStore, never()).save(anyString(), any());
+    }
+
+    private static UsageEntity row(long id, OffsetDateTime updateDtm) {
+        return UsageEntity.builder()
+                .id(id)
+                .userSequence("user" + id)
+                .svcTypeCd("D")
+                .usedQty(1)
+                .baseQty(10)
+                .updateDtm(updateDtm)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.telecom.acl.sync.service;
+
+import com.telecom.acl.sync.entity.UsageEntity;
+import com.telecom.acl.sync.projection.PhonePlanViewWriter;
+import com.telecom.acl.sync.watermark.SyncWatermark;
+import com.telecom.acl.sync.watermark.SyncWatermarkStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncShardTest {
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final PhonePlanViewWriter writer = mock(PhonePlanViewWriter.class);
+    private final SyncWatermarkStore watermarkStore = mock(SyncWatermarkStore.class);
+    private final SyncDeadLetterStore deadLetters = mock(SyncDeadLetterStore.class);
+    private SyncShard shard;
+
+    @AfterEach
+    void tearDown() {
+        if (shard != null) {
+            shard.stop();
+        }
+    }
+
+    @Test
+    void chunkIsDeadLetteredAfterMaxAttempts() throws InterruptedException {
+        SyncWatermark initial = new SyncWatermark(START, 0L);
+        when(watermarkStore.loadOrDefault(anyString(), any())).thenReturn(initial);
+        when(writer.write(anyList())).thenThrow(new IllegalStateException("mongo down"));
+        shard = new SyncShard(0, 1, 4, 2, writer, watermarkStore, deadLetters, initial);
+        shard.start();
+
+        List<UsageEntity> rows = List.of(row(1), row(2));
+        assertThat(shard.enqueue(rows, 1000)).isTrue();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> shard.watermark().id() == 2L);
+        verify(writer, times(2)).write(rows);
+        verify(deadLetters).add(anyString(), eq(rows), any(IllegalStateException.class));
+    }
+
+    @Test
+    void enqueueGivesUpWhenQueueStaysFull() throws InterruptedException {
+        SyncWatermark initial = new SyncWatermark(START, 0L);
+        when(watermarkStore.loadOrDefault(anyString(), any())).thenReturn(initial);
+        CountDownLatch release = new CountDownLatch(1);
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return 1;
+        });
+        shard = new SyncShard(0, 1, 1, 1, writer, watermarkStore, deadLetters, initial);
+        shard.start();
+
+        assertThat(shard.enqueue(List.of(row(1)), 1000)).isTrue();   // worker가 꺼내 반영 중 대기
+        await().atMost(Duration.ofSeconds(5)).until(() -> shard.queued() == 0);
+        assertThat(shard.enqueue(List.of(row(2)), 1000)).isTrue();   // 큐 한 칸을 채움
+        assertThat(shard.enqueue(List.of(row(3)), 100)).isFalse();
+
+        // 이미 넣은 행은 다시 읽어도 넣지 않음
+        assertThat(shard.enqueue(List.of(row(1), row(2)), 100)).isTrue();
+        assertThat(shard.queued()).isEqualTo(1);
+        release.countDown();
+    }
+
+    private static UsageEntity row(long id) {
+        return UsageEntity.builder()
+                .id(id)
+                .userSequence("user" + id)
+                .svcTypeCd("D")
+                .usedQty(1)
+                .baseQty(10)
+                .updateDtm(START.plusSeconds(id))
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.telecom.acl.sync.watermark;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SyncWatermarkStoreTest {
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SyncWatermarkStore store = new SyncWatermarkStore(mongoTemplate);
+    private TimeZone systemZone;
+
+    @BeforeEach
+    void setUp() {
+        // 서버 시간대가 UTC여도 legacyTimeZone 기준으로 해석해야 함
+        systemZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        ReflectionTestUtils.setField(store, "legacyTimeZone", "Asia/Seoul");
+        ReflectionTestUtils.setField(store, "initialUpdateDtm", "20240101090000");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(systemZone);
+    }
+
+    @Test
+    void initialLegacyWatermarkUsesLegacyTimeZone() {
+        SyncWatermark watermark = store.load("usage_data");
+
+        assertThat(watermark.updateDtm().toInstant())
+                .isEqualTo(OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant());
+        assertThat(watermark.id()).isZero();
+    }
+
+    @Test
+    void storedLegacyWatermarkUsesLegacyTimeZone() {
+        when(mongoTemplate.findById(eq("usage_data"), eq(Document.class), eq("sync_watermarks")))
+                .thenReturn(new Document("updateDtm", "20240301120000").append("lastId", 42L));
+
+        SyncWatermark watermark = store.load("usage_data");
+
+        assertThat(watermark.updateDtm()).isEqualTo(OffsetDateTime.of(2024, 3, 1, 12, 0, 0, 0, ZoneOffset.ofHours(9)));
+        assertThat(watermark.id()).isEqualTo(42L);
+    }
+
+    @Test
+    void storedIsoWatermarkKeepsMicroseconds() {
+        when(mongoTemplate.findById(eq("usage_data"), eq(Document.class), eq("sync_watermarks")))
+                .thenReturn(new Document("updateDtm", "2024-03-01T03:00:00.123456Z").append("lastId", 7));
+
+        SyncWatermark watermark = store.load("usage_data");
+
+        assertThat(watermark.updateDtm().getNano()).isEqualTo(123_456_000);
+        assertThat(watermark.id()).isEqualTo(7L);
+    }
+}
@@ -0,0 +1,22 @@
+package com.telecom.acl.sync.watermark;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncWatermarkTest {
+
+    @Test
+    void ordersByInstantThenId() {
+        OffsetDateTime utc = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 1_000, ZoneOffset.UTC);
+        SyncWatermark sameInstantOtherOffset = new SyncWatermark(utc.withOffsetSameInstant(ZoneOffset.ofHours(9)), 5L);
+
+        assertThat(new SyncWatermark(utc, 5L)).isEqualByComparingTo(sameInstantOtherOffset);
+        assertThat(new SyncWatermark(utc, 4L)).isLessThan(sameInstantOtherOffset);
+        // μs 단위 차이도 keyset 순서에 반영됨
+        assertThat(new SyncWatermark(utc.minusNanos(1_000), 100L)).isLessThan(new SyncWatermark(utc, 1L));
+    }
+}
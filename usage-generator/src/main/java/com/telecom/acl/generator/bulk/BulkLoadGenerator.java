@@ -0,0 +1,97 @@
+package com.telecom.acl.generator.bulk;
+
+import com.telecom.acl.common.workload.WorkloadRecorder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * sync 경로 부하 테스트용 usage_data 일괄 적재기입니다.
+ * usage.bulk.* 설정(또는 API 요청)에 따라 목표 초당 행 수로 다수 사용자의 사용량 행을 COPY 또는 JDBC batch로 쓰고,
+ * 초당 적재 행 수를 보고합니다. 30초마다 한 건씩 쓰는 {@code UsageGeneratorService}와 함께 동작합니다.
+ */
+@Slf4j
+@Service
+public class BulkLoadGenerator {
+    private final UsageIdAllocator idAllocator;
+    private final UsageBulkWriter bulkWriter;
+    private final WorkloadRecorder workloadRecorder;
+    private BulkLoadRun current;
+
+    @Value("${usage.bulk.enabled:false}")
+    private boolean autoStart;
+
+    @Value("${usage.bulk.rows-per-sec:10000}")
+    private double rowsPerSec;
+
+    @Value("${usage.bulk.duration-ms:0}")
+    private long durationMs;
+
+    @Value("${usage.bulk.total-rows:0}")
+    private long totalRows;
+
+    @Value("${usage.bulk.users:1000000}")
+    private int users;
+
+    @Value("${usage.bulk.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${usage.bulk.writers:4}")
+    private int writers;
+
+    @Value("${usage.bulk.report-interval-ms:5000}")
+    private long reportIntervalMs;
+
+    public BulkLoadGenerator(UsageIdAllocator idAllocator, UsageBulkWriter bulkWriter,
+                             WorkloadRecorder workloadRecorder) {
+        this.idAllocator = idAllocator;
+        this.bulkWriter = bulkWriter;
+        this.workloadRecorder = workloadRecorder;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (autoStart) {
+            start(defaultProfile());
+        }
+    }
+
+    public BulkLoadProfile defaultProfile() {
+        return new BulkLoadProfile(rowsPerSec, durationMs, totalRows, users, batchSize, writers, reportIntervalMs);
+    }
+
+    /**
+     * 설정값 중 목표 속도, 실행 시간, 총 행 수만 바꿔 시작합니다. (null이면 설정값 사용)
+     */
+    public BulkLoadReport start(Double rowsPerSec, Long durationMs, Long totalRows) {
+        return start(defaultProfile().withRate(rowsPerSec, durationMs, totalRows));
+    }
+
+    /**
+     * 새 적재를 시작합니다. 실행 중인 적재가 있으면 먼저 멈춥니다.
+     */
+    public synchronized BulkLoadReport start(BulkLoadProfile profile) {
+        if (current != null && current.isRunning()) {
+            current.stop();
+        }
+        current = new BulkLoadRun(profile, idAllocator, bulkWriter, workloadRecorder);
+        current.start();
+        return current.report();
+    }
+
+    @PreDestroy
+    public synchronized BulkLoadReport stop() {
+        if (current == null) {
+            return null;
+        }
+        current.stop();
+        return current.report();
+    }
+
+    public synchronized BulkLoadReport report() {
+        return current == null ? null : current.report();
+    }
+}
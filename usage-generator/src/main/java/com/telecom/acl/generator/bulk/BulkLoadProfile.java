@@ -0,0 +1,33 @@
+package com.telecom.acl.generator.bulk;
+
+/**
+ * 일괄 적재 설정입니다.
+ *
+ * @param rowsPerSec       목표 초당 행 수 (0이면 최대 속도)
+ * @param durationMs       실행 시간 (0이면 stop 호출 전까지 계속)
+ * @param totalRows        적재할 총 행 수 (0이면 제한 없음)
+ * @param users            사용자 수 (user1 ~ userN, 균등 분포)
+ * @param batchSize        COPY 또는 batch INSERT 한 번에 쓰는 행 수
+ * @param writers          적재 스레드 수 (스레드마다 DB 연결 하나 사용)
+ * @param reportIntervalMs 진행 상황 보고 주기
+ */
+public record BulkLoadProfile(double rowsPerSec, long durationMs, long totalRows, int users, int batchSize,
+                              int writers, long reportIntervalMs) {
+
+    public BulkLoadProfile {
+        if (rowsPerSec < 0) {
+            throw new IllegalArgumentException("rowsPerSec must not be negative: " + rowsPerSec);
+        }
+        if (users < 1 || batchSize < 1 || writers < 1 || reportIntervalMs < 1) {
+            throw new IllegalArgumentException("users, batchSize, writers and reportIntervalMs must be positive");
+        }
+    }
+
+    BulkLoadProfile withRate(Double rowsPerSec, Long durationMs, Long totalRows) {
+        return new BulkLoadProfile(
+                rowsPerSec != null ? rowsPerSec : this.rowsPerSec,
+                durationMs != null ? durationMs : this.durationMs,
+                totalRows != null ? totalRows : this.totalRows,
+                users, batchSize, writers, reportIntervalMs);
+    }
+}
@@ -0,0 +1,15 @@
+package com.telecom.acl.generator.bulk;
+
+/**
+ * 일괄 적재 진행 상황입니다.
+ *
+ * @param targetRate  목표 초당 행 수 (0이면 최대 속도)
+ * @param actualRate  직전 보고 구간의 실제 초당 적재 행 수
+ * @param averageRate 시작 이후 평균 초당 적재 행 수
+ * @param written     적재에 성공한 누적 행 수
+ * @param failed      적재에 실패한 누적 행 수
+ * @param behind      목표 대비 밀린 행 수 (최대 속도면 0)
+ */
+public record BulkLoadReport(boolean running, long elapsedMs, double targetRate, double actualRate,
+                             double averageRate, long written, long failed, long behind) {
+}
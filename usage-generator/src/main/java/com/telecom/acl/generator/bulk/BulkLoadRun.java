@@ -0,0 +1,206 @@
+package com.telecom.acl.generator.bulk;
+
+import com.telecom.acl.common.workload.WorkloadEvent;
+import com.telecom.acl.common.workload.WorkloadRecorder;
+import com.telecom.acl.generator.entity.UsageEntity;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 일괄 적재 1회 실행입니다.
+ * 적재 스레드들이 batchSize 단위로 행 번호 구간을 나눠 가지며, 목표 속도가 있으면 구간 마지막 행의 예정 시각까지
+ * 기다렸다가 씁니다. 적재가 목표보다 느려지면 밀린 구간은 기다리지 않고 바로 써서 따라잡습니다.
+ * 보고 스레드가 reportIntervalMs마다 구간 적재 속도(rows/s)를 기록합니다.
+ */
+@Slf4j
+class BulkLoadRun {
+    private static final String[] SERVICES = {"V", "D", "S"};
+
+    private final BulkLoadProfile profile;
+    private final UsageIdAllocator idAllocator;
+    private final UsageBulkWriter bulkWriter;
+    private final WorkloadRecorder workloadRecorder;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicInteger activeWriters = new AtomicInteger();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final List<Thread> threads = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+
+    private volatile boolean running = true;
+    private volatile long stoppedAtNanos;
+    private volatile double windowRate;
+
+    BulkLoadRun(BulkLoadProfile profile, UsageIdAllocator idAllocator, UsageBulkWriter bulkWriter,
+                WorkloadRecorder workloadRecorder) {
+        this.profile = profile;
+        this.idAllocator = idAllocator;
+        this.bulkWriter = bulkWriter;
+        this.workloadRecorder = workloadRecorder;
+    }
+
+    void start() {
+        SplittableRandom seed = new SplittableRandom();
+        for (int i = 0; i < profile.writers(); i++) {
+            SplittableRandom random = seed.split();
+            Thread writer = new Thread(() -> writeLoop(random), "bulk-writer-" + (i + 1));
+            writer.setDaemon(true);
+            threads.add(writer);
+        }
+        Thread reporter = new Thread(this::reportLoop, "bulk-reporter");
+        reporter.setDaemon(true);
+        threads.add(reporter);
+        activeWriters.set(profile.writers());
+        threads.forEach(Thread::start);
+        log.info("Bulk load started: {}", profile);
+    }
+
+    void stop() {
+        if (running) {
+            stoppedAtNanos = System.nanoTime();
+            running = false;
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    BulkLoadReport report() {
+        long now = running ? System.nanoTime() : stoppedAtNanos;
+        long elapsedNanos = now - startNanos;
+        long writtenCount = written.sum();
+        long failedCount = failed.sum();
+        long behind = 0;
+        if (profile.rowsPerSec() > 0) {
+            long expected = (long) (profile.rowsPerSec() * elapsedNanos / 1e9);
+            if (profile.totalRows() > 0) {
+                expected = Math.min(expected, profile.totalRows());
+            }
+            behind = Math.max(0, expected - writtenCount - failedCount);
+        }
+        return new BulkLoadReport(running, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), profile.rowsPerSec(),
+                windowRate, elapsedNanos > 0 ? writtenCount * 1e9 / elapsedNanos : 0,
+                writtenCount, failedCount, behind);
+    }
+
+    private void writeLoop(SplittableRandom random) {
+        try {
+            while (running) {
+                long first = claimed.getAndAdd(profile.batchSize());
+                int count = profile.batchSize();
+                if (profile.totalRows() > 0) {
+                    if (first >= profile.totalRows()) {
+                        return;
+                    }
+                    count = (int) Math.min(count, profile.totalRows() - first);
+                }
+                if (!awaitDue(first + count)) {
+                    return;
+                }
+                writeBatch(random, count);
+            }
+        } finally {
+            if (activeWriters.decrementAndGet() == 0) {
+                finish();
+            }
+        }
+    }
+
+    /**
+     * 목표 속도에서 rowNumber번째 행을 쓸 시각까지 기다립니다. 실행 시간을 넘기거나 중지되면 false.
+     */
+    private boolean awaitDue(long rowNumber) {
+        long endNanos = profile.durationMs() > 0
+                ? startNanos + TimeUnit.MILLISECONDS.toNanos(profile.durationMs())
+                : Long.MAX_VALUE;
+        long dueNanos = profile.rowsPerSec() > 0
+                ? startNanos + (long) (rowNumber * 1e9 / profile.rowsPerSec())
+                : System.nanoTime();
+        if (dueNanos - endNanos > 0) {
+            return false;
+        }
+        long remaining;
+        while (running && (remaining = dueNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(100)));
+        }
+        return running && System.nanoTime() - endNanos < 0;
+    }
+
+    private void writeBatch(SplittableRandom random, int count) {
+        try {
+            long[] ids = idAllocator.allocate(count);
+            List<UsageEntity> rows = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String svc = SERVICES[random.nextInt(SERVICES.length)];
+                int baseQty = svc.equals("D") ? 10240 : 300;
+                UsageEntity row = UsageEntity.builder()
+                        .id(ids[i])
+                        .userSequence("user" + (random.nextInt(profile.users()) + 1))
+                        .svcTypeCd(svc)
+                        .baseQty(baseQty)
+                        .usedQty(baseQty - random.nextInt(100))
+                        .build();
+                rows.add(row);
+            }
+            bulkWriter.write(rows);
+            written.add(count);
+            // 실제로 들어간 행만 기록 (실패한 배치를 재생하면 원래 실행에 없던 사용량이 생김)
+            for (UsageEntity row : rows) {
+                workloadRecorder.record(WorkloadEvent.Kind.USAGE, row.getUserSequence(),
+                        row.getSvcTypeCd(), row.getUsedQty(), row.getBaseQty());
+            }
+        } catch (Exception e) {
+            failed.add(count);
+            log.warn("Failed to write {} usage rows ({} failed so far): {}", count, failed.sum(), e.getMessage());
+        }
+    }
+
+    private void finish() {
+        if (running) {
+            stoppedAtNanos = System.nanoTime();
+            running = false;
+        }
+        BulkLoadReport report = report();
+        log.info("Bulk load finished after {}ms: written {}, failed {} ({} rows/s on average)",
+                report.elapsedMs(), report.written(), report.failed(), Math.round(report.averageRate()));
+    }
+
+    private void reportLoop() {
+        long lastNanos = startNanos;
+        long lastWritten = 0;
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(profile.reportIntervalMs());
+        while (running) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            long now = System.nanoTime();
+            if (now - lastNanos < intervalNanos) {
+                continue;
+            }
+            long writtenCount = written.sum();
+            windowRate = (writtenCount - lastWritten) * 1e9 / (now - lastNanos);
+            lastNanos = now;
+            lastWritten = writtenCount;
+
+            BulkLoadReport report = report();
+            log.info("Bulk load: target {}/s, actual {}/s, average {}/s (written {}, failed {}, behind {} rows)",
+                    profile.rowsPerSec() > 0 ? Math.round(profile.rowsPerSec()) : "max", Math.round(windowRate),
+                    Math.round(report.averageRate()), report.written(), report.failed(), report.behind());
+        }
+    }
+}
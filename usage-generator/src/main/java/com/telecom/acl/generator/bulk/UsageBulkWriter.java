@@ -0,0 +1,127 @@
+package com.telecom.acl.generator.bulk;
+
+import com.telecom.acl.generator.entity.UsageEntity;
+import com.telecom.acl.generator.partition.UsagePartitionMaintenance;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * usage_data에 여러 행을 한 번에 씁니다. (id는 호출 전에 채워져 있어야 함)
+ * copy: PostgreSQL COPY FROM STDIN (text 형식, 값은 escape), batch: JDBC batch INSERT (reWriteBatchedInserts로 multi-row INSERT)
+ * update_dtm은 쓰지 않고 DB 기본값(트랜잭션 시작 시각)으로 채우며,
+ * 부모 테이블에 쓰면 PostgreSQL이 update_dtm에 따라 일 파티션으로 나눠 넣습니다.
+ */
+@Slf4j
+@Component
+public class UsageBulkWriter {
+    private static final String COPY_SQL = "COPY usage_data (id, user_sequence, svc_type_cd, used_qty, base_qty) "
+            + "FROM STDIN";
+    private static final String INSERT_SQL = "INSERT INTO usage_data "
+            + "(id, user_sequence, svc_type_cd, used_qty, base_qty) VALUES (?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final UsagePartitionMaintenance partitionMaintenance;
+
+    @Value("${usage.bulk.writer:copy}")
+    private String writer;
+
+    public UsageBulkWriter(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                           UsagePartitionMaintenance partitionMaintenance) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitionMaintenance = partitionMaintenance;
+    }
+
+    /**
+     * 행을 씁니다. 파티션이 없어 실패했으면 파티션을 만든 뒤 한 번 더 씁니다.
+     */
+    public void write(List<UsageEntity> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            writeOnce(rows);
+        } catch (RuntimeException e) {
+            if (!partitionMaintenance.handleWriteFailure(e)) {
+                throw e;
+            }
+            writeOnce(rows);
+        }
+    }
+
+    private void writeOnce(List<UsageEntity> rows) {
+        if ("batch".equalsIgnoreCase(writer)) {
+            insertBatch(rows);
+        } else {
+            copy(rows);
+        }
+    }
+
+    private void copy(List<UsageEntity> rows) {
+        String data = copyData(rows);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(data));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to copy " + rows.size() + " usage rows", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to copy " + rows.size() + " usage rows", e);
+        }
+    }
+
+    private void insertBatch(List<UsageEntity> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setObject(1, row.getId(), Types.BIGINT);
+            ps.setString(2, row.getUserSequence());
+            ps.setString(3, row.getSvcTypeCd());
+            ps.setObject(4, row.getUsedQty(), Types.INTEGER);
+            ps.setObject(5, row.getBaseQty(), Types.INTEGER);
+        });
+    }
+
+    /**
+     * COPY text 형식의 입력을 만듭니다. 한 행은 탭으로 구분된 값과 줄바꿈으로 끝나며,
+     * null은 \N, 값 안의 역슬래시·탭·줄바꿈·캐리지 리턴은 escape 합니다.
+     */
+    static String copyData(List<UsageEntity> rows) {
+        StringBuilder data = new StringBuilder(rows.size() * 64);
+        for (UsageEntity row : rows) {
+            appendCopyValue(data, row.getId()).append('\t');
+            appendCopyValue(data, row.getUserSequence()).append('\t');
+            appendCopyValue(data, row.getSvcTypeCd()).append('\t');
+            appendCopyValue(data, row.getUsedQty()).append('\t');
+            appendCopyValue(data, row.getBaseQty()).append('\n');
+        }
+        return data.toString();
+    }
+
+    private static StringBuilder appendCopyValue(StringBuilder data, Object value) {
+        if (value == null) {
+            return data.append("\\N");
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> data.append("\\\\");
+                case '\t' -> data.append("\\t");
+                case '\n' -> data.append("\\n");
+                case '\r' -> data.append("\\r");
+                default -> data.append(c);
+            }
+        }
+        return data;
+    }
+}
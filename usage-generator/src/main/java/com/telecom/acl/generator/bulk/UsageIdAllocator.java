@@ -0,0 +1,41 @@
+package com.telecom.acl.generator.bulk;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * usage_data_seq에서 id를 블록 단위로 예약합니다.
+ * nextval 값 N이 [N - BLOCK_SIZE + 1, N] 구간을 예약한다는 Hibernate pooled optimizer 규칙을 따르므로
+ * JPA로 저장하는 행(UsageEntity)과 id가 겹치지 않습니다. 필요한 블록 수만큼을 쿼리 한 번으로 받습니다.
+ */
+@Component
+public class UsageIdAllocator {
+    // V5 마이그레이션의 INCREMENT, UsageEntity의 allocationSize와 같아야 함
+    static final int BLOCK_SIZE = 50;
+
+    private static final String RESERVE_BLOCKS = "SELECT nextval('usage_data_seq') FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UsageIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * count개의 id를 예약합니다. 마지막 블록에서 쓰지 않은 id는 버립니다.
+     */
+    public long[] allocate(int count) {
+        int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        List<Long> highs = jdbcTemplate.queryForList(RESERVE_BLOCKS, Long.class, blocks);
+        long[] ids = new long[count];
+        int index = 0;
+        for (long high : highs) {
+            for (long id = high - BLOCK_SIZE + 1; id <= high && index < count; id++) {
+                ids[index++] = id;
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,42 @@
+package com.telecom.acl.generator.controller;
+
+import com.telecom.acl.generator.bulk.BulkLoadGenerator;
+import com.telecom.acl.generator.bulk.BulkLoadReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/bulk")
+@Tag(name = "일괄 적재 API", description = "sync 경로 부하 테스트용 usage_data 대량 적재")
+public class BulkLoadController {
+
+    @Autowired
+    private BulkLoadGenerator bulkLoadGenerator;
+
+    @Operation(summary = "적재 시작", description = "usage.bulk.* 설정으로 적재를 시작 (지정한 값만 덮어씀, 실행 중이면 재시작, rowsPerSec 0이면 최대 속도)")
+    @PostMapping("/start")
+    public BulkLoadReport start(@RequestParam(required = false) Double rowsPerSec,
+                                @RequestParam(required = false) Long durationMs,
+                                @RequestParam(required = false) Long totalRows) {
+        return bulkLoadGenerator.start(rowsPerSec, durationMs, totalRows);
+    }
+
+    @Operation(summary = "적재 중지")
+    @PostMapping("/stop")
+    public ResponseEntity<BulkLoadReport> stop() {
+        BulkLoadReport report = bulkLoadGenerator.stop();
+        return report == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(report);
+    }
+
+    @Operation(summary = "진행 상황", description = "목표/구간/평균 초당 적재 행 수와 목표 대비 밀린 행 수")
+    @GetMapping("/report")
+    public ResponseEntity<BulkLoadReport> report() {
+        BulkLoadReport report = bulkLoadGenerator.report();
+        return report == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(report);
+    }
+}
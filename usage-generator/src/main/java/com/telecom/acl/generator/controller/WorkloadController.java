@@ -0,0 +1,54 @@
+package com.telecom.acl.generator.controller;
+
+import com.telecom.acl.common.workload.WorkloadReplayReport;
+import com.telecom.acl.generator.workload.WorkloadReplayService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/workload")
+@Tag(name = "워크로드 기록/재생 API", description = "생성한 사용량 행을 파일로 기록하고 같은 트래픽을 다시 적재")
+public class WorkloadController {
+
+    @Autowired
+    private WorkloadReplayService workloadReplayService;
+
+    @Operation(summary = "기록 시작", description = "이후 생성하는 사용량 행을 path에 기록 (기록 중이면 이전 파일을 닫고 새로 시작)")
+    @PostMapping("/record/start")
+    public ResponseEntity<Void> startRecording(@RequestParam String path) {
+        workloadReplayService.startRecording(path);
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(summary = "기록 중지", description = "파일을 닫고 기록한 이벤트 수를 반환")
+    @PostMapping("/record/stop")
+    public long stopRecording() {
+        return workloadReplayService.stopRecording();
+    }
+
+    @Operation(summary = "재생 시작", description = "speed 1: 기록 당시 간격, N: N배속, 0: 최대 속도 (실행 중이면 재시작)")
+    @PostMapping("/replay/start")
+    public WorkloadReplayReport replay(@RequestParam String path,
+                                       @RequestParam(defaultValue = "1") double speed) {
+        return workloadReplayService.replay(path, speed);
+    }
+
+    @Operation(summary = "재생 중지")
+    @PostMapping("/replay/stop")
+    public ResponseEntity<WorkloadReplayReport> stopReplay() {
+        WorkloadReplayReport report = workloadReplayService.stopReplay();
+        return report == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(report);
+    }
+
+    @Operation(summary = "재생 진행 상황")
+    @GetMapping("/replay/report")
+    public ResponseEntity<WorkloadReplayReport> report() {
+        WorkloadReplayReport report = workloadReplayService.report();
+        return report == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(report);
+    }
+}
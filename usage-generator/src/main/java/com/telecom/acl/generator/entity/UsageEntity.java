@@ -5,12 +5,15 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.OffsetDateTime;
+
 @Entity
 @Table(name = "usage_data")
 @Data
@@ -19,7 +22,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class UsageEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 행마다 INSERT 후 id를 돌려받아야 해서 JDBC batch가 꺼지므로 시퀀스 블록 예약 사용
+    // (allocationSize는 V5 마이그레이션의 INCREMENT, UsageIdAllocator.BLOCK_SIZE와 같아야 함)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usage_data_seq")
+    @SequenceGenerator(name = "usage_data_seq", sequenceName = "usage_data_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -35,6 +41,7 @@ public class UsageEntity {
     @Column(name = "base_qty")
     private Integer baseQty;
 
-    @Column(name = "update_dtm")
-    private String updateDtm;
+    // DB가 트랜잭션 시작 시각(DEFAULT now())으로 채움 (sync-mock의 읽기 상한이 DB 시계 기준이어야 함)
+    @Column(name = "update_dtm", insertable = false, updatable = false)
+    private OffsetDateTime updateDtm;
 }
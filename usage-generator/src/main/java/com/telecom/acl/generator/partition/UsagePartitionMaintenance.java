@@ -0,0 +1,67 @@
+package com.telecom.acl.generator.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * usage_data의 일 단위 파티션을 미리 만들어 둡니다.
+ * DEFAULT 파티션이 없어 해당 날짜 파티션이 없으면 INSERT가 실패하므로 days-ahead일 앞까지 유지하고,
+ * 그래도 파티션이 없어 실패하면 경보 로그를 남기고 바로 다시 만듭니다.
+ * (파티션 생성 함수는 legacy-schema V4 마이그레이션에 정의)
+ */
+@Slf4j
+@Component
+public class UsagePartitionMaintenance {
+    // check_violation: usage_data에는 CHECK 제약이 없으므로 "no partition of relation ... found for row"
+    private static final String NO_PARTITION_SQL_STATE = "23514";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${usage.partition.days-ahead:7}")
+    private int daysAhead;
+
+    public UsagePartitionMaintenance(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        createFuturePartitions();
+    }
+
+    @Scheduled(cron = "${usage.partition.cron:0 0 * * * *}")  // 기본 매시 정각
+    public void createFuturePartitions() {
+        try {
+            jdbcTemplate.queryForObject("SELECT create_usage_data_partitions(?)", Integer.class, daysAhead);
+            log.debug("Ensured usage_data partitions for the next {} days", daysAhead);
+        } catch (Exception e) {
+            log.error("Failed to create usage_data partitions: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * usage_data 쓰기 실패가 파티션이 없어서였으면 경보 로그를 남기고 파티션을 다시 만듭니다.
+     * 실패한 행은 호출자가 다시 써야 합니다.
+     *
+     * @return 파티션이 없어 실패한 경우 true
+     */
+    public boolean handleWriteFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && NO_PARTITION_SQL_STATE.equals(sqlException.getSQLState())) {
+                log.error("ALERT usage_data has no partition for the inserted rows, creating partitions now: {}",
+                        sqlException.getMessage());
+                createFuturePartitions();
+                return true;
+            }
+        }
+        return false;
+    }
+}
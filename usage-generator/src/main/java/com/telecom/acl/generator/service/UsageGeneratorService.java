@@ -1,14 +1,15 @@
 package com.telecom.acl.generator.service;
 
+import com.telecom.acl.common.workload.WorkloadEvent;
+import com.telecom.acl.common.workload.WorkloadRecorder;
 import com.telecom.acl.generator.entity.UsageEntity;
+import com.telecom.acl.generator.partition.UsagePartitionMaintenance;
 import com.telecom.acl.generator.repository.UsageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Random;
 
 @Slf4j
@@ -16,10 +17,11 @@ import java.util.Random;
 @RequiredArgsConstructor
 public class UsageGeneratorService {
     private final UsageRepository usageRepository;
+    private final WorkloadRecorder workloadRecorder;
+    private final UsagePartitionMaintenance partitionMaintenance;
     private final Random random = new Random();
     private final String[] users = {"user1", "user2", "user3", "user4", "user5"};
     private final String[] services = {"V", "D", "S"};
-    private final DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
     @Scheduled(fixedRate = 30000)  // 30초마다 실행
     public void generateUsageData() {
@@ -39,10 +41,17 @@ public class UsageGeneratorService {
                 .svcTypeCd(svc)
                 .baseQty(baseQty)
                 .usedQty(usedQty)
-                .updateDtm(LocalDateTime.now().format(dtf))
                 .build();
 
-        usageRepository.save(data);
+        try {
+            usageRepository.save(data);
+        } catch (RuntimeException e) {
+            if (!partitionMaintenance.handleWriteFailure(e)) {
+                throw e;
+            }
+            usageRepository.save(data);
+        }
+        workloadRecorder.record(WorkloadEvent.Kind.USAGE, user, svc, usedQty, baseQty);
         log.info("Generated usage data: {}", data);
     }
 }
@@ -0,0 +1,129 @@
+package com.telecom.acl.generator.workload;
+
+import com.telecom.acl.common.workload.WorkloadEvent;
+import com.telecom.acl.common.workload.WorkloadRecorder;
+import com.telecom.acl.common.workload.WorkloadReplay;
+import com.telecom.acl.common.workload.WorkloadReplayReport;
+import com.telecom.acl.generator.bulk.UsageBulkWriter;
+import com.telecom.acl.generator.bulk.UsageIdAllocator;
+import com.telecom.acl.generator.entity.UsageEntity;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 워크로드 파일의 사용량(USAGE) 이벤트를 기록 당시의 간격대로(또는 N배속, 최대 속도로) usage_data에 다시 씁니다.
+ * 다음 이벤트를 기다리기 전이나 usage.bulk.batch-size만큼 모이면 일괄 적재 경로(COPY 또는 JDBC batch)로 씁니다.
+ * update_dtm은 DB가 채우는 재생 시각이며, 초과 알림(EXCESS) 이벤트는 kos-mock이 재생하므로 건너뜁니다.
+ */
+@Slf4j
+@Service
+public class WorkloadReplayService {
+    private final UsageIdAllocator idAllocator;
+    private final UsageBulkWriter bulkWriter;
+    private final WorkloadRecorder workloadRecorder;
+    private WorkloadReplay current;
+
+    @Value("${usage.workload.replay-path:}")
+    private String replayPath;
+
+    @Value("${usage.workload.replay-speed:1}")
+    private double replaySpeed;
+
+    @Value("${usage.bulk.batch-size:5000}")
+    private int batchSize;
+
+    public WorkloadReplayService(UsageIdAllocator idAllocator, UsageBulkWriter bulkWriter,
+                                 WorkloadRecorder workloadRecorder) {
+        this.idAllocator = idAllocator;
+        this.bulkWriter = bulkWriter;
+        this.workloadRecorder = workloadRecorder;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (!replayPath.isBlank()) {
+            replay(replayPath, replaySpeed);
+        }
+    }
+
+    /**
+     * 재생을 시작합니다. 실행 중인 재생이 있으면 먼저 멈춥니다.
+     */
+    public synchronized WorkloadReplayReport replay(String path, double speed) {
+        if (current != null && current.isRunning()) {
+            current.stop();
+        }
+        current = new WorkloadReplay(Path.of(path), speed, new UsageReplayHandler());
+        current.start();
+        return current.report();
+    }
+
+    @PreDestroy
+    public synchronized WorkloadReplayReport stopReplay() {
+        if (current == null) {
+            return null;
+        }
+        current.stop();
+        return current.report();
+    }
+
+    public synchronized WorkloadReplayReport report() {
+        return current == null ? null : current.report();
+    }
+
+    public void startRecording(String path) {
+        workloadRecorder.start(Path.of(path));
+    }
+
+    public long stopRecording() {
+        return workloadRecorder.stop();
+    }
+
+    /**
+     * 재생 스레드 전용 처리기 (thread-safe하지 않음)
+     */
+    private final class UsageReplayHandler implements WorkloadReplay.Handler {
+        private final List<UsageEntity> pending = new ArrayList<>();
+
+        @Override
+        public void onEvent(WorkloadEvent event) {
+            if (event.kind() != WorkloadEvent.Kind.USAGE) {
+                return;
+            }
+            pending.add(UsageEntity.builder()
+                    .userSequence(event.userSequence())
+                    .svcTypeCd(event.svcTypeCd())
+                    .usedQty(event.usedQty())
+                    .baseQty(event.baseQty())
+                    .build());
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                long[] ids = idAllocator.allocate(pending.size());
+                for (int i = 0; i < ids.length; i++) {
+                    pending.get(i).setId(ids[i]);
+                }
+                bulkWriter.write(pending);
+            } finally {
+                // 실패한 묶음은 다시 쓰지 않음 (재생 보고의 failed로 집계)
+                pending.clear();
+            }
+        }
+    }
+}
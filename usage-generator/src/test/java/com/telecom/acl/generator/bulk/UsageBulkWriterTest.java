@@ -0,0 +1,102 @@
+package com.telecom.acl.generator.bulk;
+
+import com.telecom.acl.generator.entity.UsageEntity;
+import com.telecom.acl.generator.partition.UsagePartitionMaintenance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UsageBulkWriterTest {
+    private JdbcTemplate jdbcTemplate;
+    private UsagePartitionMaintenance partitionMaintenance;
+    private UsageBulkWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        partitionMaintenance = mock(UsagePartitionMaintenance.class);
+        writer = new UsageBulkWriter(mock(DataSource.class), jdbcTemplate, partitionMaintenance);
+        ReflectionTestUtils.setField(writer, "writer", "batch");
+    }
+
+    @Test
+    void copyDataSeparatesColumnsWithTabsAndRowsWithNewlines() {
+        String data = UsageBulkWriter.copyData(List.of(row(1L, "user1", "D", 10, 20), row(2L, "user2", "V", 0, 5)));
+
+        assertThat(data).isEqualTo("1\tuser1\tD\t10\t20\n2\tuser2\tV\t0\t5\n");
+    }
+
+    @Test
+    void copyDataWritesNullAsBackslashN() {
+        String data = UsageBulkWriter.copyData(List.of(row(1L, null, "D", null, 20)));
+
+        assertThat(data).isEqualTo("1\t\\N\tD\t\\N\t20\n");
+    }
+
+    @Test
+    void copyDataEscapesBackslashTabAndLineBreaks() {
+        String data = UsageBulkWriter.copyData(List.of(row(1L, "a\tb\nc\rd\\e", "\\N", 1, 2)));
+
+        // 값 안의 구분자는 escape 되어 한 행, 다섯 열로 유지되고 문자열 "\N"은 null과 구분됨
+        assertThat(data).isEqualTo("1\ta\\tb\\nc\\rd\\\\e\t\\\\N\t1\t2\n");
+        assertThat(data.split("\n", -1)).hasSize(2);
+        assertThat(data.split("\t", -1)).hasSize(5);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writeRetriesOnceAfterCreatingMissingPartitions() {
+        DataIntegrityViolationException noPartition = new DataIntegrityViolationException("no partition",
+                new SQLException("no partition of relation \"usage_data\" found for row", "23514"));
+        when(jdbcTemplate.batchUpdate(anyString(), any(List.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(noPartition)
+                .thenReturn(new int[][] {{1}});
+        when(partitionMaintenance.handleWriteFailure(noPartition)).thenReturn(true);
+
+        writer.write(List.of(row(1L, "user1", "D", 10, 20)));
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(List.class), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writeFailureUnrelatedToPartitionsIsRethrown() {
+        DataIntegrityViolationException duplicate = new DataIntegrityViolationException("duplicate key");
+        when(jdbcTemplate.batchUpdate(anyString(), any(List.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(duplicate);
+        when(partitionMaintenance.handleWriteFailure(duplicate)).thenReturn(false);
+
+        assertThatThrownBy(() -> writer.write(List.of(row(1L, "user1", "D", 10, 20)))).isSameAs(duplicate);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(List.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private static UsageEntity row(Long id, String userSequence, String svcTypeCd, Integer usedQty, Integer baseQty) {
+        return UsageEntity.builder()
+                .id(id)
+                .userSequence(userSequence)
+                .svcTypeCd(svcTypeCd)
+                .usedQty(usedQty)
+                .baseQty(baseQty)
+                .build();
+    }
+}